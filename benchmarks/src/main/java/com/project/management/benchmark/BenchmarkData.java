@@ -0,0 +1,148 @@
+package com.project.management.benchmark;
+
+import com.project.management.Models.*;
+import com.project.management.dto.DashboardMetricsDTO;
+import com.project.management.dto.ProjectDTO;
+import com.project.management.dto.ProjectStatsDTO;
+import com.project.management.dto.TimesheetResponseDTO;
+import com.project.management.dto.UserWeeklyStatsDTO;
+import org.bson.types.ObjectId;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Representative entities shared by the benchmarks.
+ */
+public final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    public static Timesheet timesheet(int i) {
+        Map<DayOfWeek, Integer> dailyHours = new EnumMap<>(DayOfWeek.class);
+        dailyHours.put(DayOfWeek.MONDAY, 8);
+        dailyHours.put(DayOfWeek.TUESDAY, 8);
+        dailyHours.put(DayOfWeek.WEDNESDAY, 7);
+        dailyHours.put(DayOfWeek.THURSDAY, 8);
+        dailyHours.put(DayOfWeek.FRIDAY, 6);
+
+        Timesheet timesheet = new Timesheet();
+        timesheet.setId(new ObjectId().toHexString());
+        timesheet.setUserId(new ObjectId().toHexString());
+        timesheet.setProjectId(new ObjectId().toHexString());
+        timesheet.setWeekStartDate(LocalDate.of(2024, 1, 1).plusWeeks(i % 52));
+        timesheet.setDailyHours(dailyHours);
+        timesheet.setDescription("Sprint work on backlog items, code review and release preparation");
+        timesheet.setStatus(TimeSheetStatus.values()[i % TimeSheetStatus.values().length]);
+        timesheet.setSubmittedAt(LocalDateTime.of(2024, 1, 5, 17, 30).plusWeeks(i % 52));
+        return timesheet;
+    }
+
+    public static Project project(int i, int assignedUsers) {
+        List<String> users = new ArrayList<>(assignedUsers);
+        for (int u = 0; u < assignedUsers; u++) {
+            users.add(new ObjectId().toHexString());
+        }
+
+        Project project = new Project();
+        project.setId(new ObjectId().toHexString());
+        project.setName("Project " + i);
+        project.setDescription("Customer facing platform work stream " + i);
+        project.setStartDate(LocalDateTime.of(2024, 1, 1, 9, 0));
+        project.setEndDate(LocalDateTime.of(2025, 6, 30, 18, 0));
+        project.setStatus(ProjectStatus.ACTIVE);
+        project.setAssignedUsers(users);
+        project.setTotalBudgetHours(10_000);
+        project.setTotalBilledHours(3_250 + i);
+        return project;
+    }
+
+    public static User user(int i, int assignedProjects) {
+        List<String> projects = new ArrayList<>(assignedProjects);
+        for (int p = 0; p < assignedProjects; p++) {
+            projects.add(new ObjectId().toHexString());
+        }
+        return new User(
+                new ObjectId().toHexString(),
+                "user" + i,
+                "user" + i + "@example.com",
+                "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z7uvA5M5Vb1hHq7B3s4YxZ2W",
+                UserRole.USER,
+                projects,
+                LocalDateTime.of(2023, 6, 1, 8, 0)
+        );
+    }
+
+    public static ProjectDTO projectDTO(int i, int assignedUsers) {
+        Project project = project(i, assignedUsers);
+        return new ProjectDTO(
+                project.getId(),
+                project.getName(),
+                project.getDescription(),
+                project.getStartDate(),
+                project.getEndDate(),
+                project.getStatus(),
+                project.getAssignedUsers(),
+                project.getTotalBudgetHours(),
+                project.getTotalBilledHours()
+        );
+    }
+
+    public static TimesheetResponseDTO timesheetResponse(int i) {
+        Timesheet timesheet = timesheet(i);
+        return new TimesheetResponseDTO(
+                timesheet.getId(),
+                timesheet.getUserId(),
+                timesheet.getProjectId(),
+                timesheet.getWeekStartDate(),
+                timesheet.getDailyHours(),
+                timesheet.getDescription(),
+                timesheet.getStatus(),
+                timesheet.getSubmittedAt()
+        );
+    }
+
+    public static ProjectStatsDTO projectStats(int i, int activeResources) {
+        Project project = project(i, activeResources);
+        return new ProjectStatsDTO(
+                project.getId(),
+                project.getName(),
+                activeResources,
+                project.getTotalBilledHours(),
+                (double) project.getTotalBilledHours() / project.getTotalBudgetHours() * 100,
+                project.getAssignedUsers()
+        );
+    }
+
+    public static UserWeeklyStatsDTO userWeeklyStats(int i, int projects) {
+        Map<String, Integer> projectHours = new LinkedHashMap<>();
+        for (int p = 0; p < projects; p++) {
+            projectHours.put("Project " + p, 40 / projects);
+        }
+        return new UserWeeklyStatsDTO(
+                new ObjectId().toHexString(),
+                "user" + i,
+                LocalDate.of(2024, 1, 1).plusWeeks(i % 52),
+                projectHours,
+                40,
+                100.0
+        );
+    }
+
+    public static DashboardMetricsDTO dashboard() {
+        List<ProjectStatsDTO> topProjects = new ArrayList<>();
+        List<UserWeeklyStatsDTO> topResources = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            topProjects.add(projectStats(i, 10));
+            topResources.add(userWeeklyStats(i, 3));
+        }
+        return new DashboardMetricsDTO(42, 180, 125_000, 87.5, topProjects, topResources);
+    }
+}
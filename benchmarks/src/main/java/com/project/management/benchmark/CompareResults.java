@@ -0,0 +1,81 @@
+package com.project.management.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Prints the change in score between two JMH JSON result files, typically the previous release's
+ * and the current one's:
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.project.management.benchmark.CompareResults old.json new.json
+ * </pre>
+ * Rows are matched on benchmark, mode and parameters. A change is flagged when the two scores'
+ * error intervals do not overlap; benchmarks present in only one file are listed as such.
+ */
+public final class CompareResults {
+
+    private CompareResults() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: CompareResults <baseline.json> <candidate.json>");
+            System.exit(2);
+        }
+        Map<String, Score> baseline = read(new File(args[0]));
+        Map<String, Score> candidate = read(new File(args[1]));
+
+        System.out.printf("%-72s %14s %14s %9s%n", "Benchmark", "Baseline", "Candidate", "Change");
+        for (Map.Entry<String, Score> entry : candidate.entrySet()) {
+            Score before = baseline.get(entry.getKey());
+            Score after = entry.getValue();
+            if (before == null) {
+                System.out.printf("%-72s %14s %14s %9s%n", entry.getKey(), "-", after.format(), "new");
+                continue;
+            }
+            double change = (after.score() - before.score()) / before.score() * 100;
+            boolean significant = Math.abs(after.score() - before.score()) > before.error() + after.error();
+            System.out.printf("%-72s %14s %14s %+8.1f%%%s%n", entry.getKey(), before.format(), after.format(),
+                    change, significant ? " *" : "");
+        }
+        for (String key : baseline.keySet()) {
+            if (!candidate.containsKey(key)) {
+                System.out.printf("%-72s %14s %14s %9s%n", key, baseline.get(key).format(), "-", "removed");
+            }
+        }
+    }
+
+    private static Map<String, Score> read(File file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            StringBuilder key = new StringBuilder(result.get("benchmark").asText()
+                    .replace("com.project.management.benchmark.", ""));
+            key.append(" [").append(result.get("mode").asText());
+            JsonNode params = result.get("params");
+            if (params != null) {
+                for (Iterator<Map.Entry<String, JsonNode>> it = params.fields(); it.hasNext(); ) {
+                    Map.Entry<String, JsonNode> param = it.next();
+                    key.append(", ").append(param.getKey()).append('=').append(param.getValue().asText());
+                }
+            }
+            key.append(']');
+            JsonNode metric = result.get("primaryMetric");
+            double error = metric.get("scoreError").asDouble();
+            scores.put(key.toString(), new Score(metric.get("score").asDouble(),
+                    Double.isNaN(error) ? 0 : error, metric.get("scoreUnit").asText()));
+        }
+        return scores;
+    }
+
+    private record Score(double score, double error, String unit) {
+        String format() {
+            return String.format("%.3f %s", score, unit);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.project.management.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.management.Models.Timesheet;
+import com.project.management.Models.User;
+import com.project.management.Models.UserRole;
+import com.project.management.dto.*;
+import com.project.management.exception.ErrorCode;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization cost of every DTO, one representative instance each, sized as the endpoint
+ * that returns or accepts it would see it: a project with 25 members, a batch lookup of 50 ids, a
+ * details view with the five latest timesheets, and so on. The encoded size is printed from
+ * {@code @Setup}.
+ * <p>
+ * {@link SerializationFormatBenchmark} compares formats for the three largest responses; this one
+ * is for spotting a regression in any single DTO.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoSerializationBenchmark {
+
+    @Param({"ApiResponse", "BatchLookupRequestDTO", "BatchLookupResponseDTO", "DashboardMetricsDTO",
+            "ErrorResponseDTO", "LoginRequestDTO", "LoginResponseDTO", "ProjectAssignmentDTO", "ProjectDTO",
+            "ProjectDetailDTO", "ProjectStatsDTO", "RegisterRequestDTO", "TimesheetDTO", "TimesheetResponseDTO",
+            "TimesheetStatsDTO", "TimesheetSummaryDTO", "UserDTO", "UserRegistrationDTO", "UserWeeklyStatsDTO"})
+    private String dto;
+
+    private ObjectMapper mapper;
+    private Object value;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = Jackson2ObjectMapperBuilder.json().build();
+        value = switch (dto) {
+            case "ApiResponse" -> new ApiResponse<>(true, "Timesheet retrieved successfully", BenchmarkData.timesheetResponse(1));
+            case "BatchLookupRequestDTO" -> new BatchLookupRequestDTO(users(50).stream().map(UserDTO::getId).toList());
+            case "BatchLookupResponseDTO" -> {
+                List<UserDTO> found = users(50);
+                List<String> ids = new ArrayList<>(found.stream().map(UserDTO::getId).toList());
+                ids.add("000000000000000000000000");
+                yield BatchLookupResponseDTO.of(ids, found, UserDTO::getId, user -> user);
+            }
+            case "DashboardMetricsDTO" -> BenchmarkData.dashboard();
+            case "ErrorResponseDTO" -> ErrorCode.RESOURCE_NOT_FOUND.response("Project not found");
+            case "LoginRequestDTO" -> new LoginRequestDTO("user1", "correct-horse-battery-staple");
+            case "LoginResponseDTO" -> new LoginResponseDTO("eyJhbGciOiJIUzI1NiJ9." + "x".repeat(180) + ".signature",
+                    "user1", UserRole.USER, BenchmarkData.user(1, 3).getAssignedProjects());
+            case "ProjectAssignmentDTO" -> new ProjectAssignmentDTO("Project 1",
+                    users(25).stream().map(UserDTO::getUsername).toList());
+            case "ProjectDTO" -> BenchmarkData.projectDTO(1, 25);
+            case "ProjectDetailDTO" -> {
+                ProjectDTO project = BenchmarkData.projectDTO(1, 25);
+                yield new ProjectDetailDTO(project.getId(), project.getName(), project.getDescription(),
+                        project.getStatus(), project.getStartDate(), project.getEndDate(), users(25),
+                        project.getTotalBudgetHours(), project.getTotalBilledHours(), summaries(5));
+            }
+            case "ProjectStatsDTO" -> BenchmarkData.projectStats(1, 10);
+            case "RegisterRequestDTO" -> new RegisterRequestDTO("user1", "correct-horse-battery-staple", UserRole.USER,
+                    "user1@example.com");
+            case "TimesheetDTO" -> {
+                Timesheet timesheet = BenchmarkData.timesheet(1);
+                yield new TimesheetDTO(timesheet.getId(), timesheet.getUserId(), timesheet.getProjectId(),
+                        timesheet.getWeekStartDate(), timesheet.getDailyHours(), timesheet.getDescription(),
+                        timesheet.getStatus(), timesheet.getSubmittedAt());
+            }
+            case "TimesheetResponseDTO" -> BenchmarkData.timesheetResponse(1);
+            case "TimesheetStatsDTO" -> {
+                Map<String, Integer> perProject = new HashMap<>();
+                Map<String, Integer> perUser = new HashMap<>();
+                for (int i = 0; i < 200; i++) {
+                    perProject.put(BenchmarkData.project(i, 0).getId(), 1_000 + i);
+                }
+                for (UserDTO user : users(2_000)) {
+                    perUser.put(user.getId(), 1_900);
+                }
+                yield new TimesheetStatsDTO(104_000, 3_800_000, perProject, perUser, summaries(2_000));
+            }
+            case "TimesheetSummaryDTO" -> summaries(1).getFirst();
+            case "UserDTO" -> users(1).getFirst();
+            case "UserRegistrationDTO" -> new UserRegistrationDTO("user1", "user1@example.com",
+                    "correct-horse-battery-staple", "correct-horse-battery-staple");
+            case "UserWeeklyStatsDTO" -> BenchmarkData.userWeeklyStats(1, 3);
+            default -> throw new IllegalArgumentException(dto);
+        };
+        System.out.printf("%n[%s] size: %d bytes%n", dto, mapper.writeValueAsBytes(value).length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return mapper.writeValueAsBytes(value);
+    }
+
+    private static List<UserDTO> users(int count) {
+        List<UserDTO> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User user = BenchmarkData.user(i, 3);
+            users.add(new UserDTO(user.getId(), user.getUsername(), user.getEmail(), null, user.getRole(),
+                    user.getAssignedProjects(), user.getCreatedAt()));
+        }
+        return users;
+    }
+
+    private static List<TimesheetSummaryDTO> summaries(int count) {
+        List<TimesheetSummaryDTO> summaries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Timesheet timesheet = BenchmarkData.timesheet(i);
+            summaries.add(new TimesheetSummaryDTO(timesheet.getId(), timesheet.getProjectId(),
+                    timesheet.getWeekStartDate(), 37, timesheet.getStatus(), timesheet.getSubmittedAt()));
+        }
+        return summaries;
+    }
+}
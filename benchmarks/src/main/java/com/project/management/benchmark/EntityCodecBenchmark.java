@@ -0,0 +1,125 @@
+package com.project.management.benchmark;
+
+import com.project.management.codec.ProjectCodec;
+import com.project.management.codec.TimesheetCodec;
+import com.project.management.codec.UserCodec;
+import com.project.management.config.MongoConfig;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity decode/encode cost: hand-written codecs and reading converters against the reflective
+ * {@code MappingMongoConverter} path Spring Data uses by default.
+ * <p>
+ * The "defaultConverter" benchmarks include the driver's {@code Document} decoding step, since
+ * that is what a repository read pays before the converter runs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntityCodecBenchmark {
+
+    @Param({"timesheet", "project", "user"})
+    private String entity;
+
+    private Object value;
+    private Class<Object> type;
+    private Codec<Object> codec;
+    private Codec<Document> documentCodec;
+    private MappingMongoConverter defaultConverter;
+    private MappingMongoConverter readingConverter;
+    private byte[] storedBytes;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        Codec<?> entityCodec = switch (entity) {
+            case "timesheet" -> new TimesheetCodec();
+            case "project" -> new ProjectCodec();
+            case "user" -> new UserCodec();
+            default -> throw new IllegalArgumentException(entity);
+        };
+        value = switch (entity) {
+            case "timesheet" -> BenchmarkData.timesheet(1);
+            case "project" -> BenchmarkData.project(1, 25);
+            default -> BenchmarkData.user(1, 4);
+        };
+        codec = (Codec<Object>) entityCodec;
+        type = (Class<Object>) entityCodec.getEncoderClass();
+        documentCodec = MongoConfig.entityCodecRegistry().get(Document.class);
+        defaultConverter = converter(new MongoCustomConversions(List.of()));
+        readingConverter = converter(new MongoConfig().mongoCustomConversions());
+
+        // The bytes a find() returns for a document written by the default converter
+        Document stored = new Document();
+        defaultConverter.write(value, stored);
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        documentCodec.encode(new BsonBinaryWriter(buffer), stored, EncoderContext.builder().build());
+        storedBytes = buffer.toByteArray();
+    }
+
+    @Benchmark
+    public Object decodeCodec() {
+        return codec.decode(reader(), DecoderContext.builder().build());
+    }
+
+    @Benchmark
+    public Object decodeReadingConverter() {
+        Document document = documentCodec.decode(reader(), DecoderContext.builder().build());
+        return readingConverter.read(type, document);
+    }
+
+    @Benchmark
+    public Object decodeDefaultConverter() {
+        Document document = documentCodec.decode(reader(), DecoderContext.builder().build());
+        return defaultConverter.read(type, document);
+    }
+
+    @Benchmark
+    public int encodeCodec() {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        codec.encode(new BsonBinaryWriter(buffer), value, EncoderContext.builder().build());
+        return buffer.getPosition();
+    }
+
+    @Benchmark
+    public int encodeDefaultConverter() {
+        Document document = new Document();
+        defaultConverter.write(value, document);
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        documentCodec.encode(new BsonBinaryWriter(buffer), document, EncoderContext.builder().build());
+        return buffer.getPosition();
+    }
+
+    private BsonBinaryReader reader() {
+        return new BsonBinaryReader(ByteBuffer.wrap(storedBytes));
+    }
+
+    private static MappingMongoConverter converter(MongoCustomConversions conversions) {
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+}
@@ -0,0 +1,75 @@
+package com.project.management.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.helpers.NOPAppender;
+import com.project.management.exception.DomainException;
+import com.project.management.exception.GlobalExceptionHandler;
+import com.project.management.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a routine "not found" failure thrown {@code depth} frames below the handler and turned
+ * into a response: a stackless {@link DomainException} through the rate-limited domain handler,
+ * against a plain exception with a stack trace through the generic handler, which logs every
+ * occurrence at ERROR. Log events go to a no-op appender, so the numbers leave out log I/O.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ErrorPathBenchmark {
+
+    /** Frames between the throw and the handler; a Spring MVC request is typically 100+ deep. */
+    @Param({"20", "120"})
+    private int depth;
+
+    private GlobalExceptionHandler handler;
+
+    @Setup
+    public void setUp() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.detachAndStopAllAppenders();
+        NOPAppender<ILoggingEvent> nop = new NOPAppender<>();
+        nop.setContext(context);
+        nop.start();
+        root.addAppender(nop);
+        root.setLevel(Level.INFO);
+        handler = new GlobalExceptionHandler(new SimpleMeterRegistry(), 10);
+    }
+
+    @Benchmark
+    public Object domainException() {
+        try {
+            return throwAt(depth, true);
+        } catch (DomainException e) {
+            return handler.handleDomainException(e);
+        }
+    }
+
+    @Benchmark
+    public Object stackTraceException() {
+        try {
+            return throwAt(depth, false);
+        } catch (RuntimeException e) {
+            return handler.handleGenericException(e);
+        }
+    }
+
+    private static Object throwAt(int frames, boolean domain) {
+        if (frames == 0) {
+            String message = "Timesheet not found with ID: 42";
+            throw domain ? new ResourceNotFoundException(message) : new IllegalStateException(message);
+        }
+        return throwAt(frames - 1, domain);
+    }
+}
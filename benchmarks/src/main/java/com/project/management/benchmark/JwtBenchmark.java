@@ -0,0 +1,56 @@
+package com.project.management.benchmark;
+
+import com.project.management.Models.User;
+import com.project.management.Models.UserRole;
+import com.project.management.security.JwtConfig;
+import com.project.management.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of issuing a token at login and of the checks every authenticated request makes: the
+ * filter validates the token and then reads the user id from it, parsing it twice.
+ * <p>
+ * Uses the application's signing key and the default 24 hour expiry.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private JwtTokenProvider tokenProvider;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider(new JwtConfig().secretKey());
+        ReflectionTestUtils.setField(tokenProvider, "expirationInMs", TimeUnit.HOURS.toMillis(24));
+        user = BenchmarkData.user(1, 3);
+        user.setRole(UserRole.ADMIN);
+        token = tokenProvider.generateToken(user);
+        if (!tokenProvider.validateToken(token)) {
+            throw new IllegalStateException("Generated token does not validate");
+        }
+    }
+
+    @Benchmark
+    public String generate() {
+        return tokenProvider.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public String userIdFromToken() {
+        return tokenProvider.getUserIdFromToken(token);
+    }
+}
@@ -0,0 +1,153 @@
+package com.project.management.benchmark;
+
+import com.project.management.security.RequiresRole;
+import com.project.management.security.RoleAuthorizationManager;
+import com.project.management.security.RoleProperties;
+import org.aopalliance.intercept.MethodInvocation;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.project.management.security.RequiresRole.Role.ADMIN;
+
+/**
+ * Overhead of the method-security interceptor in front of a controller method, for the two rules
+ * the controllers use: an admin-only check and "admin or the user named in the path". The
+ * {@code spel} variants run {@code @PreAuthorize} expressions resolving {@code @roleProperties} as
+ * before; the {@code requiresRole} variants run {@link RoleAuthorizationManager}. The self check
+ * is made by a non-admin, so the role test fails and the parameter comparison decides.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class MethodSecurityBenchmark {
+
+    private AuthorizationManagerBeforeMethodInterceptor spel;
+    private AuthorizationManagerBeforeMethodInterceptor requiresRole;
+    private UsernamePasswordAuthenticationToken admin;
+    private UsernamePasswordAuthenticationToken user;
+    private MethodInvocation spelAdminOnly;
+    private MethodInvocation spelAdminOrSelf;
+    private MethodInvocation requiresRoleAdminOnly;
+    private MethodInvocation requiresRoleAdminOrSelf;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        RoleProperties roleProperties = new RoleProperties();
+        roleProperties.setAdminRole("ROLE_ADMIN");
+        roleProperties.setUserRole("ROLE_USER");
+
+        StaticApplicationContext context = new StaticApplicationContext();
+        context.getBeanFactory().registerSingleton("roleProperties", roleProperties);
+        context.refresh();
+        DefaultMethodSecurityExpressionHandler expressionHandler = new DefaultMethodSecurityExpressionHandler();
+        expressionHandler.setApplicationContext(context);
+        PreAuthorizeAuthorizationManager preAuthorize = new PreAuthorizeAuthorizationManager();
+        preAuthorize.setExpressionHandler(expressionHandler);
+        spel = AuthorizationManagerBeforeMethodInterceptor.preAuthorize(preAuthorize);
+        requiresRole = new AuthorizationManagerBeforeMethodInterceptor(
+                RoleAuthorizationManager.pointcut(), new RoleAuthorizationManager(roleProperties));
+
+        admin = new UsernamePasswordAuthenticationToken("admin-1", null, List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+        user = new UsernamePasswordAuthenticationToken("user-1", null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+
+        Controller controller = new Controller();
+        spelAdminOnly = new Invocation(controller, Controller.class.getMethod("spelAdminOnly"));
+        spelAdminOrSelf = new Invocation(controller, Controller.class.getMethod("spelAdminOrSelf", String.class), "user-1");
+        requiresRoleAdminOnly = new Invocation(controller, Controller.class.getMethod("requiresRoleAdminOnly"));
+        requiresRoleAdminOrSelf = new Invocation(controller, Controller.class.getMethod("requiresRoleAdminOrSelf", String.class), "user-1");
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Object spelAdminOnly() throws Throwable {
+        SecurityContextHolder.getContext().setAuthentication(admin);
+        return spel.invoke(spelAdminOnly);
+    }
+
+    @Benchmark
+    public Object requiresRoleAdminOnly() throws Throwable {
+        SecurityContextHolder.getContext().setAuthentication(admin);
+        return requiresRole.invoke(requiresRoleAdminOnly);
+    }
+
+    @Benchmark
+    public Object spelAdminOrSelf() throws Throwable {
+        SecurityContextHolder.getContext().setAuthentication(user);
+        return spel.invoke(spelAdminOrSelf);
+    }
+
+    @Benchmark
+    public Object requiresRoleAdminOrSelf() throws Throwable {
+        SecurityContextHolder.getContext().setAuthentication(user);
+        return requiresRole.invoke(requiresRoleAdminOrSelf);
+    }
+
+    public static class Controller {
+        @PreAuthorize("hasAuthority(@roleProperties.adminRole)")
+        public String spelAdminOnly() {
+            return "ok";
+        }
+
+        @PreAuthorize("hasAuthority(@roleProperties.adminRole) or #userId == authentication.name")
+        public String spelAdminOrSelf(String userId) {
+            return userId;
+        }
+
+        @RequiresRole(ADMIN)
+        public String requiresRoleAdminOnly() {
+            return "ok";
+        }
+
+        @RequiresRole(value = ADMIN, orSelf = "userId")
+        public String requiresRoleAdminOrSelf(String userId) {
+            return userId;
+        }
+    }
+
+    /** Calls the target method directly, as the end of a proxy's interceptor chain does. */
+    private record Invocation(Object target, Method method, Object... arguments) implements MethodInvocation {
+        @Override
+        public Method getMethod() {
+            return method;
+        }
+
+        @Override
+        public Object[] getArguments() {
+            return arguments;
+        }
+
+        @Override
+        public Object proceed() throws Throwable {
+            return method.invoke(target, arguments);
+        }
+
+        @Override
+        public Object getThis() {
+            return target;
+        }
+
+        @Override
+        public AccessibleObject getStaticPart() {
+            return method;
+        }
+    }
+}
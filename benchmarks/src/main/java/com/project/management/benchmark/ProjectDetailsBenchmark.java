@@ -0,0 +1,110 @@
+package com.project.management.benchmark;
+
+import com.project.management.Models.Project;
+import com.project.management.Models.Timesheet;
+import com.project.management.Models.User;
+import com.project.management.dto.ProjectDetailDTO;
+import com.project.management.mapper.ProjectMapperImpl;
+import com.project.management.repository.ProjectRepository;
+import com.project.management.repository.TimesheetRepository;
+import com.project.management.repository.UserRepository;
+import com.project.management.service.DataVersions;
+import com.project.management.service.ProjectService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Latency distribution of {@code ProjectService.getProjectDetails} against stub repositories that
+ * simulate a fixed Mongo round trip per query.
+ * <p>
+ * {@code sequential} replays the previous implementation (three dependent round trips, with every
+ * timesheet of the project loaded and sorted in memory); {@code fanOut} is the service as shipped,
+ * where the user and recent-timesheet lookups overlap and the latter is a top-5 query. Run in
+ * SampleTime mode, JMH reports p50/p90/p99 per benchmark. Numbers against a real server depend on
+ * network and index state and have to be measured there.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjectDetailsBenchmark {
+
+    /** Simulated round trip per repository call. */
+    @Param({"1000", "5000"})
+    private long latencyMicros;
+
+    /** Timesheets stored for the project; the old path loaded all of them. */
+    @Param({"500"})
+    private int projectTimesheets;
+
+    private ProjectRepository projectRepository;
+    private UserRepository userRepository;
+    private TimesheetRepository timesheetRepository;
+    private ProjectService projectService;
+    private String projectId;
+
+    @Setup
+    public void setUp() {
+        Project project = BenchmarkData.project(1, 25);
+        projectId = project.getId();
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < project.getAssignedUsers().size(); i++) {
+            User user = BenchmarkData.user(i, 3);
+            user.setId(project.getAssignedUsers().get(i));
+            users.add(user);
+        }
+
+        List<Timesheet> timesheets = new ArrayList<>();
+        for (int i = 0; i < projectTimesheets; i++) {
+            Timesheet timesheet = BenchmarkData.timesheet(i);
+            timesheet.setProjectId(projectId);
+            timesheet.setSubmittedAt(timesheet.getSubmittedAt().plusMinutes(i));
+            timesheets.add(timesheet);
+        }
+        List<Timesheet> latest = timesheets.stream()
+                .sorted(Comparator.comparing(Timesheet::getSubmittedAt).reversed())
+                .limit(5)
+                .toList();
+
+        projectRepository = StubRepositories.stub(ProjectRepository.class, latencyMicros,
+                Map.of("findById", args -> Optional.of(project)));
+        userRepository = StubRepositories.stub(UserRepository.class, latencyMicros,
+                Map.of("findAllById", args -> users));
+        timesheetRepository = StubRepositories.stub(TimesheetRepository.class, latencyMicros, Map.of(
+                "findByProjectId", args -> new ArrayList<>(timesheets),
+                "findTop5ByProjectIdOrderBySubmittedAtDesc", args -> latest));
+        projectService = new ProjectService(projectRepository, userRepository, timesheetRepository,
+                new ProjectMapperImpl(), new DataVersions());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        projectService.destroy();
+    }
+
+    @Benchmark
+    public ProjectDetailDTO fanOut() {
+        return projectService.getProjectDetails(projectId);
+    }
+
+    @Benchmark
+    public Object sequential() {
+        Project project = projectRepository.findById(projectId).orElseThrow();
+        List<User> users = userRepository.findAllById(project.getAssignedUsers());
+        List<Timesheet> recent = timesheetRepository.findByProjectId(projectId).stream()
+                .sorted(Comparator.comparing(Timesheet::getSubmittedAt).reversed())
+                .limit(5)
+                .collect(Collectors.toList());
+        return List.of(project, users, recent);
+    }
+}
@@ -0,0 +1,101 @@
+package com.project.management.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.management.cache.ResponseBytesCache;
+import com.project.management.dto.ProjectDTO;
+import com.project.management.service.DataVersions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request body cost of {@code GET /api/metrics/dashboard} and {@code GET /api/projects} when
+ * the data has not changed: Jackson writing the DTOs to the response stream, against copying the
+ * bytes {@link ResponseBytesCache} already holds (plain or gzipped). Run with {@code -prof gc} to
+ * see allocation per request alongside the time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseBytesCacheBenchmark {
+
+    /** {@code dashboard}: the default dashboard DTO; {@code projects}: 200 projects of 10 users each. */
+    @Param({"dashboard", "projects"})
+    private String payload;
+
+    private ObjectMapper mapper;
+    private ResponseBytesCache cache;
+    private Object value;
+    private String eTag;
+
+    @Setup
+    public void setUp() {
+        mapper = Jackson2ObjectMapperBuilder.json().build();
+        DataVersions dataVersions = new DataVersions();
+        // A single process: the ETag below stays current for the whole run
+        dataVersions.sharedWhile(() -> true);
+        cache = new ResponseBytesCache(mapper, new SimpleMeterRegistry(), dataVersions);
+        value = switch (payload) {
+            case "dashboard" -> BenchmarkData.dashboard();
+            case "projects" -> {
+                List<ProjectDTO> projects = new ArrayList<>();
+                for (int i = 0; i < 200; i++) {
+                    projects.add(BenchmarkData.projectDTO(i, 10));
+                }
+                yield projects;
+            }
+            default -> throw new IllegalArgumentException(payload);
+        };
+        eTag = payload.equals(ResponseBytesCache.DASHBOARD) ? dataVersions.dashboardETag() : dataVersions.projectsETag();
+        ResponseBytesCache.EncodedResponse encoded = cache.put(payload, eTag, value);
+        System.out.printf("%n[%s] json: %d bytes, gzip: %s bytes%n", payload, encoded.json().length,
+                encoded.gzip() == null ? "-" : encoded.gzip().length);
+    }
+
+    @Benchmark
+    public void serialize(Blackhole blackhole) throws IOException {
+        mapper.writeValue(new BlackholeOutputStream(blackhole), value);
+    }
+
+    @Benchmark
+    public void cachedJson(Blackhole blackhole) throws IOException {
+        new BlackholeOutputStream(blackhole).write(cache.get(payload, eTag).orElseThrow().json());
+    }
+
+    @Benchmark
+    public void cachedGzip(Blackhole blackhole) throws IOException {
+        ResponseBytesCache.EncodedResponse encoded = cache.get(payload, eTag).orElseThrow();
+        new BlackholeOutputStream(blackhole).write(encoded.gzip() != null ? encoded.gzip() : encoded.json());
+    }
+
+    /** Stands in for the servlet output stream without buffering or copying what is written. */
+    private static final class BlackholeOutputStream extends OutputStream {
+
+        private final Blackhole blackhole;
+
+        BlackholeOutputStream(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void write(int b) {
+            blackhole.consume(b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            blackhole.consume(bytes);
+            blackhole.consume(length);
+        }
+    }
+}
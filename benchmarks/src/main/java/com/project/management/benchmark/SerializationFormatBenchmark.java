@@ -0,0 +1,91 @@
+package com.project.management.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.project.management.dto.DashboardMetricsDTO;
+import com.project.management.dto.ProjectStatsDTO;
+import com.project.management.dto.TimesheetResponseDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization and deserialization cost of the response payloads behind the high-volume
+ * endpoints, per negotiated format. Payload sizes are printed once per trial from {@code @Setup}.
+ * <p>
+ * Mappers are built the same way as the HTTP message converters (Boot's builder defaults with
+ * the format's factory), so the numbers reflect what the endpoints actually emit.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationFormatBenchmark {
+
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    /** {@code /api/timesheets/users/{id}}, {@code /api/projects/stats}, {@code /api/metrics/dashboard}. */
+    @Param({"userTimesheets", "projectStats", "dashboard"})
+    private String payload;
+
+    private ObjectMapper mapper;
+    private Object value;
+    private Class<?> type;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        mapper = switch (format) {
+            case "json" -> builder.build();
+            case "smile" -> builder.factory(new SmileFactory()).build();
+            case "cbor" -> builder.factory(new CBORFactory()).build();
+            default -> throw new IllegalArgumentException(format);
+        };
+
+        switch (payload) {
+            case "userTimesheets" -> {
+                List<TimesheetResponseDTO> timesheets = new ArrayList<>();
+                for (int i = 0; i < 52; i++) {
+                    timesheets.add(BenchmarkData.timesheetResponse(i));
+                }
+                value = timesheets;
+                type = TimesheetResponseDTO[].class;
+            }
+            case "projectStats" -> {
+                List<ProjectStatsDTO> stats = new ArrayList<>();
+                for (int i = 0; i < 50; i++) {
+                    stats.add(BenchmarkData.projectStats(i, 10));
+                }
+                value = stats;
+                type = ProjectStatsDTO[].class;
+            }
+            case "dashboard" -> {
+                value = BenchmarkData.dashboard();
+                type = DashboardMetricsDTO.class;
+            }
+            default -> throw new IllegalArgumentException(payload);
+        }
+
+        bytes = mapper.writeValueAsBytes(value);
+        System.out.printf("%n[%s/%s] payload size: %d bytes%n", payload, format, bytes.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return mapper.writeValueAsBytes(value);
+    }
+
+    @Benchmark
+    public Object deserialize() throws IOException {
+        return mapper.readValue(bytes, type);
+    }
+}
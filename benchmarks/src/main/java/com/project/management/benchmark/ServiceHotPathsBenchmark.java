@@ -0,0 +1,160 @@
+package com.project.management.benchmark;
+
+import com.project.management.Models.Project;
+import com.project.management.Models.Timesheet;
+import com.project.management.Models.User;
+import com.project.management.dto.DashboardMetricsDTO;
+import com.project.management.dto.ProjectDTO;
+import com.project.management.dto.ProjectStatsDTO;
+import com.project.management.dto.TimesheetStatsDTO;
+import com.project.management.dto.UserWeeklyStatsDTO;
+import com.project.management.mapper.ProjectMapper;
+import com.project.management.mapper.ProjectMapperImpl;
+import com.project.management.repository.ProjectRepository;
+import com.project.management.repository.TimesheetRepository;
+import com.project.management.repository.UserRepository;
+import com.project.management.seed.SeedProperties;
+import com.project.management.seed.SyntheticDatasetGenerator;
+import com.project.management.service.DataVersions;
+import com.project.management.service.MetricsService;
+import com.project.management.service.ProjectService;
+import com.project.management.service.TimesheetService;
+import com.project.management.service.UserService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory cost of the aggregation behind the stats and dashboard endpoints, with stub
+ * repositories answering instantly so only the service code is measured.
+ * <p>
+ * The data set comes from {@link SyntheticDatasetGenerator}: {@code users} users, one project per
+ * ten users with Zipf-distributed sizes, and a year of weekly timesheets. {@code timesheetStats}
+ * sums every timesheet's hours and maps the last week to summaries; {@code projectStats} and
+ * {@code usersWeeklyStats} build one stats row per project and per user; {@code dashboard} is the
+ * top-K and totals over precomputed stats; {@code projectMapper} maps the project list.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServiceHotPathsBenchmark {
+
+    @Param({"200", "2000"})
+    private int users;
+
+    private TimesheetService timesheetService;
+    private ProjectService projectService;
+    private UserService userService;
+    private MetricsService metricsService;
+    private ProjectMapper projectMapper;
+    private List<Project> projectList;
+    private LocalDate weekStart;
+    private LocalDate weekEnd;
+
+    @Setup
+    public void setUp() {
+        LocalDate thisWeek = LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        weekStart = thisWeek.minusWeeks(1);
+        weekEnd = thisWeek;
+
+        SeedProperties settings = new SeedProperties();
+        settings.setUsers(users);
+        settings.setProjects(Math.max(1, users / 10));
+        settings.setWeeks(52);
+        SyntheticDatasetGenerator generator = new SyntheticDatasetGenerator(settings, thisWeek, "hash");
+        projectList = generator.projects();
+        List<User> userList = generator.users();
+
+        List<Timesheet> timesheets = generator.timesheets().toList();
+        Map<String, List<Timesheet>> byProject = new HashMap<>();
+        Map<String, List<Timesheet>> recentByUser = new HashMap<>();
+        Map<String, Integer> billedHours = new HashMap<>();
+        for (Timesheet timesheet : timesheets) {
+            byProject.computeIfAbsent(timesheet.getProjectId(), _ -> new ArrayList<>()).add(timesheet);
+            billedHours.merge(timesheet.getProjectId(), SyntheticDatasetGenerator.hours(timesheet), Integer::sum);
+            if (!timesheet.getWeekStartDate().isBefore(weekStart)) {
+                recentByUser.computeIfAbsent(timesheet.getUserId(), _ -> new ArrayList<>()).add(timesheet);
+            }
+        }
+        projectList.forEach(project -> project.setTotalBilledHours(billedHours.getOrDefault(project.getId(), 0)));
+        List<Timesheet> lastWeek = timesheets.stream()
+                .filter(t -> t.getWeekStartDate().isAfter(LocalDate.now().minusDays(7)))
+                .toList();
+
+        ProjectRepository projectRepository = StubRepositories.stub(ProjectRepository.class,
+                Map.of("findAll", args -> projectList));
+        UserRepository userRepository = StubRepositories.stub(UserRepository.class,
+                Map.of("findAll", args -> userList));
+        TimesheetRepository timesheetRepository = StubRepositories.stub(TimesheetRepository.class, Map.of(
+                "findAll", args -> timesheets,
+                "findByWeekStartDateAfter", args -> lastWeek,
+                "findByProjectId", args -> byProject.getOrDefault((String) args[0], List.of()),
+                "findByUserIdAndWeekStartDateBetween", args -> recentByUser.getOrDefault((String) args[0], List.of())));
+
+        projectMapper = new ProjectMapperImpl();
+        timesheetService = new TimesheetService(timesheetRepository, projectRepository, userRepository,
+                null, null, null, new DataVersions());
+        projectService = new ProjectService(projectRepository, userRepository, timesheetRepository,
+                projectMapper, new DataVersions());
+        userService = UserService.builder()
+                .userRepository(userRepository)
+                .timesheetRepository(timesheetRepository)
+                .dataVersions(new DataVersions())
+                .build();
+
+        List<ProjectStatsDTO> projectStats = projectService.getProjectStats();
+        List<UserWeeklyStatsDTO> userStats = userService.getUsersWeeklyStats(weekStart, weekEnd);
+        metricsService = new MetricsService(
+                new ProjectService(null, null, null, null, null) {
+                    @Override
+                    public List<ProjectStatsDTO> getProjectStats() {
+                        return projectStats;
+                    }
+                },
+                new UserService(null, null, null, null, null) {
+                    @Override
+                    public List<UserWeeklyStatsDTO> getUsersWeeklyStats(LocalDate startDate, LocalDate endDate) {
+                        return userStats;
+                    }
+                });
+    }
+
+    @Benchmark
+    public TimesheetStatsDTO timesheetStats() {
+        return timesheetService.getTimesheetStats();
+    }
+
+    @Benchmark
+    public List<ProjectStatsDTO> projectStats() {
+        return projectService.getProjectStats();
+    }
+
+    @Benchmark
+    public List<UserWeeklyStatsDTO> usersWeeklyStats() {
+        return userService.getUsersWeeklyStats(weekStart, weekEnd);
+    }
+
+    @Benchmark
+    public DashboardMetricsDTO dashboard() {
+        return metricsService.getDashboardMetrics();
+    }
+
+    @Benchmark
+    public List<ProjectDTO> projectMapper() {
+        List<ProjectDTO> dtos = new ArrayList<>(projectList.size());
+        for (Project project : projectList) {
+            dtos.add(projectMapper.toProjectDTO(project));
+        }
+        return dtos;
+    }
+}
@@ -0,0 +1,47 @@
+package com.project.management.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * In-memory repository stand-ins for benchmarking service code without a MongoDB server.
+ * <p>
+ * Each stub answers the named repository methods from the supplied functions and can simulate a
+ * fixed per-call round-trip latency. Calling a method without an answer fails loudly, so a
+ * benchmark never silently measures a {@code null} path.
+ */
+public final class StubRepositories {
+
+    private StubRepositories() {
+    }
+
+    public static <R> R stub(Class<R> repositoryType, Map<String, Function<Object[], Object>> answers) {
+        return stub(repositoryType, 0, answers);
+    }
+
+    public static <R> R stub(Class<R> repositoryType, long latencyMicros,
+                             Map<String, Function<Object[], Object>> answers) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> repositoryType.getSimpleName() + " stub";
+                };
+            }
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer == null) {
+                throw new UnsupportedOperationException(repositoryType.getSimpleName() + "." + method.getName());
+            }
+            if (latencyMicros > 0) {
+                TimeUnit.MICROSECONDS.sleep(latencyMicros);
+            }
+            return answer.apply(args);
+        };
+        return repositoryType.cast(Proxy.newProxyInstance(
+                repositoryType.getClassLoader(), new Class<?>[]{repositoryType}, handler));
+    }
+}
@@ -0,0 +1,196 @@
+package com.project.management.benchmark;
+
+import com.project.management.Models.Timesheet;
+import com.project.management.dto.TimesheetSummaryDTO;
+import com.project.management.event.TimesheetStatusChangedEvent;
+import com.project.management.repository.TimesheetRepository;
+import com.project.management.service.TimesheetSummaryCache;
+import com.project.management.service.TimesheetSummaryCacheProperties;
+import com.project.management.service.TimesheetWeekCache;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Range;
+import org.springframework.util.unit.DataSize;
+
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * GC cost of holding a year of weekly timesheets per user in the on-heap week cache versus the
+ * off-heap summary tier, under a read-mostly load with some invalidation churn.
+ * <p>
+ * Setup fills the chosen tier for {@code users} users, which is what puts a large live set on the
+ * heap in the {@code heap} case. Each operation reads a random user's four-week range, and one in
+ * twenty also invalidates a week as a status change would. GC pause count, total and maximum
+ * for the measured iterations are printed at the end of each trial from GC notifications. Run
+ * with {@code -prof gc} for allocation per operation as well.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx3g", "-XX:MaxDirectMemorySize=1g"})
+@State(Scope.Benchmark)
+public class SummaryCacheGcBenchmark {
+
+    private static final LocalDate FIRST_WEEK = LocalDate.of(2024, 1, 1);
+    private static final int WEEKS = 52;
+
+    /** {@code heap}: {@link TimesheetWeekCache} entities; {@code offheap}: {@link TimesheetSummaryCache}. */
+    @Param({"heap", "offheap"})
+    private String tier;
+
+    @Param("20000")
+    private int users;
+
+    private TimesheetWeekCache weekCache;
+    private TimesheetSummaryCache summaryCache;
+    private final Function<Timesheet, TimesheetSummaryDTO> toSummary = timesheet -> new TimesheetSummaryDTO(
+            timesheet.getId(),
+            timesheet.getProjectId(),
+            timesheet.getWeekStartDate(),
+            timesheet.getDailyHours().values().stream().mapToInt(Integer::intValue).sum(),
+            timesheet.getStatus(),
+            timesheet.getSubmittedAt());
+
+    private final AtomicLong pauses = new AtomicLong();
+    private final AtomicLong pauseMillis = new AtomicLong();
+    private final AtomicLong maxPauseMillis = new AtomicLong();
+    private final List<Runnable> unregister = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        TimesheetRepository repository = StubRepositories.stub(TimesheetRepository.class, Map.of(
+                "findByUserIdAndWeekStartDateInRanges", args -> weeks((String) args[0], ranges(args[1])),
+                "findByUserIdAndWeekStartDateBetween", args -> weeks((String) args[0],
+                        List.of(Range.open((LocalDate) args[1], (LocalDate) args[2])))));
+
+        if (tier.equals("heap")) {
+            weekCache = new TimesheetWeekCache(repository, new SimpleMeterRegistry(), (long) users * WEEKS * 2,
+                    Duration.ofHours(1), 104);
+        } else {
+            TimesheetSummaryCacheProperties properties = new TimesheetSummaryCacheProperties();
+            properties.setEnabled(true);
+            properties.getUserWeeks().setCapacity(DataSize.ofBytes((long) users * WEEKS * 2 * 256));
+            properties.getUserWeeks().setSlotSize(DataSize.ofBytes(256));
+            properties.getProjectWeeks().setCapacity(DataSize.ofMegabytes(1));
+            summaryCache = new TimesheetSummaryCache(repository, properties, new SimpleMeterRegistry());
+        }
+        for (int user = 0; user < users; user++) {
+            read(user, FIRST_WEEK.minusDays(1), FIRST_WEEK.plusWeeks(WEEKS));
+        }
+        System.gc();
+    }
+
+    @Setup(Level.Iteration)
+    public void watchPauses() {
+        pauses.set(0);
+        pauseMillis.set(0);
+        maxPauseMillis.set(0);
+        if (!unregister.isEmpty()) {
+            return;
+        }
+        NotificationListener listener = (notification, handback) -> {
+            if (!notification.getType().equals(GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION)) {
+                return;
+            }
+            GarbageCollectionNotificationInfo info =
+                    GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+            // Concurrent cycles report wall time, not a pause
+            if (info.getGcCause().equals("No GC") || info.getGcName().contains("Concurrent")) {
+                return;
+            }
+            long duration = info.getGcInfo().getDuration();
+            pauses.incrementAndGet();
+            pauseMillis.addAndGet(duration);
+            maxPauseMillis.accumulateAndGet(duration, Math::max);
+        };
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            NotificationEmitter emitter = (NotificationEmitter) gc;
+            emitter.addNotificationListener(listener, null, null);
+            unregister.add(() -> {
+                try {
+                    emitter.removeNotificationListener(listener);
+                } catch (Exception ignored) {
+                    // Already gone
+                }
+            });
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportPauses() {
+        System.out.printf("%n[%s] GC pauses: %d, total %d ms, max %d ms%n",
+                tier, pauses.get(), pauseMillis.get(), maxPauseMillis.get());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        unregister.forEach(Runnable::run);
+        unregister.clear();
+    }
+
+    @Benchmark
+    public List<TimesheetSummaryDTO> readFourWeeks() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int user = random.nextInt(users);
+        LocalDate start = FIRST_WEEK.plusWeeks(random.nextInt(WEEKS - 4));
+        if (random.nextInt(20) == 0) {
+            Timesheet changed = timesheet(user, start.plusWeeks(1));
+            if (weekCache != null) {
+                weekCache.onTimesheetStatusChanged(TimesheetStatusChangedEvent.of(changed));
+            } else {
+                summaryCache.onTimesheetStatusChanged(TimesheetStatusChangedEvent.of(changed));
+            }
+        }
+        return read(user, start.minusDays(1), start.plusWeeks(4));
+    }
+
+    private List<TimesheetSummaryDTO> read(int user, LocalDate start, LocalDate end) {
+        if (weekCache != null) {
+            return weekCache.getUserTimesheets(userId(user), start, end).stream().map(toSummary).toList();
+        }
+        return summaryCache.getUserTimesheets(userId(user), start, end, toSummary);
+    }
+
+    private static List<Timesheet> weeks(String userId, List<Range<LocalDate>> ranges) {
+        int user = Integer.parseInt(userId.substring(userId.lastIndexOf('-') + 1));
+        List<Timesheet> timesheets = new ArrayList<>();
+        for (int week = 0; week < WEEKS; week++) {
+            LocalDate weekStart = FIRST_WEEK.plusWeeks(week);
+            if (ranges.stream().anyMatch(range -> range.contains(weekStart, LocalDate::compareTo))) {
+                timesheets.add(timesheet(user, weekStart));
+            }
+        }
+        return timesheets;
+    }
+
+    private static Timesheet timesheet(int user, LocalDate weekStart) {
+        Timesheet timesheet = BenchmarkData.timesheet(user);
+        timesheet.setUserId(userId(user));
+        timesheet.setWeekStartDate(weekStart);
+        return timesheet;
+    }
+
+    private static String userId(int user) {
+        return "user-" + user;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Range<LocalDate>> ranges(Object ranges) {
+        return (List<Range<LocalDate>>) ranges;
+    }
+}
@@ -0,0 +1,64 @@
+package com.project.management.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * A run's results as stored for later comparison, with the load that produced them. Results
+ * are only comparable at the same rate and mix against the same data set, on the same machine.
+ */
+public record Baseline(double rate, Map<Operation, Integer> mix, List<OperationResult> results) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    static Baseline read(Path file) throws IOException {
+        return MAPPER.readValue(file.toFile(), Baseline.class);
+    }
+
+    void write(Path file) throws IOException {
+        MAPPER.writeValue(file.toFile(), this);
+    }
+
+    /**
+     * Prints each operation against the baseline and returns whether any regressed: p50 or p99 up,
+     * or throughput down, by more than {@code tolerance}, or an error rate more than one percentage
+     * point higher.
+     */
+    boolean compare(Baseline current, double tolerance) {
+        if (rate != current.rate || !mix.equals(current.mix)) {
+            System.out.printf("%nWarning: baseline was recorded at rate %.1f with mix %s%n", rate, mix);
+        }
+        Map<String, OperationResult> before = results.stream()
+                .collect(Collectors.toMap(OperationResult::operation, Function.identity()));
+        boolean regressed = false;
+        System.out.printf("%n%-13s %18s %18s %18s %16s%n", "vs baseline", "p50 ms", "p99 ms", "throughput/s", "errors");
+        for (OperationResult after : current.results) {
+            OperationResult base = before.get(after.operation());
+            if (base == null) {
+                System.out.printf("%-13s (not in baseline)%n", after.operation());
+                continue;
+            }
+            boolean slower = after.p50() > base.p50() * (1 + tolerance) || after.p99() > base.p99() * (1 + tolerance);
+            boolean fewer = after.throughput() < base.throughput() * (1 - tolerance);
+            boolean failing = after.errorRate() > base.errorRate() + 0.01;
+            System.out.printf("%-13s %18s %18s %18s %16s%s%n", after.operation(),
+                    change(base.p50(), after.p50()), change(base.p99(), after.p99()),
+                    change(base.throughput(), after.throughput()),
+                    String.format("%.2f%% -> %.2f%%", base.errorRate() * 100, after.errorRate() * 100),
+                    slower || fewer || failing ? "  REGRESSION" : "");
+            regressed |= slower || fewer || failing;
+        }
+        return regressed;
+    }
+
+    private static String change(double before, double after) {
+        return String.format("%.1f -> %.1f", before, after);
+    }
+}
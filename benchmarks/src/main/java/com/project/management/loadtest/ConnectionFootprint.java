@@ -0,0 +1,120 @@
+package com.project.management.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Server-side cost of idle keep-alive connections, read from the server's own
+ * {@code /actuator/metrics}: heap and direct buffer memory and live threads are sampled, then
+ * {@code connections} sockets are opened, each completes one request and stays open, and the
+ * metrics are sampled again before the sockets are closed. Run with the same count against the
+ * servlet and the reactive deployment to compare them. The heap delta also holds whatever garbage
+ * the server produced meanwhile, so use a few thousand connections and repeat the measurement.
+ */
+final class ConnectionFootprint {
+
+    private final URI baseUrl;
+    private final String token;
+    private final Duration timeout;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+
+    ConnectionFootprint(URI baseUrl, String token, Duration timeout, HttpClient client, ObjectMapper objectMapper) {
+        this.baseUrl = baseUrl;
+        this.token = token;
+        this.timeout = timeout;
+        this.client = client;
+        this.objectMapper = objectMapper;
+    }
+
+    void measure(int connections) throws IOException, InterruptedException {
+        Sample before = sample();
+        List<Socket> sockets = new ArrayList<>(connections);
+        try {
+            for (int i = 0; i < connections; i++) {
+                sockets.add(open());
+            }
+            // Let the server finish registering the last connections before sampling
+            TimeUnit.SECONDS.sleep(1);
+            Sample after = sample();
+
+            double heap = after.heapBytes - before.heapBytes;
+            double direct = after.directBytes - before.directBytes;
+            System.out.printf("%d idle connections: heap %+.0f KiB, direct buffers %+.0f KiB, live threads %+d"
+                            + " (%.1f KiB and %.2f threads per connection)%n",
+                    connections, heap / 1024, direct / 1024, after.liveThreads - before.liveThreads,
+                    (heap + direct) / 1024 / connections, (after.liveThreads - before.liveThreads) / (double) connections);
+        } finally {
+            for (Socket socket : sockets) {
+                socket.close();
+            }
+        }
+    }
+
+    /** A connection that has completed one request and is left open. */
+    private Socket open() throws IOException {
+        Socket socket = new Socket();
+        socket.connect(new InetSocketAddress(baseUrl.getHost(), port()), (int) timeout.toMillis());
+        socket.setSoTimeout((int) timeout.toMillis());
+        String request = "GET /actuator/health HTTP/1.1\r\n"
+                + "Host: " + baseUrl.getHost() + "\r\n"
+                + "Authorization: Bearer " + token + "\r\n\r\n";
+        socket.getOutputStream().write(request.getBytes(StandardCharsets.US_ASCII));
+        // Any status will do; what matters is that the server has handled a request on the connection
+        InputStream in = socket.getInputStream();
+        if (in.read(new byte[1024]) < 0) {
+            socket.close();
+            throw new IOException("Server closed the connection before responding");
+        }
+        return socket;
+    }
+
+    private int port() {
+        if (baseUrl.getPort() != -1) {
+            return baseUrl.getPort();
+        }
+        return "https".equals(baseUrl.getScheme()) ? 443 : 80;
+    }
+
+    private Sample sample() throws IOException, InterruptedException {
+        return new Sample(
+                metric("jvm.memory.used?tag=area:heap"),
+                metric("jvm.buffer.memory.used?tag=id:direct"),
+                (long) metric("jvm.threads.live"));
+    }
+
+    private double metric(String query) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/metrics/" + query))
+                .timeout(timeout)
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Reading " + query + " failed with status " + response.statusCode());
+        }
+        for (JsonNode measurement : objectMapper.readTree(response.body()).path("measurements")) {
+            if ("VALUE".equals(measurement.path("statistic").asText())) {
+                return measurement.path("value").asDouble();
+            }
+        }
+        throw new IllegalStateException("No value in " + query);
+    }
+
+    private record Sample(double heapBytes, double directBytes, long liveThreads) {
+    }
+}
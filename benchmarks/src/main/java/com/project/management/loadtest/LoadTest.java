@@ -0,0 +1,338 @@
+package com.project.management.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.management.Models.UserRole;
+import com.project.management.dto.LoginRequestDTO;
+import com.project.management.dto.LoginResponseDTO;
+import com.project.management.dto.TimesheetDTO;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * End-to-end load test against a running application, typically one started with the
+ * {@code seed} profile so the accounts and data exist:
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.project.management.loadtest.LoadTest --rate=100 --duration=2m
+ * </pre>
+ * It logs in the admin and {@code accounts} users, numbered from {@code first-account}, through
+ * {@code /api/auth/login}; users whose role is not {@code USER} are left out, since the timesheet
+ * endpoints would refuse them. It then starts requests at a fixed {@code rate}, each on its own
+ * virtual thread, picking the operation by the {@code mix} weights and the account at random. The load is open: a request starts on schedule
+ * whether or not earlier ones have finished, and its latency is measured from its scheduled
+ * start, so a stalled server shows up as latency rather than as fewer requests. Requests beyond
+ * {@code max-in-flight} outstanding are dropped and counted as errors.
+ * <p>
+ * After {@code warmup}, requests are measured for {@code duration}. The report gives per operation
+ * the request count, successful throughput, error rate and p50/p99/p99.9/max latency of
+ * successful requests from an HDR histogram. With {@code --baseline} the run is compared against
+ * a stored one and the exit status is 1 on a regression; {@code --save-baseline} stores this run.
+ * <p>
+ * The reactive deployment has no login endpoint, so {@code auth-url} can point at a servlet
+ * instance on the same database; with {@code --mix=reactive_list=1} the same run then compares
+ * the two stacks. {@code --connections} first measures the server's memory per idle connection
+ * ({@link ConnectionFootprint}).
+ */
+public final class LoadTest {
+
+    private final LoadTestOptions options;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    private final Queue<String> submittedIds = new ConcurrentLinkedQueue<>();
+    private final LocalDate firstFutureWeek = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+    private final List<Account> accounts = new ArrayList<>();
+    private Account admin;
+
+    public LoadTest(LoadTestOptions options) {
+        this.options = options;
+        this.client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(options.timeout())
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats(operation));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(LoadTestOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+        Baseline result = new LoadTest(options).run();
+        if (options.saveBaseline() != null) {
+            result.write(options.saveBaseline());
+            System.out.println("\nResults saved to " + options.saveBaseline());
+        }
+        if (options.baseline() != null && Baseline.read(options.baseline()).compare(result, options.tolerance())) {
+            System.exit(1);
+        }
+    }
+
+    public Baseline run() throws IOException, InterruptedException {
+        logIn();
+        if (options.connections() > 0) {
+            new ConnectionFootprint(options.baseUrl(), admin.token(), options.timeout(), client, objectMapper)
+                    .measure(options.connections());
+        }
+        System.out.printf("Logged in %d accounts; %.0f s warm-up, then %.0f s measured at %.1f requests/s%n",
+                accounts.size(), seconds(options.warmup()), seconds(options.duration()), options.rate());
+
+        drive();
+
+        List<OperationResult> results = new ArrayList<>();
+        for (Operation operation : options.mix().keySet()) {
+            results.add(stats.get(operation).result(options.duration()));
+        }
+        report(results);
+        return new Baseline(options.rate(), options.mix(), results);
+    }
+
+    private void logIn() throws IOException, InterruptedException {
+        admin = logIn(options.adminUsername(), options.adminPassword());
+        List<String> skipped = new ArrayList<>();
+        for (int i = options.firstAccount(); i < options.firstAccount() + options.accounts(); i++) {
+            String username = String.format(options.usernamePattern(), i);
+            Account account = logIn(username, options.password());
+            // Timesheet endpoints are USER-only, so a seeded admin would only produce 403s
+            if (account.role() == UserRole.USER) {
+                accounts.add(account);
+            } else {
+                skipped.add(username);
+            }
+        }
+        if (!skipped.isEmpty()) {
+            System.out.printf("Skipped %d accounts without the USER role: %s%n", skipped.size(), skipped);
+        }
+        if (accounts.isEmpty()) {
+            throw new IllegalStateException("None of the accounts has the USER role");
+        }
+    }
+
+    private Account logIn(String username, String password) throws IOException, InterruptedException {
+        HttpRequest request = postJson(HttpRequest.newBuilder(URI.create(options.authUrl() + "/api/auth/login")).timeout(options.timeout()),
+                new LoginRequestDTO(username, password)).build();
+        for (int attempt = 0; ; attempt++) {
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() == 429 && attempt < 10) {
+                // The login rate limit applies here too; start the app with rate-limits.enabled=false to skip the wait
+                long retryAfter = response.headers().firstValueAsLong("Retry-After").orElse(1);
+                System.out.printf("Login of %s rate limited, retrying in %d s%n", username, retryAfter);
+                TimeUnit.SECONDS.sleep(retryAfter);
+                continue;
+            }
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Login of " + username + " failed with status " + response.statusCode());
+            }
+            LoginResponseDTO login = objectMapper.readValue(response.body(), LoginResponseDTO.class);
+            List<String> projects = login.getAssignedProjects() != null ? login.getAssignedProjects() : List.of();
+            return new Account(login.getToken(), subject(login.getToken()), login.getRole(), projects,
+                    new AtomicInteger());
+        }
+    }
+
+    private void drive() throws InterruptedException {
+        List<Operation> operations = new ArrayList<>(options.mix().keySet());
+        int[] cumulativeWeights = new int[operations.size()];
+        int total = 0;
+        for (int i = 0; i < operations.size(); i++) {
+            total += options.mix().get(operations.get(i));
+            cumulativeWeights[i] = total;
+        }
+
+        SplittableRandom random = new SplittableRandom(options.seed());
+        Semaphore inFlight = new Semaphore(options.maxInFlight());
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / options.rate());
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+
+        for (long scheduled = start; scheduled < end; scheduled += intervalNanos) {
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            int draw = random.nextInt(total);
+            int index = 0;
+            while (cumulativeWeights[index] <= draw) {
+                index++;
+            }
+            Operation operation = operations.get(index);
+            Account account = accounts.get(random.nextInt(accounts.size()));
+            OperationStats target = scheduled >= measureFrom ? stats.get(operation) : null;
+
+            if (!inFlight.tryAcquire()) {
+                if (target != null) {
+                    target.failure("dropped");
+                }
+                continue;
+            }
+            long startAt = scheduled;
+            Thread.ofVirtual().name("load-" + operation.label()).start(() -> {
+                try {
+                    execute(operation, account, startAt, target);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+        if (!inFlight.tryAcquire(options.maxInFlight(), options.timeout().toMillis() + 1000, TimeUnit.MILLISECONDS)) {
+            System.out.println("Some requests were still outstanding when the run ended");
+        }
+    }
+
+    /** Sends one request; {@code stats} is null during warm-up. */
+    private void execute(Operation operation, Account account, long scheduledNanos, OperationStats stats) {
+        HttpRequest request = request(operation, account);
+        if (request == null) {
+            if (stats != null) {
+                stats.skip();
+            }
+            return;
+        }
+        try {
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            long latency = System.nanoTime() - scheduledNanos;
+            boolean ok = response.statusCode() / 100 == 2;
+            if (ok && operation == Operation.SUBMIT) {
+                JsonNode id = objectMapper.readTree(response.body()).path("data").path("id");
+                if (id.isTextual()) {
+                    submittedIds.add(id.asText());
+                }
+            }
+            if (stats != null) {
+                if (ok) {
+                    stats.success(latency);
+                } else {
+                    stats.failure(String.valueOf(response.statusCode()));
+                }
+            }
+        } catch (HttpTimeoutException e) {
+            if (stats != null) {
+                stats.failure("timeout");
+            }
+        } catch (IOException e) {
+            if (stats != null) {
+                stats.failure(e.getClass().getSimpleName());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private HttpRequest request(Operation operation, Account account) {
+        Account caller = operation.admin() ? admin : account;
+        HttpRequest.Builder builder = HttpRequest.newBuilder().timeout(options.timeout())
+                .header("Authorization", "Bearer " + caller.token());
+        return switch (operation) {
+            case SUBMIT -> {
+                if (account.projectIds().isEmpty()) {
+                    yield null;
+                }
+                // Each submission is a new future week, so the run never collides with itself or seeded data
+                int n = account.submissions().getAndIncrement();
+                String projectId = account.projectIds().get(n % account.projectIds().size());
+                LocalDate week = firstFutureWeek.plusWeeks(n / account.projectIds().size());
+                TimesheetDTO timesheet = new TimesheetDTO(null, account.userId(), projectId, week,
+                        workWeek(), "Load test", null, null);
+                yield postJson(builder.uri(uri("/api/timesheets")), timesheet).build();
+            }
+            case APPROVE -> {
+                String id = submittedIds.poll();
+                yield id == null ? null : builder.uri(uri("/api/timesheets/" + id + "/approve"))
+                        .method("PATCH", HttpRequest.BodyPublishers.noBody()).build();
+            }
+            case LIST -> builder.uri(uri("/api/timesheets/users/" + account.userId())).GET().build();
+            case STATS -> builder.uri(uri("/api/timesheets/stats/summary")).GET().build();
+            case DASHBOARD -> builder.uri(uri("/api/metrics/dashboard")).GET().build();
+            case REACTIVE_LIST -> builder.uri(uri("/api/reactive/timesheets/users/" + account.userId())).GET().build();
+        };
+    }
+
+    private void report(List<OperationResult> results) {
+        System.out.printf("%n%-13s %9s %13s %8s %10s %10s %10s %10s%n",
+                "Operation", "Requests", "Throughput/s", "Errors", "p50 ms", "p99 ms", "p99.9 ms", "Max ms");
+        for (OperationResult result : results) {
+            System.out.printf("%-13s %9d %13.1f %7.2f%% %10.2f %10.2f %10.2f %10.2f%n", result.operation(),
+                    result.requests(), result.throughput(), result.errorRate() * 100,
+                    result.p50(), result.p99(), result.p999(), result.max());
+        }
+        for (Operation operation : options.mix().keySet()) {
+            OperationStats operationStats = stats.get(operation);
+            if (!operationStats.failures().isEmpty()) {
+                System.out.printf("%s failures: %s%n", operation.label(), operationStats.failures());
+            }
+            if (operationStats.skipped() > 0) {
+                System.out.printf("%s skipped (nothing to send): %d%n", operation.label(), operationStats.skipped());
+            }
+        }
+    }
+
+    private static Map<DayOfWeek, Integer> workWeek() {
+        Map<DayOfWeek, Integer> hours = new EnumMap<>(DayOfWeek.class);
+        for (DayOfWeek day : List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY,
+                DayOfWeek.THURSDAY, DayOfWeek.FRIDAY)) {
+            hours.put(day, 8);
+        }
+        return hours;
+    }
+
+    private HttpRequest.Builder postJson(HttpRequest.Builder builder, Object body) {
+        try {
+            return builder.header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create(options.baseUrl() + path);
+    }
+
+    /** The user id, which the API puts in the token's subject. */
+    private String subject(String token) throws IOException {
+        String[] parts = token.split("\\.");
+        byte[] payload = Base64.getUrlDecoder().decode(parts[1]);
+        return objectMapper.readTree(new String(payload, StandardCharsets.UTF_8)).path("sub").asText();
+    }
+
+    private static double seconds(Duration duration) {
+        return duration.toMillis() / 1000.0;
+    }
+
+    private record Account(String token, String userId, UserRole role, List<String> projectIds,
+                           AtomicInteger submissions) {
+    }
+}
@@ -0,0 +1,144 @@
+package com.project.management.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Settings of a load-test run, from {@code --name=value} arguments. Durations take the same forms
+ * as the application's properties ({@code 90s}, {@code 2m}).
+ */
+public record LoadTestOptions(
+        URI baseUrl,
+        URI authUrl,
+        double rate,
+        Duration warmup,
+        Duration duration,
+        int accounts,
+        int firstAccount,
+        String usernamePattern,
+        String password,
+        String adminUsername,
+        String adminPassword,
+        Map<Operation, Integer> mix,
+        int maxInFlight,
+        Duration timeout,
+        int connections,
+        long seed,
+        Path baseline,
+        Path saveBaseline,
+        double tolerance) {
+
+    static final String USAGE = """
+            Options (all --name=value):
+              base-url        application root                       http://localhost:8080
+              auth-url        where to log in, if not base-url        (base-url)
+              rate            requests started per second             50
+              warmup          traffic before measuring starts         15s
+              duration        measured traffic                        60s
+              accounts        user accounts to log in                 20
+              first-account   number of the first account             1
+              username        account name pattern, %d is its number  user%d
+              password        password of every account               password
+              admin           admin credentials as name:password      user0:password
+              mix             relative weights per operation          submit=20,approve=5,list=40,stats=10,dashboard=25
+              max-in-flight   outstanding requests before dropping    500
+              timeout         per request                             10s
+              connections     idle connections to measure first       0
+              seed            random seed of the request sequence     1
+              baseline        results file to compare against         (none)
+              save-baseline   write this run's results here           (none)
+              tolerance       allowed p50/p99/throughput change       0.2
+            """;
+
+    private static final Map<String, String> DEFAULTS = Map.ofEntries(
+            Map.entry("base-url", "http://localhost:8080"),
+            Map.entry("auth-url", ""),
+            Map.entry("rate", "50"),
+            Map.entry("warmup", "15s"),
+            Map.entry("duration", "60s"),
+            Map.entry("accounts", "20"),
+            Map.entry("first-account", "1"),
+            Map.entry("username", "user%d"),
+            Map.entry("password", "password"),
+            Map.entry("admin", "user0:password"),
+            Map.entry("mix", "submit=20,approve=5,list=40,stats=10,dashboard=25"),
+            Map.entry("max-in-flight", "500"),
+            Map.entry("timeout", "10s"),
+            Map.entry("connections", "0"),
+            Map.entry("seed", "1"),
+            Map.entry("tolerance", "0.2"));
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>(DEFAULTS);
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            String name = arg.substring(2, equals);
+            if (!DEFAULTS.containsKey(name) && !name.equals("baseline") && !name.equals("save-baseline")) {
+                throw new IllegalArgumentException("Unknown option --" + name);
+            }
+            values.put(name, arg.substring(equals + 1));
+        }
+
+        String[] admin = values.get("admin").split(":", 2);
+        if (admin.length != 2) {
+            throw new IllegalArgumentException("--admin must be name:password");
+        }
+        URI baseUrl = URI.create(values.get("base-url").replaceAll("/+$", ""));
+        String authUrl = values.get("auth-url").replaceAll("/+$", "");
+        LoadTestOptions options = new LoadTestOptions(
+                baseUrl,
+                authUrl.isEmpty() ? baseUrl : URI.create(authUrl),
+                Double.parseDouble(values.get("rate")),
+                DurationStyle.detectAndParse(values.get("warmup")),
+                DurationStyle.detectAndParse(values.get("duration")),
+                Integer.parseInt(values.get("accounts")),
+                Integer.parseInt(values.get("first-account")),
+                values.get("username"),
+                values.get("password"),
+                admin[0],
+                admin[1],
+                parseMix(values.get("mix")),
+                Integer.parseInt(values.get("max-in-flight")),
+                DurationStyle.detectAndParse(values.get("timeout")),
+                Integer.parseInt(values.get("connections")),
+                Long.parseLong(values.get("seed")),
+                values.containsKey("baseline") ? Path.of(values.get("baseline")) : null,
+                values.containsKey("save-baseline") ? Path.of(values.get("save-baseline")) : null,
+                Double.parseDouble(values.get("tolerance")));
+        if (options.rate <= 0 || options.accounts < 1 || options.maxInFlight < 1 || options.duration.isZero()) {
+            throw new IllegalArgumentException("rate, accounts, max-in-flight and duration must be positive");
+        }
+        if (options.connections < 0 || options.firstAccount < 0) {
+            throw new IllegalArgumentException("connections and first-account must not be negative");
+        }
+        return options;
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split("=", 2);
+            int weight = parts.length == 2 ? Integer.parseInt(parts[1].trim()) : 1;
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight in --mix: " + entry);
+            }
+            if (weight > 0) {
+                mix.put(Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("--mix has no operation with a positive weight");
+        }
+        return mix;
+    }
+}
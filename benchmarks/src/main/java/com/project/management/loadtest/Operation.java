@@ -0,0 +1,36 @@
+package com.project.management.loadtest;
+
+/**
+ * The requests the load test mixes, each sent with a user's or the admin's token.
+ */
+public enum Operation {
+    /** {@code POST /api/timesheets} for a future week of one of the user's projects. */
+    SUBMIT(false),
+    /** {@code PATCH /api/timesheets/{id}/approve} of a timesheet this run submitted. */
+    APPROVE(true),
+    /** {@code GET /api/timesheets/users/{userId}}, the user's last month. */
+    LIST(false),
+    /** {@code GET /api/timesheets/stats/summary}. */
+    STATS(true),
+    /** {@code GET /api/metrics/dashboard}. */
+    DASHBOARD(true),
+    /**
+     * {@code GET /api/reactive/timesheets/users/{userId}}, the user's last month. Both the servlet
+     * and the reactive deployment serve it, so it is the operation to compare them with.
+     */
+    REACTIVE_LIST(false);
+
+    private final boolean admin;
+
+    Operation(boolean admin) {
+        this.admin = admin;
+    }
+
+    public boolean admin() {
+        return admin;
+    }
+
+    public String label() {
+        return name().toLowerCase();
+    }
+}
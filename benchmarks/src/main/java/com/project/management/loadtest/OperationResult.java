@@ -0,0 +1,16 @@
+package com.project.management.loadtest;
+
+/**
+ * Summary of one operation over the measured window; latencies in milliseconds, throughput in
+ * successful requests per second.
+ */
+public record OperationResult(
+        String operation,
+        long requests,
+        double throughput,
+        double errorRate,
+        double p50,
+        double p99,
+        double p999,
+        double max) {
+}
@@ -0,0 +1,72 @@
+package com.project.management.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measured outcomes of one operation, recorded concurrently by the request threads. Latencies of
+ * successful requests go into an HDR histogram; failures are counted by cause (HTTP status,
+ * {@code timeout}, {@code dropped}, or the exception's name).
+ */
+final class OperationStats {
+
+    private final Operation operation;
+    private final Histogram latencies = new ConcurrentHistogram(3);
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+
+    OperationStats(Operation operation) {
+        this.operation = operation;
+    }
+
+    void success(long latencyNanos) {
+        latencies.recordValue(latencyNanos);
+        successes.increment();
+    }
+
+    void failure(String cause) {
+        failures.computeIfAbsent(cause, _ -> new LongAdder()).increment();
+    }
+
+    /** Nothing to send, e.g. no submitted timesheet left to approve. */
+    void skip() {
+        skipped.increment();
+    }
+
+    long skipped() {
+        return skipped.sum();
+    }
+
+    Map<String, Long> failures() {
+        Map<String, Long> counts = new TreeMap<>();
+        failures.forEach((cause, count) -> counts.put(cause, count.sum()));
+        return counts;
+    }
+
+    OperationResult result(Duration measured) {
+        long ok = successes.sum();
+        long failed = failures.values().stream().mapToLong(LongAdder::sum).sum();
+        long total = ok + failed;
+        return new OperationResult(
+                operation.label(),
+                total,
+                ok / (measured.toNanos() / 1e9),
+                total == 0 ? 0 : (double) failed / total,
+                millis(latencies.getValueAtPercentile(50)),
+                millis(latencies.getValueAtPercentile(99)),
+                millis(latencies.getValueAtPercentile(99.9)),
+                millis(latencies.getMaxValue()));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
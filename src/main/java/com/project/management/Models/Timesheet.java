@@ -3,6 +3,7 @@ package com.project.management.Models;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.DayOfWeek;
@@ -11,6 +12,9 @@ import java.time.LocalDateTime;
 import java.util.Map;
 
 @Document(collection = "timesheets")
+@CompoundIndex(name = "project_submitted_idx", def = "{'projectId': 1, 'submittedAt': -1}")
+@CompoundIndex(name = "user_week_idx", def = "{'userId': 1, 'weekStartDate': 1}")
+@CompoundIndex(name = "project_week_idx", def = "{'projectId': 1, 'weekStartDate': 1}")
 @Data
 @NoArgsConstructor
 public class Timesheet {
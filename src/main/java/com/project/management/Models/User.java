@@ -18,6 +18,10 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 public class User implements UserDetails {
+    // Built by UserIndexes once duplicates are dealt with, not by auto-index-creation
+    public static final String USERNAME_INDEX = "username_unique";
+    public static final String EMAIL_INDEX = "email_unique";
+
     @Id
     private String id;
     private String username;
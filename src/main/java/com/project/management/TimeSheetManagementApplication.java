@@ -4,10 +4,12 @@ import com.project.management.security.RoleProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 
 @SpringBootApplication
 @EnableConfigurationProperties(RoleProperties.class)
+@EnableScheduling
 public class TimeSheetManagementApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,24 @@
+package com.project.management.bulkhead;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "bulkheads")
+public class BulkheadProperties {
+    private Map<String, Pool> pools = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Pool {
+        private int maxConcurrency = 16;
+        private int queueCapacity = 100;
+    }
+}
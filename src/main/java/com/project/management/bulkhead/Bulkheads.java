@@ -0,0 +1,95 @@
+package com.project.management.bulkhead;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Separate bounded executors for the three kinds of work the API does, so a burst in one cannot
+ * take threads or queue space from the others:
+ * <ul>
+ *     <li>{@link #writes()} - timesheet submission and approval</li>
+ *     <li>{@link #reads()} - interactive lookups</li>
+ *     <li>{@link #analytics()} - stats and dashboard aggregation</li>
+ * </ul>
+ * Each bulkhead runs at most {@code max-concurrency} tasks with up to {@code queue-capacity} more
+ * waiting; anything beyond that is rejected with a {@link RejectedExecutionException}. Workers are
+ * virtual threads, so the bound is on concurrency rather than on platform threads. Queue depth,
+ * active count and rejections are published as {@code bulkhead.queue.depth}, {@code bulkhead.active}
+ * and {@code bulkhead.rejected}, tagged with the bulkhead name.
+ */
+@Component
+@Slf4j
+public class Bulkheads implements DisposableBean {
+
+    public static final String WRITES = "writes";
+    public static final String READS = "reads";
+    public static final String ANALYTICS = "analytics";
+
+    private final Map<String, ThreadPoolExecutor> pools = new ConcurrentHashMap<>();
+    private final Map<String, Executor> executors = new ConcurrentHashMap<>();
+
+    public Bulkheads(BulkheadProperties properties, MeterRegistry meterRegistry) {
+        for (String name : new String[]{WRITES, READS, ANALYTICS}) {
+            BulkheadProperties.Pool settings = properties.getPools().getOrDefault(name, new BulkheadProperties.Pool());
+            ThreadPoolExecutor pool = create(name, settings, meterRegistry);
+            pools.put(name, pool);
+            // Tasks see the submitting request's authentication
+            executors.put(name, new DelegatingSecurityContextExecutor(pool));
+        }
+    }
+
+    public Executor writes() {
+        return executors.get(WRITES);
+    }
+
+    public Executor reads() {
+        return executors.get(READS);
+    }
+
+    public Executor analytics() {
+        return executors.get(ANALYTICS);
+    }
+
+    ThreadPoolExecutor pool(String name) {
+        return pools.get(name);
+    }
+
+    @Override
+    public void destroy() {
+        pools.values().forEach(ThreadPoolExecutor::shutdown);
+    }
+
+    private static ThreadPoolExecutor create(String name, BulkheadProperties.Pool settings, MeterRegistry meterRegistry) {
+        Counter rejected = Counter.builder("bulkhead.rejected").tag("name", name).register(meterRegistry);
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                settings.getMaxConcurrency(), settings.getMaxConcurrency(),
+                30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(settings.getQueueCapacity()),
+                Thread.ofVirtual().name("bulkhead-" + name + "-", 0).factory(),
+                (task, executor) -> {
+                    rejected.increment();
+                    log.warn("Bulkhead '{}' is full, rejecting task", name);
+                    throw new RejectedExecutionException("Bulkhead '" + name + "' is full");
+                });
+        pool.allowCoreThreadTimeOut(true);
+
+        Gauge.builder("bulkhead.queue.depth", pool, executor -> executor.getQueue().size())
+                .tag("name", name).register(meterRegistry);
+        Gauge.builder("bulkhead.active", pool, ThreadPoolExecutor::getActiveCount)
+                .tag("name", name).register(meterRegistry);
+        return pool;
+    }
+}
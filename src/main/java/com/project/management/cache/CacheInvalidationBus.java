@@ -0,0 +1,375 @@
+package com.project.management.cache;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.ChangeStreamPreAndPostImagesOptions;
+import com.mongodb.client.model.CreateCollectionOptions;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.FullDocumentBeforeChange;
+import com.mongodb.client.model.changestream.OperationType;
+import com.mongodb.client.model.changestream.UpdateDescription;
+import com.project.management.service.DataVersions;
+import com.project.management.service.TimesheetSummaryCache;
+import com.project.management.service.TimesheetWeekCache;
+import com.project.management.service.UserAvailability;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps this instance's caches coherent with writes made by the other replicas, by tailing MongoDB
+ * change streams on {@code users}, {@code projects} and {@code timesheets}.
+ * <p>
+ * Every change bumps the matching {@link DataVersions} counters, which moves the ETags and so
+ * invalidates conditional GETs and {@link ResponseBytesCache} entries. While every stream is
+ * connected the ETags are taken from those counters alone, without their time window. Timesheet changes also evict
+ * the affected user and project weeks from {@link TimesheetWeekCache} and
+ * {@link TimesheetSummaryCache}, both before and after the change, since an update can move a
+ * timesheet to another week or user. The earlier state comes from the change's pre-image, which
+ * {@code cache.invalidation.pre-images} turns on for {@code timesheets} (MongoDB 6.0 or later); an
+ * update that touches none of those fields needs none. A change whose earlier week is unknown evicts
+ * both caches. User changes feed names and emails to {@link UserAvailability}. This instance's own
+ * writes come back through the stream too, and handling them a second time costs no more than one
+ * extra cache miss.
+ * <p>
+ * A change that cannot be applied is logged, counted in {@code cache.invalidation.failures} and
+ * skipped after dropping every cached entry, so one bad event cannot stall the stream.
+ * <p>
+ * Each collection is tailed on its own virtual thread. The thread keeps the latest resume token,
+ * including the post-batch token of idle polls, and reconnects after a failure with
+ * {@code resumeAfter}, so a dropped connection or a primary step-down loses no events. If the
+ * token has fallen off the oplog, every cache is dropped and the stream starts again from now.
+ * Tokens are not written to the database: the caches are in-process and start cold after a
+ * restart, so there is nothing to catch up on.
+ * <p>
+ * Publishes {@code cache.invalidation.events} (by collection and operation),
+ * {@code cache.invalidation.lag} (from the change's wall-clock time to handling),
+ * {@code cache.invalidation.reconnects} and {@code cache.invalidation.connected}. Change streams
+ * need a replica set, so this is only started when {@code cache.invalidation.enabled} is set.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "cache.invalidation", name = "enabled", havingValue = "true")
+public class CacheInvalidationBus implements SmartLifecycle {
+
+    static final String USERS = "users";
+    static final String PROJECTS = "projects";
+    static final String TIMESHEETS = "timesheets";
+
+    // ChangeStreamHistoryLost, InvalidResumeToken
+    private static final Set<Integer> RESUME_FAILURES = Set.of(286, 260);
+    private static final int NAMESPACE_NOT_FOUND = 26;
+
+    // Timesheet fields that place it in the caches
+    private static final Set<String> TIMESHEET_KEY_FIELDS = Set.of("userId", "projectId", "weekStartDate");
+
+    private final MongoTemplate mongoTemplate;
+    private final DataVersions dataVersions;
+    private final TimesheetWeekCache timesheetWeekCache;
+    private final TimesheetSummaryCache timesheetSummaryCache;
+    private final UserAvailability userAvailability;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, BsonDocument> resumeTokens = new ConcurrentHashMap<>();
+    private final Map<String, Thread> tails = new ConcurrentHashMap<>();
+    private final AtomicInteger connected = new AtomicInteger();
+    private volatile boolean running;
+    private volatile boolean preImagesEnabled;
+
+    @Value("${cache.invalidation.max-await-ms:1000}")
+    private long maxAwaitMs = 1000;
+
+    @Value("${cache.invalidation.retry-backoff-ms:1000}")
+    private long retryBackoffMs = 1000;
+
+    @Value("${cache.invalidation.pre-images:true}")
+    private boolean preImages = true;
+
+    public CacheInvalidationBus(MongoTemplate mongoTemplate,
+                                DataVersions dataVersions,
+                                TimesheetWeekCache timesheetWeekCache,
+                                TimesheetSummaryCache timesheetSummaryCache,
+                                UserAvailability userAvailability,
+                                MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.dataVersions = dataVersions;
+        this.timesheetWeekCache = timesheetWeekCache;
+        this.timesheetSummaryCache = timesheetSummaryCache;
+        this.userAvailability = userAvailability;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("cache.invalidation.connected", connected, AtomicInteger::get).register(meterRegistry);
+        dataVersions.sharedWhile(this::isConnected);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        preImagesEnabled = preImages && enablePreImages();
+        for (String collection : List.of(USERS, PROJECTS, TIMESHEETS)) {
+            tails.put(collection, Thread.ofVirtual().name("cache-invalidation-" + collection)
+                    .start(() -> tail(collection)));
+        }
+        log.info("Tailing change streams on {} for cache invalidation", tails.keySet());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        for (Thread tail : tails.values()) {
+            tail.interrupt();
+            try {
+                tail.join(maxAwaitMs + 1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        tails.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** Whether every collection currently has an open change stream. */
+    public boolean isConnected() {
+        return connected.get() == tails.size() && !tails.isEmpty();
+    }
+
+    BsonDocument resumeToken(String collection) {
+        return resumeTokens.get(collection);
+    }
+
+    private void tail(String collection) {
+        Counter reconnects = Counter.builder("cache.invalidation.reconnects").tag("collection", collection)
+                .register(meterRegistry);
+        while (running) {
+            var stream = mongoTemplate.getCollection(collection).watch()
+                    .fullDocument(FullDocument.UPDATE_LOOKUP)
+                    .maxAwaitTime(maxAwaitMs, TimeUnit.MILLISECONDS);
+            if (preImagesEnabled && collection.equals(TIMESHEETS)) {
+                stream = stream.fullDocumentBeforeChange(FullDocumentBeforeChange.WHEN_AVAILABLE);
+            }
+            BsonDocument resumeToken = resumeTokens.get(collection);
+            if (resumeToken != null) {
+                stream = stream.resumeAfter(resumeToken);
+            }
+            boolean open = false;
+            try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = stream.cursor()) {
+                connected.incrementAndGet();
+                open = true;
+                while (running) {
+                    ChangeStreamDocument<Document> change = cursor.tryNext();
+                    if (change != null) {
+                        handle(collection, change);
+                    }
+                    BsonDocument latest = cursor.getResumeToken();
+                    if (latest != null) {
+                        resumeTokens.put(collection, latest);
+                    }
+                }
+            } catch (MongoCommandException e) {
+                if (RESUME_FAILURES.contains(e.getErrorCode())) {
+                    log.warn("Change stream on {} cannot resume ({}); dropping all cached entries", collection,
+                            e.getErrorCodeName());
+                    resumeTokens.remove(collection);
+                    evictAll();
+                } else if (running) {
+                    log.warn("Change stream on {} failed, reconnecting: {}", collection, e.getMessage());
+                }
+            } catch (RuntimeException e) {
+                if (running) {
+                    log.warn("Change stream on {} failed, reconnecting: {}", collection, e.getMessage());
+                }
+            } finally {
+                if (open) {
+                    connected.decrementAndGet();
+                }
+            }
+            if (running) {
+                reconnects.increment();
+                pause();
+            }
+        }
+    }
+
+    /** Applies one change; one that fails is skipped, so the resume token still moves past it. */
+    void handle(String collection, ChangeStreamDocument<Document> change) {
+        try {
+            if (change.getWallTime() != null) {
+                long lagMs = System.currentTimeMillis() - change.getWallTime().getValue();
+                Timer.builder("cache.invalidation.lag").tag("collection", collection).register(meterRegistry)
+                        .record(Duration.ofMillis(Math.max(0, lagMs)));
+            }
+            Document before = change.getFullDocumentBeforeChange();
+            if (before == null && change.getOperationType() == OperationType.UPDATE
+                    && keysUnchanged(change.getUpdateDescription())) {
+                // The timesheet stayed where it was, so the post-image places the earlier state too
+                before = change.getFullDocument();
+            }
+            apply(collection, change.getOperationType(), change.getDocumentKey(), before, change.getFullDocument());
+        } catch (RuntimeException e) {
+            log.error("Skipping change on {} that could not be applied; dropping all cached entries", collection, e);
+            Counter.builder("cache.invalidation.failures").tag("collection", collection).register(meterRegistry)
+                    .increment();
+            evictAll();
+        }
+    }
+
+    /**
+     * Applies one change to the local caches; {@code before} and {@code after} are the document
+     * before and after the change, where known.
+     */
+    void apply(String collection, OperationType operation, BsonDocument documentKey, Document before, Document after) {
+        Counter.builder("cache.invalidation.events")
+                .tag("collection", collection)
+                .tag("operation", operation == null ? "unknown" : operation.getValue())
+                .register(meterRegistry)
+                .increment();
+        if (operation == OperationType.INVALIDATE || operation == OperationType.DROP
+                || operation == OperationType.DROP_DATABASE || operation == OperationType.RENAME) {
+            evictAll();
+            return;
+        }
+        switch (collection) {
+            case USERS -> {
+                dataVersions.bump(DataVersions.Collection.USERS);
+                if (after != null) {
+                    userAvailability.added(after.getString("username"), after.getString("email"));
+                }
+            }
+            case PROJECTS -> {
+                dataVersions.bump(DataVersions.Collection.PROJECTS);
+                String projectId = documentKey == null ? null : id(documentKey.get("_id"));
+                if (projectId != null) {
+                    dataVersions.bumpProject(projectId);
+                }
+            }
+            case TIMESHEETS -> {
+                dataVersions.bump(DataVersions.Collection.TIMESHEETS);
+                // No post-image means the timesheet is gone (again); its delete event will follow
+                boolean afterPlaced = after == null || evictTimesheet(after);
+                // An insert has no earlier state; anything else may have moved the timesheet
+                boolean beforePlaced = operation == OperationType.INSERT || (before != null && evictTimesheet(before));
+                if (!afterPlaced || !beforePlaced) {
+                    timesheetWeekCache.evictAll();
+                    timesheetSummaryCache.evictAll();
+                }
+            }
+            default -> log.debug("Ignoring change on unwatched collection {}", collection);
+        }
+    }
+
+    /** Evicts the weeks holding {@code timesheet}; false if its week is unknown. */
+    private boolean evictTimesheet(Document timesheet) {
+        String userId = id(timesheet.get("userId"));
+        String projectId = id(timesheet.get("projectId"));
+        LocalDate weekStartDate = localDate(timesheet.get("weekStartDate"));
+        if (projectId != null) {
+            dataVersions.bumpProject(projectId);
+        }
+        if (weekStartDate == null) {
+            return false;
+        }
+        if (userId != null) {
+            timesheetWeekCache.evict(userId, weekStartDate);
+        }
+        timesheetSummaryCache.evict(userId, projectId, weekStartDate);
+        return true;
+    }
+
+    static boolean keysUnchanged(UpdateDescription update) {
+        if (update == null) {
+            return false;
+        }
+        if (update.getRemovedFields() != null
+                && update.getRemovedFields().stream().anyMatch(TIMESHEET_KEY_FIELDS::contains)) {
+            return false;
+        }
+        return update.getUpdatedFields() == null
+                || update.getUpdatedFields().keySet().stream().noneMatch(TIMESHEET_KEY_FIELDS::contains);
+    }
+
+    /**
+     * Records pre-images for timesheet changes, so a timesheet moved to another week or user can be
+     * evicted where it was. Needs MongoDB 6.0 and collMod rights; without them, such changes evict
+     * both timesheet caches instead.
+     */
+    private boolean enablePreImages() {
+        try {
+            try {
+                mongoTemplate.getDb().runCommand(new Document("collMod", TIMESHEETS)
+                        .append("changeStreamPreAndPostImages", new Document("enabled", true)));
+            } catch (MongoCommandException e) {
+                if (e.getErrorCode() != NAMESPACE_NOT_FOUND) {
+                    throw e;
+                }
+                mongoTemplate.getDb().createCollection(TIMESHEETS, new CreateCollectionOptions()
+                        .changeStreamPreAndPostImagesOptions(new ChangeStreamPreAndPostImagesOptions(true)));
+            }
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Could not enable change stream pre-images on {} ({}); timesheet updates will evict every"
+                    + " cached week", TIMESHEETS, e.getMessage());
+            return false;
+        }
+    }
+
+    private void evictAll() {
+        for (DataVersions.Collection collection : DataVersions.Collection.values()) {
+            dataVersions.bump(collection);
+        }
+        timesheetWeekCache.evictAll();
+        timesheetSummaryCache.evictAll();
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(retryBackoffMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    // Hex string ids are stored as ObjectIds, see CodecSupport
+    private static String id(Object value) {
+        return switch (value) {
+            case ObjectId objectId -> objectId.toHexString();
+            case BsonObjectId objectId -> objectId.getValue().toHexString();
+            case String string -> string;
+            case BsonString string -> string.getValue();
+            case null, default -> null;
+        };
+    }
+
+    // LocalDate fields are stored as BSON dates at midnight in the JVM default zone
+    private static LocalDate localDate(Object value) {
+        return value instanceof Date date ? date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate() : null;
+    }
+}
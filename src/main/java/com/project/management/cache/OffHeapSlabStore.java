@@ -0,0 +1,247 @@
+package com.project.management.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * A bounded key to bytes store whose values live in direct memory, outside the garbage-collected
+ * heap.
+ * <p>
+ * Capacity is split into fixed-size slots carved out of direct {@link ByteBuffer} slabs, which are
+ * allocated on first use. Each value takes one slot (a 4 byte length followed by the bytes), so a
+ * value larger than a slot is refused rather than stored. When every slot is taken, CLOCK picks
+ * the victim: reads set a slot's reference bit, and the hand clears bits as it sweeps until it
+ * finds a slot that has not been read since its last pass.
+ * <p>
+ * Only the key index and per-slot bookkeeping stay on the heap. Reads are optimistic: a value is
+ * copied out under a {@link StampedLock} stamp and only retried under the read lock if a write
+ * overlapped it, so concurrent readers never block each other. Writes and evictions take the
+ * write lock.
+ * <p>
+ * {@link #bindTo} publishes {@code offheap.cache.gets} (hit or miss), {@code offheap.cache.evictions},
+ * {@code offheap.cache.rejected} (values too large for a slot), {@code offheap.cache.entries} and
+ * {@code offheap.cache.allocated} (direct bytes), tagged with the cache name.
+ */
+public class OffHeapSlabStore implements MeterBinder {
+
+    private static final int HEADER_BYTES = Integer.BYTES;
+
+    private final String name;
+    private final int slotBytes;
+    private final int slotsPerSlab;
+    private final int slotCount;
+    private final ByteBuffer[] slabs;
+
+    private final Map<String, Integer> index = new ConcurrentHashMap<>();
+    // Slot bookkeeping below is written under the write lock; reference bits are also set by readers
+    private final String[] keys;
+    private final byte[] referenced;
+    private final int[] freeSlots;
+    private int freeCount;
+    private int nextUnused;
+    private int hand;
+    private final StampedLock lock = new StampedLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public OffHeapSlabStore(String name, long capacityBytes, int slotBytes, int slabBytes) {
+        if (slotBytes <= HEADER_BYTES || slabBytes < slotBytes) {
+            throw new IllegalArgumentException("Slots must be larger than " + HEADER_BYTES
+                    + " bytes and fit in a slab: slot " + slotBytes + ", slab " + slabBytes);
+        }
+        long slots = capacityBytes / slotBytes;
+        if (slots < 1 || slots > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Capacity " + capacityBytes + " does not fit slots of " + slotBytes + " bytes");
+        }
+        this.name = name;
+        this.slotBytes = slotBytes;
+        this.slotsPerSlab = slabBytes / slotBytes;
+        this.slotCount = (int) slots;
+        this.slabs = new ByteBuffer[(slotCount + slotsPerSlab - 1) / slotsPerSlab];
+        this.keys = new String[slotCount];
+        this.referenced = new byte[slotCount];
+        this.freeSlots = new int[slotCount];
+    }
+
+    /** A copy of the value stored under {@code key}, or {@code null}. */
+    public byte[] get(String key) {
+        long stamp = lock.tryOptimisticRead();
+        byte[] value = read(key);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                value = read(key);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        (value == null ? misses : hits).increment();
+        return value;
+    }
+
+    /**
+     * Stores {@code value} under {@code key}, evicting another entry if the store is full. Returns
+     * {@code false}, leaving any previous value in place, if the value does not fit in a slot.
+     */
+    public boolean put(String key, byte[] value) {
+        if (value.length > slotBytes - HEADER_BYTES) {
+            rejected.increment();
+            return false;
+        }
+        long stamp = lock.writeLock();
+        try {
+            Integer slot = index.get(key);
+            if (slot == null) {
+                slot = allocate();
+                keys[slot] = key;
+                index.put(key, slot);
+            }
+            ByteBuffer slab = slabs[slot / slotsPerSlab];
+            int offset = offset(slot);
+            slab.putInt(offset, value.length);
+            slab.put(offset + HEADER_BYTES, value);
+            referenced[slot] = 1;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void invalidate(String key) {
+        if (!index.containsKey(key)) {
+            return;
+        }
+        long stamp = lock.writeLock();
+        try {
+            Integer slot = index.remove(key);
+            if (slot != null) {
+                keys[slot] = null;
+                referenced[slot] = 0;
+                freeSlots[freeCount++] = slot;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /** Drops every entry; slabs already allocated are kept for reuse. */
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            index.clear();
+            Arrays.fill(keys, null);
+            Arrays.fill(referenced, (byte) 0);
+            freeCount = 0;
+            nextUnused = 0;
+            hand = 0;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    public int capacity() {
+        return slotCount;
+    }
+
+    /** Direct memory taken by the slabs allocated so far. */
+    public long allocatedBytes() {
+        long stamp = lock.readLock();
+        try {
+            long allocated = 0;
+            for (ByteBuffer slab : slabs) {
+                allocated += slab == null ? 0 : slab.capacity();
+            }
+            return allocated;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("offheap.cache.gets", hits, LongAdder::sum)
+                .tag("cache", name).tag("result", "hit").register(registry);
+        FunctionCounter.builder("offheap.cache.gets", misses, LongAdder::sum)
+                .tag("cache", name).tag("result", "miss").register(registry);
+        FunctionCounter.builder("offheap.cache.evictions", evictions, LongAdder::sum)
+                .tag("cache", name).register(registry);
+        FunctionCounter.builder("offheap.cache.rejected", rejected, LongAdder::sum)
+                .tag("cache", name).register(registry);
+        Gauge.builder("offheap.cache.entries", this, OffHeapSlabStore::size)
+                .tag("cache", name).register(registry);
+        Gauge.builder("offheap.cache.allocated", this, OffHeapSlabStore::allocatedBytes)
+                .tag("cache", name).baseUnit("bytes").register(registry);
+    }
+
+    long evictionCount() {
+        return evictions.sum();
+    }
+
+    private byte[] read(String key) {
+        Integer slot = index.get(key);
+        if (slot == null) {
+            return null;
+        }
+        ByteBuffer slab = slabs[slot / slotsPerSlab];
+        if (slab == null) {
+            return null;
+        }
+        int offset = offset(slot);
+        int length = slab.getInt(offset);
+        // Only possible while a writer is reusing the slot; the stamp check throws this read away
+        if (length < 0 || length > slotBytes - HEADER_BYTES) {
+            return null;
+        }
+        byte[] value = new byte[length];
+        slab.get(offset + HEADER_BYTES, value);
+        referenced[slot] = 1;
+        return value;
+    }
+
+    private int allocate() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (nextUnused < slotCount) {
+            int slot = nextUnused++;
+            int slab = slot / slotsPerSlab;
+            if (slabs[slab] == null) {
+                int slotsInSlab = Math.min(slotsPerSlab, slotCount - slab * slotsPerSlab);
+                slabs[slab] = ByteBuffer.allocateDirect(slotsInSlab * slotBytes);
+            }
+            return slot;
+        }
+        while (true) {
+            int slot = hand;
+            hand = (hand + 1) % slotCount;
+            if (referenced[slot] != 0) {
+                referenced[slot] = 0;
+                continue;
+            }
+            index.remove(keys[slot]);
+            keys[slot] = null;
+            evictions.increment();
+            return slot;
+        }
+    }
+
+    private int offset(int slot) {
+        return (slot % slotsPerSlab) * slotBytes;
+    }
+}
@@ -0,0 +1,223 @@
+package com.project.management.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.management.service.DataVersions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Already-encoded JSON bodies for hot read endpoints, so an unchanged response is copied to the
+ * servlet output stream instead of being re-serialized by Jackson on every hit.
+ * <p>
+ * Each endpoint holds at most one entry, labelled with the {@link com.project.management.service.DataVersions}
+ * ETag it was encoded under. A lookup with any other ETag misses, and the next store replaces the
+ * entry, so a version bump invalidates the bytes without any explicit eviction. Bytes are only
+ * stored while their ETag is still the endpoint's current one: a body computed across a write is
+ * sent to its own request but never kept. Bodies at least {@code response-cache.gzip-min-bytes}
+ * long are also kept gzipped for clients that accept it.
+ * <p>
+ * Only requests whose {@code Accept} header names nothing but JSON-compatible types are served
+ * from here; anything else (including a missing header, Smile or CBOR) goes through normal content
+ * negotiation. Lookups are counted as {@code response.cache.requests}, tagged with the endpoint and
+ * {@code hit} or {@code miss}.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ResponseBytesCache {
+
+    public static final String METRIC_NAME = "response.cache.requests";
+
+    /** Endpoint keys, shared by the controllers that serve them and the startup warm-up. */
+    public static final String PROJECTS = "projects";
+    public static final String DASHBOARD = "dashboard";
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final DataVersions dataVersions;
+    private final Map<String, EncodedResponse> entries = new ConcurrentHashMap<>();
+    private final Map<String, Counter> hits = new ConcurrentHashMap<>();
+    private final Map<String, Counter> misses = new ConcurrentHashMap<>();
+
+    @Value("${response-cache.gzip-min-bytes:1024}")
+    private int gzipMinBytes = 1024;
+
+    public ResponseBytesCache(ObjectMapper objectMapper, MeterRegistry meterRegistry, DataVersions dataVersions) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.dataVersions = dataVersions;
+    }
+
+    /**
+     * Serves {@code endpoint} from cache, encoding {@code body} first if the entry is missing or
+     * was encoded under a different ETag. Returns {@code false}, without calling {@code body}, when
+     * the request has to go through content negotiation instead.
+     */
+    public boolean write(NativeWebRequest request, String endpoint, String eTag, Supplier<?> body) {
+        if (!accepts(request)) {
+            return false;
+        }
+        EncodedResponse cached = get(endpoint, eTag).orElseGet(() -> put(endpoint, eTag, body.get()));
+        write(request, cached);
+        return true;
+    }
+
+    /** Whether the request only accepts JSON, and so can be answered with cached bytes. */
+    public boolean accepts(NativeWebRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (!StringUtils.hasText(accept)) {
+            return false;
+        }
+        try {
+            List<MediaType> mediaTypes = MediaType.parseMediaTypes(accept);
+            return mediaTypes.stream()
+                    .filter(mediaType -> mediaType.getQualityValue() > 0)
+                    .allMatch(mediaType -> mediaType.isCompatibleWith(MediaType.APPLICATION_JSON));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
+    public Optional<EncodedResponse> get(String endpoint, String eTag) {
+        EncodedResponse cached = entries.get(endpoint);
+        boolean hit = cached != null && cached.eTag().equals(eTag);
+        // Looked up per endpoint rather than rebuilt, which would allocate on every request
+        (hit ? hits : misses).computeIfAbsent(endpoint, name -> counter(name, hit ? "hit" : "miss")).increment();
+        return hit ? Optional.of(cached) : Optional.empty();
+    }
+
+    /**
+     * Encodes {@code body}, which was loaded after {@code eTag} was taken, and keeps it unless a
+     * write has moved the endpoint's ETag since. Either way the encoding is returned for the caller
+     * to send under its own ETag.
+     */
+    public EncodedResponse put(String endpoint, String eTag, Object body) {
+        EncodedResponse encoded = encode(eTag, body);
+        if (eTag.equals(currentETag(endpoint))) {
+            entries.put(endpoint, encoded);
+        }
+        return encoded;
+    }
+
+    /** Writes {@code encoded} straight to the response; only for the thread handling the request. */
+    public void write(NativeWebRequest request, EncodedResponse encoded) {
+        HttpServletResponse response = request.getNativeResponse(HttpServletResponse.class);
+        boolean gzip = encoded.gzip() != null && gzipAccepted(request);
+        byte[] bytes = gzip ? encoded.gzip() : encoded.json();
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.ETAG, encoded.eTag());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(bytes.length);
+        try {
+            response.getOutputStream().write(bytes);
+            response.flushBuffer();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * {@code encoded} as a response entity, for handlers that finish on another thread and so must
+     * leave writing the response to Spring MVC. {@code gzip} is {@link #gzipAccepted(NativeWebRequest)},
+     * read on the request thread.
+     */
+    public ResponseEntity<byte[]> toResponseEntity(EncodedResponse encoded, boolean gzip) {
+        boolean gzipped = gzip && encoded.gzip() != null;
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(encoded.eTag())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING);
+        if (gzipped) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(gzipped ? encoded.gzip() : encoded.json());
+    }
+
+    /** Whether the request accepts a gzipped body. */
+    public boolean gzipAccepted(NativeWebRequest request) {
+        return acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    private String currentETag(String endpoint) {
+        return switch (endpoint) {
+            case PROJECTS -> dataVersions.projectsETag();
+            case DASHBOARD -> dataVersions.dashboardETag();
+            default -> throw new IllegalArgumentException("Unknown cached endpoint " + endpoint);
+        };
+    }
+
+    EncodedResponse encode(String eTag, Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            return new EncodedResponse(eTag, json, json.length >= gzipMinBytes ? gzip(json) : null);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode cached response", e);
+        }
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (!StringUtils.hasText(acceptEncoding)) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase("gzip") && !parts[0].trim().equals("*")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=") && parameter.substring(2).matches("0(\\.0*)?")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private Counter counter(String endpoint, String result) {
+        return Counter.builder(METRIC_NAME)
+                .tag("endpoint", endpoint)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /** One endpoint's body as JSON and, when worth compressing, gzipped JSON. */
+    public record EncodedResponse(String eTag, byte[] json, byte[] gzip) {
+    }
+}
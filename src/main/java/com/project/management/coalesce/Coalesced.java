@@ -0,0 +1,25 @@
+package com.project.management.coalesce;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an expensive, side-effect free read so that concurrent calls with equal arguments share a
+ * single in-flight computation instead of each running it.
+ *
+ * @see SingleFlightInterceptor
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Coalesced {
+
+    /**
+     * How long a completed result keeps being handed out to new callers. The default of zero only
+     * shares a result between calls that overlap with the computation itself.
+     */
+    long ttlMillis() default 0;
+}
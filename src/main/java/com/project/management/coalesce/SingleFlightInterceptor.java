@@ -0,0 +1,145 @@
+package com.project.management.coalesce;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight execution for {@link Coalesced} methods.
+ * <p>
+ * The first caller for a given method and argument list becomes the leader and runs the method on
+ * its own thread; callers arriving while it runs wait for and return the leader's result (or
+ * exception). Once the leader finishes the entry is dropped, unless the annotation asks for a TTL,
+ * in which case successful results keep being served until they expire. Failures are never kept.
+ * <p>
+ * Flights are also keyed by a write generation, read when the call starts, so a caller never joins
+ * or reuses a computation that started before a write it may already have seen (for instance one
+ * reflected in an ETag it took first). Entries of a past generation are swept when they expire.
+ * <p>
+ * Every call is counted in {@code coalesced.calls}, tagged with the method and whether it ran the
+ * computation ({@code leader}), joined one in flight ({@code joined}) or was served a completed
+ * result ({@code cached}).
+ */
+public class SingleFlightInterceptor implements MethodInterceptor {
+
+    static final String METRIC_NAME = "coalesced.calls";
+
+    private final Map<Key, Flight> flights = new ConcurrentHashMap<>();
+    private final Map<Method, Counters> counters = new ConcurrentHashMap<>();
+    private final Supplier<MeterRegistry> meterRegistry;
+    private final LongSupplier generation;
+
+    public SingleFlightInterceptor(Supplier<MeterRegistry> meterRegistry, LongSupplier generation) {
+        this.meterRegistry = meterRegistry;
+        this.generation = generation;
+    }
+
+    public SingleFlightInterceptor(Supplier<MeterRegistry> meterRegistry) {
+        this(meterRegistry, () -> 0);
+    }
+
+    public SingleFlightInterceptor() {
+        this(() -> Metrics.globalRegistry);
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        Coalesced coalesced = method.getAnnotation(Coalesced.class);
+        if (coalesced == null) {
+            return invocation.proceed();
+        }
+        Key key = new Key(method, Arrays.asList(invocation.getArguments()), generation.getAsLong());
+        Counters methodCounters = counters.computeIfAbsent(method, this::register);
+
+        while (true) {
+            Flight candidate = new Flight();
+            Flight existing = flights.putIfAbsent(key, candidate);
+            if (existing == null) {
+                if (coalesced.ttlMillis() > 0) {
+                    // Kept results of an older generation are never looked up again
+                    flights.values().removeIf(Flight::isExpired);
+                }
+                methodCounters.leader().increment();
+                return lead(invocation, key, candidate, coalesced.ttlMillis());
+            }
+            if (existing.isExpired()) {
+                flights.remove(key, existing);
+                continue;
+            }
+            methodCounters.of(existing.result.isDone()).increment();
+            return await(existing);
+        }
+    }
+
+    int inFlight() {
+        return flights.size();
+    }
+
+    private Object lead(MethodInvocation invocation, Key key, Flight flight, long ttlMillis) throws Throwable {
+        try {
+            Object value = invocation.proceed();
+            if (ttlMillis > 0) {
+                flight.expiresAtNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+            } else {
+                flights.remove(key, flight);
+            }
+            flight.result.complete(value);
+            return value;
+        } catch (Throwable e) {
+            flights.remove(key, flight);
+            flight.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static Object await(Flight flight) throws Throwable {
+        try {
+            return flight.result.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+    }
+
+    private Counters register(Method method) {
+        String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        MeterRegistry registry = meterRegistry.get();
+        return new Counters(
+                Counter.builder(METRIC_NAME).tag("method", name).tag("result", "leader").register(registry),
+                Counter.builder(METRIC_NAME).tag("method", name).tag("result", "joined").register(registry),
+                Counter.builder(METRIC_NAME).tag("method", name).tag("result", "cached").register(registry)
+        );
+    }
+
+    private record Key(Method method, List<Object> arguments, long generation) {
+    }
+
+    private record Counters(Counter leader, Counter joined, Counter cached) {
+        Counter of(boolean completed) {
+            return completed ? cached : joined;
+        }
+    }
+
+    private static final class Flight {
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        // Written by the leader before completing the future, so joiners that see it done see this too
+        private volatile long expiresAtNanos = Long.MAX_VALUE;
+
+        boolean isExpired() {
+            return result.isDone() && System.nanoTime() - expiresAtNanos >= 0;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.project.management.codec;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.types.ObjectId;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Field level helpers shared by the hand-written codecs and reading converters.
+ * <p>
+ * Everything here mirrors what {@code MappingMongoConverter} writes for our documents, so both
+ * paths stay wire compatible: hex string ids are stored as {@link ObjectId}, {@link LocalDate} and
+ * {@link LocalDateTime} are stored as BSON dates in the JVM default zone, enums by name, and
+ * {@code null} properties are omitted.
+ */
+final class CodecSupport {
+
+    static final String ID = "_id";
+
+    private CodecSupport() {
+    }
+
+    // --- BsonWriter side -------------------------------------------------------------------
+
+    static void writeId(BsonWriter writer, String id) {
+        if (id == null) {
+            return;
+        }
+        if (ObjectId.isValid(id)) {
+            writer.writeObjectId(ID, new ObjectId(id));
+        } else {
+            writer.writeString(ID, id);
+        }
+    }
+
+    static void writeString(BsonWriter writer, String name, String value) {
+        if (value != null) {
+            writer.writeString(name, value);
+        }
+    }
+
+    static void writeInt(BsonWriter writer, String name, Integer value) {
+        if (value != null) {
+            writer.writeInt32(name, value);
+        }
+    }
+
+    static void writeEnum(BsonWriter writer, String name, Enum<?> value) {
+        if (value != null) {
+            writer.writeString(name, value.name());
+        }
+    }
+
+    static void writeDate(BsonWriter writer, String name, LocalDate value) {
+        if (value != null) {
+            writer.writeDateTime(name, value.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+    }
+
+    static void writeDateTime(BsonWriter writer, String name, LocalDateTime value) {
+        if (value != null) {
+            writer.writeDateTime(name, value.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+    }
+
+    static void writeStringList(BsonWriter writer, String name, List<String> values) {
+        if (values == null) {
+            return;
+        }
+        writer.writeStartArray(name);
+        for (String value : values) {
+            if (value == null) {
+                writer.writeNull();
+            } else {
+                writer.writeString(value);
+            }
+        }
+        writer.writeEndArray();
+    }
+
+    static void writeDailyHours(BsonWriter writer, String name, Map<DayOfWeek, Integer> dailyHours) {
+        if (dailyHours == null) {
+            return;
+        }
+        writer.writeStartDocument(name);
+        for (Map.Entry<DayOfWeek, Integer> entry : dailyHours.entrySet()) {
+            if (entry.getValue() == null) {
+                writer.writeNull(entry.getKey().name());
+            } else {
+                writer.writeInt32(entry.getKey().name(), entry.getValue());
+            }
+        }
+        writer.writeEndDocument();
+    }
+
+    // --- BsonReader side -------------------------------------------------------------------
+
+    /**
+     * Returns {@code true} and consumes the value when the current value is BSON null.
+     */
+    private static boolean readNull(BsonReader reader) {
+        if (reader.getCurrentBsonType() == BsonType.NULL) {
+            reader.readNull();
+            return true;
+        }
+        return false;
+    }
+
+    static String readId(BsonReader reader) {
+        return switch (reader.getCurrentBsonType()) {
+            case OBJECT_ID -> reader.readObjectId().toHexString();
+            case NULL -> {
+                reader.readNull();
+                yield null;
+            }
+            default -> reader.readString();
+        };
+    }
+
+    static String readString(BsonReader reader) {
+        return readNull(reader) ? null : reader.readString();
+    }
+
+    static Integer readInt(BsonReader reader) {
+        return switch (reader.getCurrentBsonType()) {
+            case INT32 -> reader.readInt32();
+            case INT64 -> (int) reader.readInt64();
+            case DOUBLE -> (int) reader.readDouble();
+            case NULL -> {
+                reader.readNull();
+                yield null;
+            }
+            default -> throw new IllegalStateException("Unexpected BSON type for integer field: "
+                    + reader.getCurrentBsonType());
+        };
+    }
+
+    static <E extends Enum<E>> E readEnum(BsonReader reader, Class<E> type) {
+        return readNull(reader) ? null : Enum.valueOf(type, reader.readString());
+    }
+
+    static LocalDate readDate(BsonReader reader) {
+        LocalDateTime dateTime = readDateTime(reader);
+        return dateTime == null ? null : dateTime.toLocalDate();
+    }
+
+    static LocalDateTime readDateTime(BsonReader reader) {
+        if (readNull(reader)) {
+            return null;
+        }
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(reader.readDateTime()), ZoneId.systemDefault());
+    }
+
+    static List<String> readStringList(BsonReader reader) {
+        if (readNull(reader)) {
+            return null;
+        }
+        List<String> values = new ArrayList<>();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            values.add(readString(reader));
+        }
+        reader.readEndArray();
+        return values;
+    }
+
+    static Map<DayOfWeek, Integer> readDailyHours(BsonReader reader) {
+        if (readNull(reader)) {
+            return null;
+        }
+        Map<DayOfWeek, Integer> dailyHours = new EnumMap<>(DayOfWeek.class);
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            DayOfWeek day = DayOfWeek.valueOf(reader.readName());
+            dailyHours.put(day, readInt(reader));
+        }
+        reader.readEndDocument();
+        return dailyHours;
+    }
+
+    // --- org.bson.Document side ------------------------------------------------------------
+
+    static String toId(Object value) {
+        if (value instanceof ObjectId objectId) {
+            return objectId.toHexString();
+        }
+        return value == null ? null : value.toString();
+    }
+
+    static Integer toInteger(Object value) {
+        return value == null ? null : ((Number) value).intValue();
+    }
+
+    static <E extends Enum<E>> E toEnum(Class<E> type, Object value) {
+        return value == null ? null : Enum.valueOf(type, value.toString());
+    }
+
+    static LocalDate toLocalDate(Object value) {
+        LocalDateTime dateTime = toLocalDateTime(value);
+        return dateTime == null ? null : dateTime.toLocalDate();
+    }
+
+    static LocalDateTime toLocalDateTime(Object value) {
+        if (value == null) {
+            return null;
+        }
+        return LocalDateTime.ofInstant(((Date) value).toInstant(), ZoneId.systemDefault());
+    }
+
+    static List<String> toStringList(Object value) {
+        if (value == null) {
+            return null;
+        }
+        List<?> source = (List<?>) value;
+        List<String> values = new ArrayList<>(source.size());
+        for (Object element : source) {
+            values.add(element == null ? null : element.toString());
+        }
+        return values;
+    }
+
+    static Map<DayOfWeek, Integer> toDailyHours(Object value) {
+        if (value == null) {
+            return null;
+        }
+        Map<DayOfWeek, Integer> dailyHours = new EnumMap<>(DayOfWeek.class);
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+            dailyHours.put(DayOfWeek.valueOf(entry.getKey().toString()), toInteger(entry.getValue()));
+        }
+        return dailyHours;
+    }
+}
@@ -0,0 +1,85 @@
+package com.project.management.codec;
+
+import com.project.management.Models.Project;
+import com.project.management.Models.ProjectStatus;
+import com.project.management.Models.TimeSheetStatus;
+import com.project.management.Models.Timesheet;
+import com.project.management.Models.User;
+import com.project.management.Models.UserRole;
+import org.bson.Document;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+
+import java.util.List;
+
+import static com.project.management.codec.CodecSupport.*;
+
+/**
+ * Hand-written {@link Document} to entity converters.
+ * <p>
+ * Spring Data hands every document read by a repository to {@code MappingMongoConverter}, which
+ * otherwise populates the entity reflectively property by property. Registering these converters
+ * makes it call straight into the mapping below. Only the reading side is registered: a writing
+ * converter would turn the entities into "simple types" for the mapping context and break id
+ * population on save, so writes stay on the default path.
+ */
+public final class EntityReadingConverters {
+
+    private EntityReadingConverters() {
+    }
+
+    public static List<Converter<Document, ?>> all() {
+        return List.of(new TimesheetReadingConverter(), new ProjectReadingConverter(), new UserReadingConverter());
+    }
+
+    @ReadingConverter
+    public static class TimesheetReadingConverter implements Converter<Document, Timesheet> {
+        @Override
+        public Timesheet convert(Document source) {
+            Timesheet timesheet = new Timesheet();
+            timesheet.setId(toId(source.get(ID)));
+            timesheet.setUserId(source.getString(TimesheetCodec.USER_ID));
+            timesheet.setProjectId(source.getString(TimesheetCodec.PROJECT_ID));
+            timesheet.setWeekStartDate(toLocalDate(source.get(TimesheetCodec.WEEK_START_DATE)));
+            timesheet.setDailyHours(toDailyHours(source.get(TimesheetCodec.DAILY_HOURS)));
+            timesheet.setDescription(source.getString(TimesheetCodec.DESCRIPTION));
+            timesheet.setStatus(toEnum(TimeSheetStatus.class, source.get(TimesheetCodec.STATUS)));
+            timesheet.setSubmittedAt(toLocalDateTime(source.get(TimesheetCodec.SUBMITTED_AT)));
+            return timesheet;
+        }
+    }
+
+    @ReadingConverter
+    public static class ProjectReadingConverter implements Converter<Document, Project> {
+        @Override
+        public Project convert(Document source) {
+            Project project = new Project();
+            project.setId(toId(source.get(ID)));
+            project.setName(source.getString(ProjectCodec.NAME));
+            project.setDescription(source.getString(ProjectCodec.DESCRIPTION));
+            project.setStartDate(toLocalDateTime(source.get(ProjectCodec.START_DATE)));
+            project.setEndDate(toLocalDateTime(source.get(ProjectCodec.END_DATE)));
+            project.setStatus(toEnum(ProjectStatus.class, source.get(ProjectCodec.STATUS)));
+            project.setAssignedUsers(toStringList(source.get(ProjectCodec.ASSIGNED_USERS)));
+            project.setTotalBudgetHours(toInteger(source.get(ProjectCodec.TOTAL_BUDGET_HOURS)));
+            project.setTotalBilledHours(toInteger(source.get(ProjectCodec.TOTAL_BILLED_HOURS)));
+            return project;
+        }
+    }
+
+    @ReadingConverter
+    public static class UserReadingConverter implements Converter<Document, User> {
+        @Override
+        public User convert(Document source) {
+            User user = new User();
+            user.setId(toId(source.get(ID)));
+            user.setUsername(source.getString(UserCodec.USERNAME));
+            user.setEmail(source.getString(UserCodec.EMAIL));
+            user.setPassword(source.getString(UserCodec.PASSWORD));
+            user.setRole(toEnum(UserRole.class, source.get(UserCodec.ROLE)));
+            user.setAssignedProjects(toStringList(source.get(UserCodec.ASSIGNED_PROJECTS)));
+            user.setCreatedAt(toLocalDateTime(source.get(UserCodec.CREATED_AT)));
+            return user;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.project.management.codec;
+
+import com.project.management.Models.Project;
+import com.project.management.Models.ProjectStatus;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import static com.project.management.codec.CodecSupport.*;
+
+/**
+ * Streaming codec for {@link Project} documents in the {@code projects} collection.
+ */
+public class ProjectCodec implements Codec<Project> {
+
+    static final String NAME = "name";
+    static final String DESCRIPTION = "description";
+    static final String START_DATE = "startDate";
+    static final String END_DATE = "endDate";
+    static final String STATUS = "status";
+    static final String ASSIGNED_USERS = "assignedUsers";
+    static final String TOTAL_BUDGET_HOURS = "totalBudgetHours";
+    static final String TOTAL_BILLED_HOURS = "totalBilledHours";
+
+    @Override
+    public void encode(BsonWriter writer, Project project, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        writeId(writer, project.getId());
+        writeString(writer, NAME, project.getName());
+        writeString(writer, DESCRIPTION, project.getDescription());
+        writeDateTime(writer, START_DATE, project.getStartDate());
+        writeDateTime(writer, END_DATE, project.getEndDate());
+        writeEnum(writer, STATUS, project.getStatus());
+        writeStringList(writer, ASSIGNED_USERS, project.getAssignedUsers());
+        writeInt(writer, TOTAL_BUDGET_HOURS, project.getTotalBudgetHours());
+        writeInt(writer, TOTAL_BILLED_HOURS, project.getTotalBilledHours());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Project decode(BsonReader reader, DecoderContext decoderContext) {
+        Project project = new Project();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case ID -> project.setId(readId(reader));
+                case NAME -> project.setName(readString(reader));
+                case DESCRIPTION -> project.setDescription(readString(reader));
+                case START_DATE -> project.setStartDate(readDateTime(reader));
+                case END_DATE -> project.setEndDate(readDateTime(reader));
+                case STATUS -> project.setStatus(readEnum(reader, ProjectStatus.class));
+                case ASSIGNED_USERS -> project.setAssignedUsers(readStringList(reader));
+                case TOTAL_BUDGET_HOURS -> project.setTotalBudgetHours(readInt(reader));
+                case TOTAL_BILLED_HOURS -> project.setTotalBilledHours(readInt(reader));
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return project;
+    }
+
+    @Override
+    public Class<Project> getEncoderClass() {
+        return Project.class;
+    }
+}
@@ -0,0 +1,67 @@
+package com.project.management.codec;
+
+import com.project.management.Models.TimeSheetStatus;
+import com.project.management.Models.Timesheet;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import static com.project.management.codec.CodecSupport.*;
+
+/**
+ * Streaming codec for {@link Timesheet} documents, written against the same layout
+ * {@code MappingMongoConverter} produces for the {@code timesheets} collection.
+ */
+public class TimesheetCodec implements Codec<Timesheet> {
+
+    static final String USER_ID = "userId";
+    static final String PROJECT_ID = "projectId";
+    static final String WEEK_START_DATE = "weekStartDate";
+    static final String DAILY_HOURS = "dailyHours";
+    static final String DESCRIPTION = "description";
+    static final String STATUS = "status";
+    static final String SUBMITTED_AT = "submittedAt";
+
+    @Override
+    public void encode(BsonWriter writer, Timesheet timesheet, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        writeId(writer, timesheet.getId());
+        writeString(writer, USER_ID, timesheet.getUserId());
+        writeString(writer, PROJECT_ID, timesheet.getProjectId());
+        writeDate(writer, WEEK_START_DATE, timesheet.getWeekStartDate());
+        writeDailyHours(writer, DAILY_HOURS, timesheet.getDailyHours());
+        writeString(writer, DESCRIPTION, timesheet.getDescription());
+        writeEnum(writer, STATUS, timesheet.getStatus());
+        writeDateTime(writer, SUBMITTED_AT, timesheet.getSubmittedAt());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Timesheet decode(BsonReader reader, DecoderContext decoderContext) {
+        Timesheet timesheet = new Timesheet();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case ID -> timesheet.setId(readId(reader));
+                case USER_ID -> timesheet.setUserId(readString(reader));
+                case PROJECT_ID -> timesheet.setProjectId(readString(reader));
+                case WEEK_START_DATE -> timesheet.setWeekStartDate(readDate(reader));
+                case DAILY_HOURS -> timesheet.setDailyHours(readDailyHours(reader));
+                case DESCRIPTION -> timesheet.setDescription(readString(reader));
+                case STATUS -> timesheet.setStatus(readEnum(reader, TimeSheetStatus.class));
+                case SUBMITTED_AT -> timesheet.setSubmittedAt(readDateTime(reader));
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return timesheet;
+    }
+
+    @Override
+    public Class<Timesheet> getEncoderClass() {
+        return Timesheet.class;
+    }
+}
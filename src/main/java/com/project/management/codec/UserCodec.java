@@ -0,0 +1,63 @@
+package com.project.management.codec;
+
+import com.project.management.Models.User;
+import com.project.management.Models.UserRole;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import static com.project.management.codec.CodecSupport.*;
+
+/**
+ * Streaming codec for {@link User} documents in the {@code users} collection.
+ */
+public class UserCodec implements Codec<User> {
+
+    static final String USERNAME = "username";
+    static final String EMAIL = "email";
+    static final String PASSWORD = "password";
+    static final String ROLE = "role";
+    static final String ASSIGNED_PROJECTS = "assignedProjects";
+    static final String CREATED_AT = "createdAt";
+
+    @Override
+    public void encode(BsonWriter writer, User user, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        writeId(writer, user.getId());
+        writeString(writer, USERNAME, user.getUsername());
+        writeString(writer, EMAIL, user.getEmail());
+        writeString(writer, PASSWORD, user.getPassword());
+        writeEnum(writer, ROLE, user.getRole());
+        writeStringList(writer, ASSIGNED_PROJECTS, user.getAssignedProjects());
+        writeDateTime(writer, CREATED_AT, user.getCreatedAt());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public User decode(BsonReader reader, DecoderContext decoderContext) {
+        User user = new User();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case ID -> user.setId(readId(reader));
+                case USERNAME -> user.setUsername(readString(reader));
+                case EMAIL -> user.setEmail(readString(reader));
+                case PASSWORD -> user.setPassword(readString(reader));
+                case ROLE -> user.setRole(readEnum(reader, UserRole.class));
+                case ASSIGNED_PROJECTS -> user.setAssignedProjects(readStringList(reader));
+                case CREATED_AT -> user.setCreatedAt(readDateTime(reader));
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return user;
+    }
+
+    @Override
+    public Class<User> getEncoderClass() {
+        return User.class;
+    }
+}
@@ -0,0 +1,34 @@
+package com.project.management.config;
+
+import com.project.management.coalesce.Coalesced;
+import com.project.management.coalesce.SingleFlightInterceptor;
+import com.project.management.service.DataVersions;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+@Configuration
+public class CoalescingConfig {
+
+    /**
+     * Registered as an infrastructure advisor so the auto-proxy creator that method security
+     * already installs also applies it; the meter registry and the data versions are looked up
+     * lazily to keep this early-initialised bean from dragging other beans in with it.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor coalescingAdvisor(ObjectProvider<MeterRegistry> meterRegistry,
+                                     ObjectProvider<DataVersions> dataVersions) {
+        SingleFlightInterceptor interceptor = new SingleFlightInterceptor(
+                () -> meterRegistry.getIfAvailable(() -> Metrics.globalRegistry),
+                () -> dataVersions.getObject().generation());
+        return new DefaultPointcutAdvisor(AnnotationMatchingPointcut.forMethodAnnotation(Coalesced.class), interceptor);
+    }
+}
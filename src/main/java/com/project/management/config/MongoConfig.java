@@ -0,0 +1,39 @@
+package com.project.management.config;
+
+import com.mongodb.MongoClientSettings;
+import com.project.management.codec.EntityReadingConverters;
+import com.project.management.codec.ProjectCodec;
+import com.project.management.codec.TimesheetCodec;
+import com.project.management.codec.UserCodec;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+
+@Configuration
+public class MongoConfig {
+
+    /**
+     * Codec registry with the hand-written entity codecs ahead of the driver defaults, so any
+     * {@code MongoCollection<Timesheet|Project|User>} obtained from the client decodes straight
+     * from BSON without an intermediate {@code Document}.
+     */
+    public static CodecRegistry entityCodecRegistry() {
+        return CodecRegistries.fromRegistries(
+                CodecRegistries.fromCodecs(new TimesheetCodec(), new ProjectCodec(), new UserCodec()),
+                MongoClientSettings.getDefaultCodecRegistry()
+        );
+    }
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer entityCodecCustomizer() {
+        return settings -> settings.codecRegistry(entityCodecRegistry());
+    }
+
+    @Bean
+    public MongoCustomConversions mongoCustomConversions() {
+        return new MongoCustomConversions(EntityReadingConverters.all());
+    }
+}
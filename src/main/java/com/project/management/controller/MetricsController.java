@@ -1,28 +1,77 @@
 package com.project.management.controller;
 
 
+import com.project.management.bulkhead.Bulkheads;
+import com.project.management.cache.ResponseBytesCache;
 import com.project.management.dto.DashboardMetricsDTO;
+import com.project.management.security.RequiresRole;
+import com.project.management.service.DashboardMetricsBroadcaster;
+import com.project.management.service.DataVersions;
 import com.project.management.service.MetricsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static com.project.management.security.RequiresRole.Role.ADMIN;
 
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/metrics")
 @Slf4j
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class MetricsController {
+
     private final MetricsService metricsService;
+    private final DashboardMetricsBroadcaster dashboardMetricsBroadcaster;
+    private final Bulkheads bulkheads;
+    private final DataVersions dataVersions;
+    private final ResponseBytesCache responseBytesCache;
 
 
     @GetMapping("/dashboard")
-    @PreAuthorize("hasAuthority(@roleProperties.adminRole)")
-    public ResponseEntity<DashboardMetricsDTO> getDashboardMetrics() {
+    @RequiresRole(ADMIN)
+    public CompletableFuture<ResponseEntity<?>> getDashboardMetrics(NativeWebRequest request) {
+        String eTag = dataVersions.dashboardETag();
+        if (request.checkNotModified(eTag)) {
+            log.info("Dashboard metrics unchanged since {}", eTag);
+            return CompletableFuture.completedFuture(null);
+        }
+        boolean cacheable = responseBytesCache.accepts(request);
+        if (cacheable) {
+            // A hit is a byte copy, so it is answered here rather than queued behind analytics work
+            Optional<ResponseBytesCache.EncodedResponse> cached = responseBytesCache.get(ResponseBytesCache.DASHBOARD, eTag);
+            if (cached.isPresent()) {
+                log.info("Served dashboard metrics {} from response cache", eTag);
+                responseBytesCache.write(request, cached.get());
+                return CompletableFuture.completedFuture(null);
+            }
+        }
+        // Read here: the request is not touched once the work moves to the analytics bulkhead
+        boolean gzip = cacheable && responseBytesCache.gzipAccepted(request);
         log.info("Fetching dashboard metrics...");
-        DashboardMetricsDTO metrics = metricsService.getDashboardMetrics();
-        log.info("Dashboard metrics fetched successfully: {}", metrics);
-        return ResponseEntity.ok(metrics);
+        return CompletableFuture.supplyAsync(() -> {
+            DashboardMetricsDTO metrics = metricsService.getDashboardMetrics();
+            log.info("Dashboard metrics fetched successfully: {}", metrics);
+            if (cacheable) {
+                return responseBytesCache.toResponseEntity(
+                        responseBytesCache.put(ResponseBytesCache.DASHBOARD, eTag, metrics), gzip);
+            }
+            return ResponseEntity.ok().eTag(eTag).body(metrics);
+        }, bulkheads.analytics());
+    }
+
+    @GetMapping(value = "/dashboard/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @RequiresRole(ADMIN)
+    public SseEmitter streamDashboardMetrics() {
+        log.info("Opening dashboard metrics stream");
+        return dashboardMetricsBroadcaster.subscribe();
     }
 }
\ No newline at end of file
@@ -3,33 +3,47 @@ package com.project.management.controller;
 import com.project.management.Models.Project;
 import com.project.management.Models.ProjectStatus;
 import com.project.management.Models.User;
+import com.project.management.bulkhead.Bulkheads;
+import com.project.management.cache.ResponseBytesCache;
 import com.project.management.dto.*;
 import com.project.management.exception.ResourceNotFoundException;
 import com.project.management.repository.ProjectRepository;
 import com.project.management.repository.UserRepository;
+import com.project.management.security.RequiresRole;
+import com.project.management.service.DataVersions;
 import com.project.management.service.ProjectService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.project.management.security.RequiresRole.Role.ADMIN;
+import static com.project.management.security.RequiresRole.Role.USER;
 
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/projects")
 @Slf4j
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ProjectController {
     private final ProjectService projectService;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final Bulkheads bulkheads;
+    private final DataVersions dataVersions;
+    private final ResponseBytesCache responseBytesCache;
 
 
     @PostMapping
-    @PreAuthorize("hasAuthority(@roleProperties.adminRole)")
+    @RequiresRole(ADMIN)
     public ResponseEntity<ApiResponse<ProjectDTO>> createProject(@Valid @RequestBody ProjectDTO projectDTO) {
         log.info("Creating a new project with details: {}", projectDTO);
         ProjectDTO createdProject = projectService.createProject(projectDTO);
@@ -38,22 +52,31 @@ public class ProjectController {
     }
 
     @GetMapping
-    @PreAuthorize("hasAnyAuthority(@roleProperties.adminRole, @roleProperties.userRole)")
-    public ResponseEntity<List<ProjectDTO>> getAllProjects() throws Exception {
+    @RequiresRole({ADMIN, USER})
+    public ResponseEntity<List<ProjectDTO>> getAllProjects(NativeWebRequest request) throws Exception {
+        String eTag = dataVersions.projectsETag();
+        if (request.checkNotModified(eTag)) {
+            log.info("Projects unchanged since {}", eTag);
+            return null;
+        }
+        if (responseBytesCache.write(request, ResponseBytesCache.PROJECTS, eTag, projectService::getAllProjects)) {
+            log.info("Served projects {} from response cache", eTag);
+            return null;
+        }
         log.info("Fetching all projects...");
         List<ProjectDTO> projects = projectService.getAllProjects();
         if (projects.isEmpty()) {
             log.info("No projects found");
-            return ResponseEntity.ok(Collections.emptyList());
+            return ResponseEntity.ok().eTag(eTag).body(Collections.emptyList());
         }
         log.info("Fetched {} projects", projects.size());
-        return ResponseEntity.ok(projects);
+        return ResponseEntity.ok().eTag(eTag).body(projects);
     }
 
 
 
     @PostMapping("/{projectName}/users")
-    @PreAuthorize("hasAuthority(@roleProperties.adminRole)")
+    @RequiresRole(ADMIN)
     public ResponseEntity<ApiResponse<Void>> assignUsersToProject(
             @PathVariable String projectName,
             @Valid @RequestBody ProjectAssignmentDTO assignmentDTO) {
@@ -77,26 +100,47 @@ public class ProjectController {
         return ResponseEntity.ok(new ApiResponse<>(true, "Users assigned successfully"));
     }
 
+    @PostMapping("/batch")
+    @RequiresRole({ADMIN, USER})
+    public ResponseEntity<BatchLookupResponseDTO<ProjectDTO>> getProjectsByIds(@Valid @RequestBody BatchLookupRequestDTO request) {
+        log.info("Batch fetching {} projects", request.getIds().size());
+        BatchLookupResponseDTO<ProjectDTO> projects = projectService.getProjectsByIds(request.getIds());
+        log.info("Fetched {} projects, {} missing", projects.getResults().size(), projects.getMissingIds().size());
+        return ResponseEntity.ok(projects);
+    }
+
     @GetMapping("/stats")
-    @PreAuthorize("hasAnyAuthority(@roleProperties.adminRole, @roleProperties.userRole)")
-    public ResponseEntity<List<ProjectStatsDTO>> getProjectStats() {
+    @RequiresRole({ADMIN, USER})
+    public CompletableFuture<ResponseEntity<List<ProjectStatsDTO>>> getProjectStats(WebRequest request) {
+        String eTag = dataVersions.projectStatsETag();
+        if (request.checkNotModified(eTag)) {
+            log.info("Project stats unchanged since {}", eTag);
+            return CompletableFuture.completedFuture(null);
+        }
         log.info("Fetching project stats...");
-        List<ProjectStatsDTO> stats = projectService.getProjectStats();
-        log.info("Fetched stats for {} projects", stats.size());
-        return ResponseEntity.ok(stats);
+        return CompletableFuture.supplyAsync(() -> {
+            List<ProjectStatsDTO> stats = projectService.getProjectStats();
+            log.info("Fetched stats for {} projects", stats.size());
+            return ResponseEntity.ok().eTag(eTag).body(stats);
+        }, bulkheads.analytics());
     }
 
     @GetMapping("/{projectId}")
-    @PreAuthorize("hasAnyAuthority(@roleProperties.adminRole, @roleProperties.userRole)")
-    public ResponseEntity<ProjectDetailDTO> getProjectDetails(@PathVariable String projectId) {
+    @RequiresRole({ADMIN, USER})
+    public ResponseEntity<ProjectDetailDTO> getProjectDetails(@PathVariable String projectId, WebRequest request) {
+        String eTag = dataVersions.projectETag(projectId);
+        if (request.checkNotModified(eTag)) {
+            log.info("Project {} unchanged since {}", projectId, eTag);
+            return null;
+        }
         log.info("Fetching details for project with ID: {}", projectId);
         ProjectDetailDTO details = projectService.getProjectDetails(projectId);
         log.info("Fetched details for project with ID: {}", projectId);
-        return ResponseEntity.ok(details);
+        return ResponseEntity.ok().eTag(eTag).body(details);
     }
 
     @PatchMapping("/{projectId}/status")
-    @PreAuthorize("hasAuthority(@roleProperties.adminRole)")
+    @RequiresRole(ADMIN)
     public ResponseEntity<ApiResponse<ProjectDTO>> updateProjectStatus(
             @PathVariable String projectId,
             @RequestParam ProjectStatus status) {
@@ -0,0 +1,68 @@
+package com.project.management.controller;
+
+import com.project.management.dto.ApiResponse;
+import com.project.management.dto.TimesheetResponseDTO;
+import com.project.management.dto.TimesheetSummaryDTO;
+import com.project.management.security.RequiresRole;
+import com.project.management.service.ReactiveTimesheetService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+import static com.project.management.security.RequiresRole.Role.ADMIN;
+
+/**
+ * Reactive read API for timesheets. Served by Spring MVC's reactive type support in the default
+ * servlet deployment and natively by WebFlux under the {@code reactive} profile. List endpoints
+ * return {@code Flux}; ask for {@code application/x-ndjson} to have elements written as they
+ * arrive from MongoDB instead of collected into a single JSON array.
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/reactive/timesheets")
+@Slf4j
+public class ReactiveTimesheetController {
+    private final ReactiveTimesheetService timesheetService;
+
+    @GetMapping("/{timesheetId}")
+    @RequiresRole(ADMIN)
+    public Mono<ApiResponse<TimesheetResponseDTO>> getTimesheetById(@PathVariable String timesheetId) {
+        log.info("Fetching timesheet with ID: {}", timesheetId);
+        return timesheetService.getTimesheetById(timesheetId)
+                .map(timesheet -> new ApiResponse<>(true, "Timesheet retrieved successfully", timesheet));
+    }
+
+    @GetMapping(value = "/users/{userId}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<TimesheetSummaryDTO> getUserTimesheets(
+            @PathVariable String userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        LocalDate defaultStartDate = startDate != null ? startDate : LocalDate.now().minusMonths(1);
+        LocalDate defaultEndDate = endDate != null ? endDate : LocalDate.now();
+        log.info("Streaming timesheets for userId: {}, StartDate: {}, EndDate: {}", userId, defaultStartDate, defaultEndDate);
+        return timesheetService.getUserTimesheets(userId, defaultStartDate, defaultEndDate);
+    }
+
+    @GetMapping(value = "/projects/{projectId}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @RequiresRole(ADMIN)
+    public Flux<TimesheetSummaryDTO> getProjectTimesheets(
+            @PathVariable String projectId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            log.warn("Invalid date range: StartDate {} is after EndDate {}", startDate, endDate);
+            return Flux.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Start date must not be after end date"));
+        }
+
+        log.info("Streaming project timesheets for projectId: {}, StartDate: {}, EndDate: {}", projectId, startDate, endDate);
+        return timesheetService.getProjectTimesheets(projectId, startDate, endDate);
+    }
+}
@@ -1,106 +1,158 @@
 package com.project.management.controller;
 
+import com.project.management.bulkhead.Bulkheads;
 import com.project.management.dto.*;
+import com.project.management.event.TimesheetEventBus;
+import com.project.management.security.RequiresRole;
 import com.project.management.service.TimesheetService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static com.project.management.security.RequiresRole.Role.ADMIN;
+import static com.project.management.security.RequiresRole.Role.USER;
 
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/timesheets")
 @Slf4j
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class TimesheetController {
     private final TimesheetService timesheetService;
+    private final TimesheetEventBus timesheetEventBus;
+    private final Bulkheads bulkheads;
 
 
     @PostMapping
-    @PreAuthorize("hasAuthority(@roleProperties.userRole)")
-    public ResponseEntity<ApiResponse<TimesheetDTO>> submitTimesheet(@Valid @RequestBody TimesheetDTO timesheetDTO) {
+    @RequiresRole(USER)
+    public CompletableFuture<ResponseEntity<ApiResponse<TimesheetDTO>>> submitTimesheet(@Valid @RequestBody TimesheetDTO timesheetDTO) {
         log.info("Submitting timesheet: {}", timesheetDTO);
         String userId = SecurityContextHolder.getContext().getAuthentication().getName();
         timesheetDTO.setUserId(userId);
         log.info("Submitting timesheet: {}", timesheetDTO);
-        TimesheetDTO submitted = timesheetService.submitTimesheet(timesheetDTO);
-        log.info("Timesheet submitted successfully: {}", submitted);
-        return ResponseEntity.ok(new ApiResponse<>(true, "Timesheet submitted successfully", submitted));
+        return CompletableFuture.supplyAsync(() -> {
+            TimesheetDTO submitted = timesheetService.submitTimesheet(timesheetDTO);
+            log.info("Timesheet submitted successfully: {}", submitted);
+            return ResponseEntity.ok(new ApiResponse<>(true, "Timesheet submitted successfully", submitted));
+        }, bulkheads.writes());
     }
 
     @GetMapping("/{timesheetId}")
-    @PreAuthorize("hasAuthority(@roleProperties.adminRole)")
-    public ResponseEntity<ApiResponse<TimesheetResponseDTO>> getTimesheetById(@PathVariable String timesheetId) {
+    @RequiresRole(ADMIN)
+    public CompletableFuture<ResponseEntity<ApiResponse<TimesheetResponseDTO>>> getTimesheetById(@PathVariable String timesheetId) {
         log.info("Fetching timesheet with ID: {}", timesheetId);
-        TimesheetResponseDTO timesheet = timesheetService.getTimesheetById(timesheetId);
-        log.info("Fetched timesheet: {}", timesheet);
-        return ResponseEntity.ok(new ApiResponse<>(true, "Timesheet retrieved successfully", timesheet));
+        return CompletableFuture.supplyAsync(() -> {
+            TimesheetResponseDTO timesheet = timesheetService.getTimesheetById(timesheetId);
+            log.info("Fetched timesheet: {}", timesheet);
+            return ResponseEntity.ok(new ApiResponse<>(true, "Timesheet retrieved successfully", timesheet));
+        }, bulkheads.reads());
+    }
+
+    @PostMapping("/batch-get")
+    @RequiresRole(ADMIN)
+    public CompletableFuture<ResponseEntity<BatchLookupResponseDTO<TimesheetResponseDTO>>> getTimesheetsByIds(
+            @Valid @RequestBody BatchLookupRequestDTO request) {
+        log.info("Batch fetching {} timesheets", request.getIds().size());
+        return CompletableFuture.supplyAsync(() -> {
+            BatchLookupResponseDTO<TimesheetResponseDTO> timesheets = timesheetService.getTimesheetsByIds(request.getIds());
+            log.info("Fetched {} timesheets, {} missing", timesheets.getResults().size(), timesheets.getMissingIds().size());
+            return ResponseEntity.ok(timesheets);
+        }, bulkheads.reads());
     }
 
     @PatchMapping("/{timesheetId}/approve")
-    @PreAuthorize("hasAuthority(@roleProperties.adminRole)")
-    public ResponseEntity<ApiResponse<TimesheetDTO>> approveTimesheet(@PathVariable String timesheetId) {
+    @RequiresRole(ADMIN)
+    public CompletableFuture<ResponseEntity<ApiResponse<TimesheetDTO>>> approveTimesheet(@PathVariable String timesheetId) {
         log.info("Approving timesheet with ID: {}", timesheetId);
-        TimesheetDTO approved = timesheetService.approveTimesheet(timesheetId);
-        log.info("Timesheet approved successfully: {}", approved);
-        return ResponseEntity.ok(new ApiResponse<>(true, "Timesheet approved successfully", approved));
+        return CompletableFuture.supplyAsync(() -> {
+            TimesheetDTO approved = timesheetService.approveTimesheet(timesheetId);
+            log.info("Timesheet approved successfully: {}", approved);
+            return ResponseEntity.ok(new ApiResponse<>(true, "Timesheet approved successfully", approved));
+        }, bulkheads.writes());
     }
 
     @PatchMapping("/{timesheetId}/reject")
-    @PreAuthorize("hasAuthority(@roleProperties.adminRole)")
-    public ResponseEntity<ApiResponse<TimesheetDTO>> rejectTimesheet(
+    @RequiresRole(ADMIN)
+    public CompletableFuture<ResponseEntity<ApiResponse<TimesheetDTO>>> rejectTimesheet(
             @PathVariable String timesheetId,
             @RequestBody Map<String, String> requestBody) {
         String rejectionReason = requestBody.get("rejectionReason");
         log.info("Rejecting timesheet with ID: {} for reason: {}", timesheetId, rejectionReason);
-        TimesheetDTO rejected = timesheetService.rejectTimesheet(timesheetId, rejectionReason);
-        log.info("Timesheet rejected successfully: {}", rejected);
-        return ResponseEntity.ok(new ApiResponse<>(true, "Timesheet rejected successfully", rejected));
+        return CompletableFuture.supplyAsync(() -> {
+            TimesheetDTO rejected = timesheetService.rejectTimesheet(timesheetId, rejectionReason);
+            log.info("Timesheet rejected successfully: {}", rejected);
+            return ResponseEntity.ok(new ApiResponse<>(true, "Timesheet rejected successfully", rejected));
+        }, bulkheads.writes());
     }
 
     @GetMapping("/users/{userId}")
-    public ResponseEntity<List<TimesheetSummaryDTO>> getUserTimesheets(
+    public CompletableFuture<ResponseEntity<List<TimesheetSummaryDTO>>> getUserTimesheets(
             @PathVariable String userId,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
         LocalDate defaultStartDate = startDate != null ? startDate : LocalDate.now().minusMonths(1);
         LocalDate defaultEndDate = endDate != null ? endDate : LocalDate.now();
         log.info("Fetching timesheets for userId: {}, StartDate: {}, EndDate: {}", userId, defaultStartDate, defaultEndDate);
-        List<TimesheetSummaryDTO> timesheets = timesheetService.getUserTimesheets(userId, defaultStartDate, defaultEndDate);
-        log.info("Fetched {} timesheets for userId: {}", timesheets.size(), userId);
-        return ResponseEntity.ok(timesheets);
+        return CompletableFuture.supplyAsync(() -> {
+            List<TimesheetSummaryDTO> timesheets = timesheetService.getUserTimesheets(userId, defaultStartDate, defaultEndDate);
+            log.info("Fetched {} timesheets for userId: {}", timesheets.size(), userId);
+            return ResponseEntity.ok(timesheets);
+        }, bulkheads.reads());
+    }
+
+    @GetMapping(value = "/users/{userId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @RequiresRole(value = ADMIN, orSelf = "userId")
+    public SseEmitter streamUserTimesheetEvents(@PathVariable String userId) {
+        log.info("Opening timesheet event stream for userId: {}", userId);
+        return timesheetEventBus.subscribeUser(userId);
+    }
+
+    @GetMapping(value = "/approvals/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @RequiresRole(ADMIN)
+    public SseEmitter streamApprovalEvents() {
+        log.info("Opening timesheet approval event stream");
+        return timesheetEventBus.subscribeApprovers();
     }
 
     @GetMapping("/projects/{projectId}")
-    @PreAuthorize("hasAuthority(@roleProperties.adminRole)")
-    public ResponseEntity<List<TimesheetSummaryDTO>> getProjectTimesheets(
+    @RequiresRole(ADMIN)
+    public CompletableFuture<ResponseEntity<List<TimesheetSummaryDTO>>> getProjectTimesheets(
             @PathVariable String projectId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
         if (startDate.isAfter(endDate)) {
             log.warn("Invalid date range: StartDate {} is after EndDate {}", startDate, endDate);
-            return ResponseEntity.badRequest().body(null);
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(null));
         }
 
         log.info("Fetching project timesheets for projectId: {}, StartDate: {}, EndDate: {}", projectId, startDate, endDate);
-        List<TimesheetSummaryDTO> timesheets = timesheetService.getProjectTimesheets(projectId, startDate, endDate);
-        log.info("Fetched {} timesheets for projectId: {}", timesheets.size(), projectId);
-        return ResponseEntity.ok(timesheets);
+        return CompletableFuture.supplyAsync(() -> {
+            List<TimesheetSummaryDTO> timesheets = timesheetService.getProjectTimesheets(projectId, startDate, endDate);
+            log.info("Fetched {} timesheets for projectId: {}", timesheets.size(), projectId);
+            return ResponseEntity.ok(timesheets);
+        }, bulkheads.reads());
     }
 
     @GetMapping("/stats/summary")
-    @PreAuthorize("hasAuthority(@roleProperties.adminRole)")
-    public ResponseEntity<TimesheetStatsDTO> getTimesheetStats() {
+    @RequiresRole(ADMIN)
+    public CompletableFuture<ResponseEntity<TimesheetStatsDTO>> getTimesheetStats() {
         log.info("Fetching timesheet stats...");
-        TimesheetStatsDTO stats = timesheetService.getTimesheetStats();
-        log.info("Timesheet stats fetched successfully: {}", stats);
-        return ResponseEntity.ok(stats);
+        return CompletableFuture.supplyAsync(() -> {
+            TimesheetStatsDTO stats = timesheetService.getTimesheetStats();
+            log.info("Timesheet stats fetched successfully: {}", stats);
+            return ResponseEntity.ok(stats);
+        }, bulkheads.analytics());
     }
 }
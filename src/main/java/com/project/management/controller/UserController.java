@@ -1,29 +1,36 @@
 package com.project.management.controller;
 
+import com.project.management.bulkhead.Bulkheads;
 import com.project.management.dto.*;
+import com.project.management.security.RequiresRole;
 import com.project.management.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.project.management.security.RequiresRole.Role.ADMIN;
 
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/users")
 @Slf4j
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class UserController {
 
     private final UserService userService;
+    private final Bulkheads bulkheads;
 
 
     @PostMapping
-    @PreAuthorize("hasAuthority(@roleProperties.adminRole)")
+    @RequiresRole(ADMIN)
     public ResponseEntity<ApiResponse<UserDTO>> createUser(@Valid @RequestBody UserRegistrationDTO userDTO) {
         log.info("Creating a new user with details: {}", userDTO);
         UserDTO createdUser = userService.createUser(userDTO);
@@ -32,7 +39,7 @@ public class UserController {
     }
 
     @GetMapping
-    @PreAuthorize("hasAuthority(@roleProperties.adminRole)")
+    @RequiresRole(ADMIN)
     public ResponseEntity<List<UserDTO>> getAllUsers() {
         log.info("Fetching all users...");
         List<UserDTO> users = userService.getAllUsers();
@@ -41,7 +48,7 @@ public class UserController {
     }
 
     @GetMapping("/{userId}")
-    @PreAuthorize("hasAuthority(@roleProperties.adminRole)")
+    @RequiresRole(ADMIN)
     public ResponseEntity<UserDTO> getUserById(@PathVariable String userId) {
         log.info("Fetching details for user with ID: {}", userId);
         UserDTO user = userService.getUserById(userId);
@@ -49,20 +56,30 @@ public class UserController {
         return ResponseEntity.ok(user);
     }
 
+    @PostMapping("/batch")
+    @RequiresRole(ADMIN)
+    public ResponseEntity<BatchLookupResponseDTO<UserDTO>> getUsersByIds(@Valid @RequestBody BatchLookupRequestDTO request) {
+        log.info("Batch fetching {} users", request.getIds().size());
+        BatchLookupResponseDTO<UserDTO> users = userService.getUsersByIds(request.getIds());
+        log.info("Fetched {} users, {} missing", users.getResults().size(), users.getMissingIds().size());
+        return ResponseEntity.ok(users);
+    }
 
     @GetMapping("/stats/weekly")
-    @PreAuthorize("hasAuthority(@roleProperties.adminRole)")
-    public ResponseEntity<List<UserWeeklyStatsDTO>> getUsersWeeklyStats(
+    @RequiresRole(ADMIN)
+    public CompletableFuture<ResponseEntity<List<UserWeeklyStatsDTO>>> getUsersWeeklyStats(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
         log.info("Fetching weekly stats for users from {} to {}", startDate, endDate);
-        List<UserWeeklyStatsDTO> stats = userService.getUsersWeeklyStats(startDate, endDate);
-        log.info("Fetched weekly stats for {} users", stats.size());
-        return ResponseEntity.ok(stats);
+        return CompletableFuture.supplyAsync(() -> {
+            List<UserWeeklyStatsDTO> stats = userService.getUsersWeeklyStats(startDate, endDate);
+            log.info("Fetched weekly stats for {} users", stats.size());
+            return ResponseEntity.ok(stats);
+        }, bulkheads.analytics());
     }
 
     @DeleteMapping("/{userId}")
-    @PreAuthorize("hasAuthority(@roleProperties.adminRole)")
+    @RequiresRole(ADMIN)
     public ResponseEntity<ApiResponse<String>> deleteUser(@PathVariable String userId) {
         log.info("Deleting user with ID: {}", userId);
         userService.deleteUserById(userId);
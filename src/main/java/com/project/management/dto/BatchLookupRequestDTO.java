@@ -0,0 +1,21 @@
+package com.project.management.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchLookupRequestDTO {
+    public static final int MAX_IDS = 100;
+
+    @NotEmpty(message = "At least one ID is required")
+    @Size(max = MAX_IDS, message = "A batch lookup cannot request more than " + MAX_IDS + " IDs")
+    private List<@NotNull(message = "IDs cannot be null") String> ids;
+}
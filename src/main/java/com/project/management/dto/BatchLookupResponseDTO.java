@@ -0,0 +1,43 @@
+package com.project.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchLookupResponseDTO<T> {
+    private Map<String, T> results;
+    private List<String> missingIds;
+
+    /**
+     * Builds a response keyed by the requested IDs in request order (duplicates collapsed), with
+     * every requested ID that has no matching entity reported in {@code missingIds}.
+     */
+    public static <E, T> BatchLookupResponseDTO<T> of(List<String> requestedIds, Iterable<E> found,
+                                                      Function<E, String> idOf, Function<E, T> mapper) {
+        Map<String, E> byId = new HashMap<>();
+        found.forEach(entity -> byId.put(idOf.apply(entity), entity));
+
+        Map<String, T> results = new LinkedHashMap<>();
+        List<String> missingIds = new ArrayList<>();
+        for (String id : new LinkedHashSet<>(requestedIds)) {
+            E entity = byId.get(id);
+            if (entity != null) {
+                results.put(id, mapper.apply(entity));
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new BatchLookupResponseDTO<>(results, missingIds);
+    }
+}
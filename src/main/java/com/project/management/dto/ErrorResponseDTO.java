@@ -0,0 +1,11 @@
+package com.project.management.dto;
+
+import lombok.Value;
+
+/** Body of an error response; immutable so that a template can be shared by every response with its code. */
+@Value
+public class ErrorResponseDTO {
+    int status;
+    String code;
+    String message;
+}
@@ -0,0 +1,144 @@
+package com.project.management.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fans {@link TimesheetStatusChangedEvent}s out to Server-Sent Events subscribers: each user sees
+ * changes to their own timesheets, approvers see every change.
+ * <p>
+ * Publishing never blocks on a client. Every subscriber owns a bounded queue drained by its own
+ * virtual thread; when a subscriber falls so far behind that its queue is full, it is evicted and
+ * its stream completed, and the client's EventSource reconnects and reloads current state.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Slf4j
+public class TimesheetEventBus {
+
+    static final String EVENT_NAME = "timesheet-status";
+    static final String APPROVERS = "approvers";
+    private static final String USER_PREFIX = "user:";
+
+    private final ConcurrentHashMap<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    @Value("${timesheet.events.buffer-size:32}")
+    private int bufferSize = 32;
+
+    @Value("${timesheet.events.timeout-ms:1800000}")
+    private long timeoutMs = 1_800_000;
+
+    @Value("${timesheet.events.heartbeat-ms:25000}")
+    private long heartbeatMs = 25_000;
+
+    public SseEmitter subscribeUser(String userId) {
+        return subscribe(userTopic(userId), new SseEmitter(timeoutMs));
+    }
+
+    public SseEmitter subscribeApprovers() {
+        return subscribe(APPROVERS, new SseEmitter(timeoutMs));
+    }
+
+    SseEmitter subscribe(String topic, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(topic, emitter, new ArrayBlockingQueue<>(bufferSize));
+        subscribers.compute(topic, (_, topicSubscribers) -> {
+            Set<Subscriber> updated = topicSubscribers != null ? topicSubscribers : ConcurrentHashMap.newKeySet();
+            updated.add(subscriber);
+            return updated;
+        });
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(_ -> remove(subscriber));
+        Thread.ofVirtual().name("sse-" + topic).start(() -> drain(subscriber));
+        return emitter;
+    }
+
+    @EventListener
+    public void onStatusChanged(TimesheetStatusChangedEvent event) {
+        publish(userTopic(event.getUserId()), event);
+        publish(APPROVERS, event);
+    }
+
+    static String userTopic(String userId) {
+        return USER_PREFIX + userId;
+    }
+
+    int subscriberCount(String topic) {
+        Set<Subscriber> topicSubscribers = subscribers.get(topic);
+        return topicSubscribers == null ? 0 : topicSubscribers.size();
+    }
+
+    private void publish(String topic, TimesheetStatusChangedEvent event) {
+        Set<Subscriber> topicSubscribers = subscribers.get(topic);
+        if (topicSubscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : topicSubscribers) {
+            if (!subscriber.queue().offer(event)) {
+                log.warn("Evicting slow SSE subscriber on topic {}: {} events buffered", topic, bufferSize);
+                close(subscriber);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            while (!subscriber.closed().get()) {
+                TimesheetStatusChangedEvent event = subscriber.queue().poll(heartbeatMs, TimeUnit.MILLISECONDS);
+                if (subscriber.closed().get()) {
+                    return;
+                }
+                if (event == null) {
+                    subscriber.emitter().send(SseEmitter.event().comment("heartbeat"));
+                } else {
+                    subscriber.emitter().send(SseEmitter.event()
+                            .id(event.getTimesheetId())
+                            .name(EVENT_NAME)
+                            .data(event));
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client went away or the emitter was already completed
+            remove(subscriber);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close(subscriber);
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        if (remove(subscriber)) {
+            subscriber.emitter().complete();
+        }
+    }
+
+    private boolean remove(Subscriber subscriber) {
+        if (!subscriber.closed().compareAndSet(false, true)) {
+            return false;
+        }
+        subscribers.computeIfPresent(subscriber.topic(), (_, topicSubscribers) -> {
+            topicSubscribers.remove(subscriber);
+            return topicSubscribers.isEmpty() ? null : topicSubscribers;
+        });
+        return true;
+    }
+
+    private record Subscriber(String topic, SseEmitter emitter, BlockingQueue<TimesheetStatusChangedEvent> queue,
+                              AtomicBoolean closed) {
+        Subscriber(String topic, SseEmitter emitter, BlockingQueue<TimesheetStatusChangedEvent> queue) {
+            this(topic, emitter, queue, new AtomicBoolean());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.project.management.event;
+
+import com.project.management.Models.TimeSheetStatus;
+import com.project.management.Models.Timesheet;
+import lombok.Value;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Published after a timesheet is submitted, approved or rejected and the change is saved.
+ */
+@Value
+public class TimesheetStatusChangedEvent {
+    String timesheetId;
+    String userId;
+    String projectId;
+    LocalDate weekStartDate;
+    TimeSheetStatus status;
+    Instant occurredAt;
+
+    public static TimesheetStatusChangedEvent of(Timesheet timesheet) {
+        return new TimesheetStatusChangedEvent(
+                timesheet.getId(),
+                timesheet.getUserId(),
+                timesheet.getProjectId(),
+                timesheet.getWeekStartDate(),
+                timesheet.getStatus(),
+                Instant.now()
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package com.project.management.exception;
+
+/**
+ * A routine, expected request failure carrying an {@link ErrorCode}, such as a missing entity or a
+ * duplicate submission.
+ * <p>
+ * These are thrown thousands of times an hour by client retries and always answered the same way,
+ * so they skip filling in a stack trace, which is most of the cost of throwing one from deep in a
+ * request. The trace would only point at the {@code throw} site, which the code already names.
+ */
+public abstract class DomainException extends RuntimeException {
+
+    private final ErrorCode errorCode;
+
+    protected DomainException(ErrorCode errorCode, String message) {
+        super(message, null, false, false);
+        this.errorCode = errorCode;
+    }
+
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+}
@@ -0,0 +1,37 @@
+package com.project.management.exception;
+
+import com.project.management.dto.ErrorResponseDTO;
+import org.springframework.http.HttpStatus;
+
+/** Stable codes for routine request failures, each with its status and a pre-built response for its default message. */
+public enum ErrorCode {
+    RESOURCE_NOT_FOUND(HttpStatus.NOT_FOUND, "Resource not found"),
+    USER_ALREADY_EXISTS(HttpStatus.BAD_REQUEST, "User already exists"),
+    USER_NOT_ASSIGNED(HttpStatus.BAD_REQUEST, "User is not assigned to this project"),
+    TIMESHEET_ALREADY_EXISTS(HttpStatus.CONFLICT, "Timesheet already exists for this week");
+
+    private final HttpStatus status;
+    private final String defaultMessage;
+    private final ErrorResponseDTO template;
+
+    ErrorCode(HttpStatus status, String defaultMessage) {
+        this.status = status;
+        this.defaultMessage = defaultMessage;
+        this.template = new ErrorResponseDTO(status.value(), name(), defaultMessage);
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public String getDefaultMessage() {
+        return defaultMessage;
+    }
+
+    /** The response for {@code message}, reusing the template when it is the default message. */
+    public ErrorResponseDTO response(String message) {
+        return message == null || message.equals(defaultMessage)
+                ? template
+                : new ErrorResponseDTO(status.value(), name(), message);
+    }
+}
@@ -2,24 +2,64 @@ package com.project.management.exception;
 
 
 import com.project.management.dto.ApiResponse;
+import com.project.management.dto.ErrorResponseDTO;
+import com.project.management.limit.TokenBucketLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.nio.file.AccessDeniedException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
 
 @RestControllerAdvice
 @Slf4j
 public class GlobalExceptionHandler {
 
+    private final TokenBucketLimiter domainLogLimiter;
+    private final AtomicLongArray suppressedLogs = new AtomicLongArray(ErrorCode.values().length);
+    private final Map<ErrorCode, Counter> domainErrors = new EnumMap<>(ErrorCode.class);
 
-    @ExceptionHandler(UserAlreadyExistsException.class)
-    public ResponseEntity<String> handleUserAlreadyExistsException(UserAlreadyExistsException ex) {
-        log.error("User registration error: {}", ex.getMessage());
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+    public GlobalExceptionHandler(MeterRegistry meterRegistry,
+                                  @Value("${error-logging.max-per-minute:10}") int maxLogsPerMinute) {
+        this.domainLogLimiter = new TokenBucketLimiter(maxLogsPerMinute, maxLogsPerMinute, Duration.ofMinutes(1),
+                Duration.ofHours(1), ErrorCode.values().length);
+        for (ErrorCode code : ErrorCode.values()) {
+            domainErrors.put(code, Counter.builder("domain.errors").tag("code", code.name()).register(meterRegistry));
+        }
+    }
+
+    /**
+     * Routine failures such as a missing entity or a duplicate submission. They are counted in
+     * {@code domain.errors}, but logged at most {@code error-logging.max-per-minute} times a minute
+     * per code, so client retries cannot flood the log; the next logged line reports how many
+     * were skipped.
+     */
+    @ExceptionHandler(DomainException.class)
+    public ResponseEntity<ErrorResponseDTO> handleDomainException(DomainException ex) {
+        ErrorCode code = ex.getErrorCode();
+        domainErrors.get(code).increment();
+        if (domainLogLimiter.tryAcquire(code.name()) == 0) {
+            long suppressed = suppressedLogs.getAndSet(code.ordinal(), 0);
+            log.info("{}: {}{}", code, ex.getMessage(), suppressed > 0 ? " (" + suppressed + " similar not logged)" : "");
+        } else {
+            suppressedLogs.incrementAndGet(code.ordinal());
+        }
+        return ResponseEntity.status(code.getStatus()).body(code.response(ex.getMessage()));
     }
 
     @ExceptionHandler(org.springframework.security.authorization.AuthorizationDeniedException.class)
@@ -46,6 +86,35 @@ public class GlobalExceptionHandler {
                 .body(new ApiResponse<>(false, "Access Denied: " + ex.getMessage()));
     }
 
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<String> handleValidationException(MethodArgumentNotValidException ex) {
+        String message = ex.getBindingResult().getFieldErrors().stream()
+                .map(FieldError::getDefaultMessage)
+                .collect(Collectors.joining("; "));
+        log.warn("Validation failed: {}", message);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(message);
+    }
+
+    @ExceptionHandler(ServiceTimeoutException.class)
+    public ResponseEntity<String> handleServiceTimeoutException(ServiceTimeoutException ex) {
+        log.error("Request timed out: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(ex.getMessage());
+    }
+
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<String> handleRejectedExecutionException(RejectedExecutionException ex) {
+        log.warn("Request shed: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body("Server is busy, please retry later");
+    }
+
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<String> handleResponseStatusException(ResponseStatusException ex) {
+        log.error("Request failed with status {}: {}", ex.getStatusCode(), ex.getReason());
+        return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<String> handleGenericException(Exception ex) {
         log.error("Unexpected error: {}", ex.getMessage());
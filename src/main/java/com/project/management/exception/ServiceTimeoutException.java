@@ -0,0 +1,11 @@
+package com.project.management.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.GATEWAY_TIMEOUT)
+public class ServiceTimeoutException extends RuntimeException {
+    public ServiceTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.project.management.exception;
+
+/** A timesheet submission that breaks a business rule, e.g. a second timesheet for the same week. */
+public class TimesheetValidationException extends DomainException {
+    public TimesheetValidationException(ErrorCode errorCode) {
+        super(errorCode, errorCode.getDefaultMessage());
+    }
+}
@@ -1,7 +1,7 @@
 package com.project.management.exception;
 
-public class UserAlreadyExistsException extends RuntimeException {
+public class UserAlreadyExistsException extends DomainException {
     public UserAlreadyExistsException(String message) {
-        super(message);
+        super(ErrorCode.USER_ALREADY_EXISTS, message);
     }
 }
@@ -0,0 +1,159 @@
+package com.project.management.limit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Applies an {@link AimdLimiter} per configured endpoint class, so heavy analytics requests cannot
+ * crowd out the rest of the API. Requests over the limit are turned away immediately with 429 and
+ * a {@code Retry-After} header rather than queued.
+ * <p>
+ * The current limit, in-flight count and rejections of every class are published as
+ * {@code concurrency.limit}, {@code concurrency.inflight} and {@code concurrency.rejected}.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private final List<LimitedClass> classes = new ArrayList<>();
+    private final boolean enabled;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        properties.getClasses().forEach((name, settings) -> {
+            AimdLimiter limiter = new AimdLimiter(settings.getInitialLimit(), settings.getMinLimit(),
+                    settings.getMaxLimit(), settings.getBackoffRatio(), settings.getLatencyThresholdMs());
+            Gauge.builder("concurrency.limit", limiter, AimdLimiter::getLimit).tag("class", name).register(meterRegistry);
+            Gauge.builder("concurrency.inflight", limiter, AimdLimiter::getInFlight).tag("class", name).register(meterRegistry);
+            Counter rejected = Counter.builder("concurrency.rejected").tag("class", name).register(meterRegistry);
+            List<EndpointPattern> endpoints = settings.getEndpoints().stream().map(EndpointPattern::parse).toList();
+            classes.add(new LimitedClass(name, settings, endpoints, limiter, rejected));
+        });
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || classify(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        LimitedClass limitedClass = classify(request);
+        AimdLimiter limiter = limitedClass.limiter();
+        if (!limiter.tryAcquire()) {
+            limitedClass.rejected().increment();
+            log.warn("Rejecting {} {}: {} concurrency limit of {} reached",
+                    request.getMethod(), request.getRequestURI(), limitedClass.name(), limiter.getLimit());
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(limitedClass.settings().getRetryAfterSeconds()));
+            response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            response.getWriter().write("Too many concurrent requests, please retry later");
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            // Controllers that hand off to a bulkhead finish later; hold the slot until they do
+            async = request.isAsyncStarted();
+            if (async) {
+                request.getAsyncContext().addListener(new ReleaseOnCompletion(limiter, start, response));
+            }
+        } finally {
+            if (!async) {
+                limiter.release(System.nanoTime() - start, isSuccess(response));
+            }
+        }
+    }
+
+    private static boolean isSuccess(HttpServletResponse response) {
+        return response.getStatus() < HttpStatus.INTERNAL_SERVER_ERROR.value();
+    }
+
+    private LimitedClass classify(HttpServletRequest request) {
+        for (LimitedClass limitedClass : classes) {
+            for (EndpointPattern endpoint : limitedClass.endpoints()) {
+                if (endpoint.matches(request, pathMatcher)) {
+                    return limitedClass;
+                }
+            }
+        }
+        return null;
+    }
+
+    AimdLimiter limiter(String className) {
+        return classes.stream()
+                .filter(limitedClass -> limitedClass.name().equals(className))
+                .map(LimitedClass::limiter)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static final class ReleaseOnCompletion implements AsyncListener {
+        private final AimdLimiter limiter;
+        private final long start;
+        private final HttpServletResponse response;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private ReleaseOnCompletion(AimdLimiter limiter, long start, HttpServletResponse response) {
+            this.limiter = limiter;
+            this.start = start;
+            this.response = response;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release(isSuccess(response));
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release(false);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release(false);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+
+        // onComplete also fires after onTimeout/onError, so only the first notification counts
+        private void release(boolean succeeded) {
+            if (released.compareAndSet(false, true)) {
+                limiter.release(System.nanoTime() - start, succeeded);
+            }
+        }
+    }
+
+    private record LimitedClass(String name, ConcurrencyLimitProperties.EndpointClass settings,
+                                List<EndpointPattern> endpoints, AimdLimiter limiter, Counter rejected) {
+    }
+}
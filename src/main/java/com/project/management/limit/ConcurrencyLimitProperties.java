@@ -0,0 +1,33 @@
+package com.project.management.limit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "concurrency-limits")
+public class ConcurrencyLimitProperties {
+    private boolean enabled = true;
+    private Map<String, EndpointClass> classes = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class EndpointClass {
+        /** Requests in the class, as {@code "<METHOD> <path pattern>"}, e.g. {@code "GET /api/projects/stats"}. */
+        private List<String> endpoints = new ArrayList<>();
+        private int initialLimit = 10;
+        private int minLimit = 1;
+        private int maxLimit = 50;
+        private double backoffRatio = 0.9;
+        private long latencyThresholdMs = 2000;
+        private int retryAfterSeconds = 1;
+    }
+}
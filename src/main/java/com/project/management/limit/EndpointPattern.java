@@ -0,0 +1,24 @@
+package com.project.management.limit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.util.PathMatcher;
+
+/** A configured {@code "<METHOD> <path pattern>"} entry, e.g. {@code "GET /api/projects/stats"}. */
+record EndpointPattern(String method, String pattern) {
+
+    static EndpointPattern parse(String endpoint) {
+        String[] parts = endpoint.trim().split("\\s+", 2);
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Expected '<METHOD> <path pattern>' but got: " + endpoint);
+        }
+        return new EndpointPattern(parts[0], parts[1]);
+    }
+
+    boolean matches(HttpServletRequest request, PathMatcher pathMatcher) {
+        if (!method.equalsIgnoreCase(request.getMethod())) {
+            return false;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return pattern.equals(path) || pathMatcher.match(pattern, path);
+    }
+}
@@ -0,0 +1,316 @@
+package com.project.management.limit;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies per-IP and per-username {@link TokenBucketLimiter}s to the configured routes, so a retry
+ * storm or credential-stuffing run against the auth endpoints is turned away before any BCrypt
+ * work. Requests over a limit get 429 with a {@code Retry-After} of the seconds until the bucket
+ * next has a token.
+ * <p>
+ * The IP is the servlet remote address; behind a proxy set {@code server.forward-headers-strategy}
+ * so that it is the client's. The username is the top-level {@code username} field of the JSON
+ * body, lowercased. To read it, the start of the body is buffered and replayed to the controller.
+ * <p>
+ * Rejections are published as {@code rate.limit.rejected}, tracked keys as {@code rate.limit.keys}
+ * and requests let through because {@code max-keys} were already tracked as
+ * {@code rate.limit.untracked}, all tagged by route and key type.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    static final String IP = "ip";
+    static final String USERNAME = "username";
+
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private final List<LimitedRoute> routes = new ArrayList<>();
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int maxBodyBytes;
+
+    public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.enabled = properties.isEnabled();
+        this.maxBodyBytes = properties.getMaxBodyBytes();
+        properties.getRoutes().forEach((name, settings) -> {
+            List<EndpointPattern> endpoints = settings.getEndpoints().stream().map(EndpointPattern::parse).toList();
+            routes.add(new LimitedRoute(name, endpoints,
+                    keyedLimit(name, IP, settings.getPerIp(), properties, meterRegistry),
+                    keyedLimit(name, USERNAME, settings.getPerUsername(), properties, meterRegistry)));
+        });
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // Matched here rather than in shouldNotFilter, so each request is matched once
+        LimitedRoute route = route(request);
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (route.perIp() != null && reject(route, route.perIp(), request.getRemoteAddr(), response)) {
+            return;
+        }
+        if (route.perUsername() != null) {
+            BufferedBodyRequest buffered = BufferedBodyRequest.wrap(request, maxBodyBytes);
+            String username = buffered.complete() ? username(buffered.prefix()) : null;
+            if (username != null && reject(route, route.perUsername(), username, response)) {
+                return;
+            }
+            request = buffered;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    /** Forgets keys that have gone quiet, so memory follows the active clients rather than every client ever seen. */
+    @Scheduled(fixedDelayString = "${rate-limits.eviction-interval-ms:60000}")
+    public void evictIdleKeys() {
+        int evicted = 0;
+        for (LimitedRoute route : routes) {
+            for (KeyedLimit limit : new KeyedLimit[]{route.perIp(), route.perUsername()}) {
+                if (limit != null) {
+                    evicted += limit.limiter().evictIdle();
+                }
+            }
+        }
+        if (evicted > 0) {
+            log.debug("Evicted {} idle rate limit keys", evicted);
+        }
+    }
+
+    TokenBucketLimiter limiter(String routeName, String keyType) {
+        LimitedRoute route = routes.stream().filter(r -> r.name().equals(routeName)).findFirst().orElseThrow();
+        return (IP.equals(keyType) ? route.perIp() : route.perUsername()).limiter();
+    }
+
+    private boolean reject(LimitedRoute route, KeyedLimit limit, String key, HttpServletResponse response) throws IOException {
+        long waitNanos = limit.limiter().tryAcquire(key);
+        if (waitNanos == 0) {
+            return false;
+        }
+        limit.rejected().increment();
+        log.debug("Rate limiting {} on {} by {}", key, route.name(), limit.keyType());
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ceilSeconds(waitNanos))));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.getWriter().write("Too many requests, please retry later");
+        return true;
+    }
+
+    private static long ceilSeconds(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+
+    private String username(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (USERNAME.equals(field) && value == JsonToken.VALUE_STRING) {
+                    String username = parser.getText().trim();
+                    return username.isEmpty() ? null : username.toLowerCase(Locale.ROOT);
+                }
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            // Malformed bodies are left for the controller to reject
+        }
+        return null;
+    }
+
+    private LimitedRoute route(HttpServletRequest request) {
+        for (LimitedRoute route : routes) {
+            for (EndpointPattern endpoint : route.endpoints()) {
+                if (endpoint.matches(request, pathMatcher)) {
+                    return route;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static KeyedLimit keyedLimit(String route, String keyType, RateLimitProperties.Limit settings,
+                                         RateLimitProperties properties, MeterRegistry meterRegistry) {
+        if (settings == null) {
+            return null;
+        }
+        TokenBucketLimiter limiter = new TokenBucketLimiter(settings.getCapacity(), settings.getRefillTokens(),
+                settings.getRefillPeriod(), properties.getIdleTimeout(), properties.getMaxKeys());
+        Gauge.builder("rate.limit.keys", limiter, TokenBucketLimiter::size)
+                .tag("route", route).tag("key", keyType).register(meterRegistry);
+        FunctionCounter.builder("rate.limit.untracked", limiter, TokenBucketLimiter::untracked)
+                .tag("route", route).tag("key", keyType).register(meterRegistry);
+        Counter rejected = Counter.builder("rate.limit.rejected").tag("route", route).tag("key", keyType).register(meterRegistry);
+        return new KeyedLimit(keyType, limiter, rejected);
+    }
+
+    /**
+     * Reads up to {@code maxBodyBytes + 1} bytes of the body and serves them back, followed by the
+     * rest of the stream, so the controller still sees the whole request.
+     */
+    private static final class BufferedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] prefix;
+        private final boolean complete;
+        private ServletInputStream inputStream;
+
+        private BufferedBodyRequest(HttpServletRequest request, byte[] prefix, boolean complete) {
+            super(request);
+            this.prefix = prefix;
+            this.complete = complete;
+        }
+
+        static BufferedBodyRequest wrap(HttpServletRequest request, int maxBodyBytes) throws IOException {
+            long contentLength = request.getContentLengthLong();
+            if (contentLength > maxBodyBytes) {
+                return new BufferedBodyRequest(request, new byte[0], false);
+            }
+            // A known length is read into an exact-size array; readNBytes would otherwise allocate its full buffer
+            int limit = contentLength >= 0 ? (int) contentLength : maxBodyBytes + 1;
+            byte[] prefix = request.getInputStream().readNBytes(limit);
+            return new BufferedBodyRequest(request, prefix, prefix.length <= maxBodyBytes);
+        }
+
+        byte[] prefix() {
+            return prefix;
+        }
+
+        /** Whether {@link #prefix} is the whole body. */
+        boolean complete() {
+            return complete;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                ServletInputStream rest = super.getInputStream();
+                inputStream = prefix.length == 0 ? rest : new ReplayingInputStream(prefix, rest);
+            }
+            return inputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+
+    /**
+     * Serves the buffered prefix, then the rest of the container's stream. Non-blocking reads are
+     * registered with the container's stream; the prefix is handed to the listener on its first
+     * callback, including {@code onAllDataRead} when the prefix was the whole body.
+     */
+    private static final class ReplayingInputStream extends ServletInputStream {
+        private final byte[] prefix;
+        private final ServletInputStream rest;
+        private int position;
+
+        private ReplayingInputStream(byte[] prefix, ServletInputStream rest) {
+            this.prefix = prefix;
+            this.rest = rest;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return position < prefix.length ? prefix[position++] & 0xff : rest.read();
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (position >= prefix.length) {
+                return rest.read(buffer, offset, length);
+            }
+            int n = Math.min(length, prefix.length - position);
+            System.arraycopy(prefix, position, buffer, offset, n);
+            position += n;
+            return n;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return position >= prefix.length && rest.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return position < prefix.length || rest.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            rest.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    readListener.onDataAvailable();
+                }
+
+                @Override
+                public void onAllDataRead() throws IOException {
+                    if (position < prefix.length) {
+                        readListener.onDataAvailable();
+                    }
+                    readListener.onAllDataRead();
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    readListener.onError(t);
+                }
+            });
+        }
+    }
+
+    private record KeyedLimit(String keyType, TokenBucketLimiter limiter, Counter rejected) {
+    }
+
+    private record LimitedRoute(String name, List<EndpointPattern> endpoints, KeyedLimit perIp, KeyedLimit perUsername) {
+    }
+}
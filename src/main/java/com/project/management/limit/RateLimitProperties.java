@@ -0,0 +1,46 @@
+package com.project.management.limit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limits")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    /** A key whose bucket has been full for this long is forgotten. */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+    /** Tracked keys per route and key type; beyond this, requests from new keys are not limited. */
+    private int maxKeys = 100_000;
+    /** Largest body read to find the username; larger requests are limited by IP only. */
+    private int maxBodyBytes = 4096;
+    private Map<String, Route> routes = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Route {
+        /** Requests on the route, as {@code "<METHOD> <path pattern>"}, e.g. {@code "POST /api/auth/login"}. */
+        private List<String> endpoints = new ArrayList<>();
+        private Limit perIp;
+        /** Keyed by the {@code username} field of the JSON body. */
+        private Limit perUsername;
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+        /** Requests allowed in a burst. */
+        private int capacity = 10;
+        private int refillTokens = 10;
+        private Duration refillPeriod = Duration.ofMinutes(1);
+    }
+}
@@ -0,0 +1,103 @@
+package com.project.management.limit;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keyed token buckets: each key may take {@code capacity} requests in a burst, and regains
+ * {@code refillTokens} every {@code refillPeriod}.
+ * <p>
+ * A bucket is a single {@link AtomicLong}, using the GCRA form of the token bucket: it holds the
+ * time at which the bucket would be full again, each request pushes that time one emission
+ * interval further out, and a request is refused if the time would end up more than
+ * {@code capacity} intervals ahead of now. Taking a token is one compare-and-set, with no lock and
+ * no refill task. A refused request learns exactly how long until its next token.
+ * <p>
+ * A bucket that has been full for {@code idleTimeout} holds nothing a fresh bucket would not, so
+ * {@link #evictIdle} drops it. Once {@code maxKeys} buckets exist, requests from keys without a
+ * bucket are let through untracked until eviction makes room, which bounds memory when keys are
+ * sprayed without locking real clients out behind the sprayer. Keys that already have a bucket
+ * stay limited, and {@link #untracked} counts the requests let through.
+ */
+public class TokenBucketLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final long idleTimeoutNanos;
+    private final int maxKeys;
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final LongAdder untracked = new LongAdder();
+
+    public TokenBucketLimiter(int capacity, int refillTokens, Duration refillPeriod, Duration idleTimeout, int maxKeys) {
+        if (capacity < 1 || refillTokens < 1 || refillPeriod.isNegative() || refillPeriod.isZero() || maxKeys < 1) {
+            throw new IllegalArgumentException("Invalid token bucket settings");
+        }
+        this.emissionIntervalNanos = Math.max(1, refillPeriod.toNanos() / refillTokens);
+        this.burstNanos = emissionIntervalNanos * capacity;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.maxKeys = maxKeys;
+    }
+
+    /** Takes a token for {@code key}: 0 if one was available, otherwise the nanoseconds until one is. */
+    public long tryAcquire(String key) {
+        return tryAcquire(key, System.nanoTime());
+    }
+
+    long tryAcquire(String key, long now) {
+        AtomicLong bucket = bucket(key, now);
+        if (bucket == null) {
+            untracked.increment();
+            return 0;
+        }
+        while (true) {
+            long fullAt = bucket.get();
+            long next = Math.max(fullAt, now) + emissionIntervalNanos;
+            long excess = next - now - burstNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (bucket.compareAndSet(fullAt, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /** Drops buckets that have been full for at least the idle timeout; returns how many. */
+    public int evictIdle() {
+        return evictIdle(System.nanoTime());
+    }
+
+    int evictIdle(long now) {
+        int evicted = 0;
+        for (Map.Entry<String, AtomicLong> entry : buckets.entrySet()) {
+            // A concurrent acquire that lost its bucket here gets a fresh, full one: at worst one extra burst
+            if (now - entry.getValue().get() >= idleTimeoutNanos && buckets.remove(entry.getKey(), entry.getValue())) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    /** Requests let through because their key had no bucket and {@code maxKeys} were tracked. */
+    public long untracked() {
+        return untracked.sum();
+    }
+
+    private AtomicLong bucket(String key, long now) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxKeys) {
+            return null;
+        }
+        return buckets.computeIfAbsent(key, _ -> new AtomicLong(now));
+    }
+}
@@ -0,0 +1,139 @@
+package com.project.management.migration;
+
+import com.project.management.Models.User;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * One-off removal of email addresses shared by several users, so that
+ * {@link com.project.management.service.UserIndexes} can build the unique email index. An operator
+ * runs it on its own with the {@code dedup-emails} profile, and the application exits when done:
+ * <pre>
+ * java -jar target/TimeSheetManagement-1.0.0-exec.jar --spring.profiles.active=dedup-emails \
+ *     --spring.main.web-application-type=none
+ * </pre>
+ * The user created first keeps a shared address and the others have their email removed. A user's
+ * creation time is its {@code createdAt}, or the timestamp of its ObjectId where that is unset. An
+ * address where a holder's creation time cannot be told, or where the earliest two holders were
+ * created at the same instant, is reported and left to be resolved by hand.
+ * <p>
+ * By default this is a dry run that only logs what would change; {@code dedup-emails.apply=true}
+ * makes the changes. Each removal only applies while the user still has that address.
+ */
+@Component
+@Profile("dedup-emails")
+@Slf4j
+public class DuplicateEmailMigration implements ApplicationRunner {
+
+    static final String EMAIL = "email";
+    static final String CREATED_AT = "createdAt";
+
+    private final MongoTemplate mongoTemplate;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${dedup-emails.apply:false}")
+    private boolean apply = false;
+
+    public DuplicateEmailMigration(MongoTemplate mongoTemplate, ConfigurableApplicationContext context) {
+        this.mongoTemplate = mongoTemplate;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        migrate();
+        System.exit(SpringApplication.exit(context));
+    }
+
+    /** Removes (or, in a dry run, reports) shared emails; returns how many users lose theirs. */
+    long migrate() {
+        long removed = 0;
+        int unresolved = 0;
+        for (Document duplicate : duplicates()) {
+            Object email = duplicate.get("_id");
+            List<Holder> holders = new ArrayList<>();
+            for (Document user : duplicate.getList("users", Document.class)) {
+                holders.add(new Holder(user.get("_id"), createdAt(user)));
+            }
+            if (holders.stream().anyMatch(holder -> holder.createdAt() == null)) {
+                log.warn("Email {} is shared by users {}, not all with a known creation time; resolve it by hand",
+                        email, ids(holders));
+                unresolved++;
+                continue;
+            }
+            holders.sort(Comparator.comparing(Holder::createdAt));
+            if (holders.get(0).createdAt().equals(holders.get(1).createdAt())) {
+                log.warn("Email {} is shared by users {} created at the same time; resolve it by hand",
+                        email, ids(holders));
+                unresolved++;
+                continue;
+            }
+            List<Object> others = ids(holders.subList(1, holders.size()));
+            log.info("Email {}: {} keeps it, removing it from {}", email, holders.get(0).id(), others);
+            if (apply) {
+                removed += mongoTemplate.updateMulti(
+                        Query.query(Criteria.where("_id").in(others).and(EMAIL).is(email)),
+                        new Update().unset(EMAIL), User.class).getModifiedCount();
+            } else {
+                removed += others.size();
+            }
+        }
+        if (apply) {
+            log.info("Removed the email of {} users; {} shared emails left to resolve by hand", removed, unresolved);
+        } else {
+            log.info("Dry run: would remove the email of {} users ({} shared emails left to resolve by hand);"
+                    + " rerun with dedup-emails.apply=true to make the changes", removed, unresolved);
+        }
+        return removed;
+    }
+
+    /** Emails held by more than one user, each with its users' ids and creation times. */
+    private List<Document> duplicates() {
+        Aggregation aggregation = Aggregation.newAggregation(
+                        Aggregation.match(Criteria.where(EMAIL).exists(true)),
+                        Aggregation.project(EMAIL, CREATED_AT),
+                        Aggregation.group(EMAIL).push(Aggregation.ROOT).as("users").count().as("count"),
+                        Aggregation.match(Criteria.where("count").gt(1)))
+                .withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+        return mongoTemplate.aggregate(aggregation, mongoTemplate.getCollectionName(User.class), Document.class)
+                .getMappedResults();
+    }
+
+    private static Instant createdAt(Document user) {
+        if (user.get(CREATED_AT) instanceof Date createdAt) {
+            return createdAt.toInstant();
+        }
+        // Users registered before createdAt was set on every path still carry their creation time in the id
+        if (user.get("_id") instanceof ObjectId id) {
+            return id.getDate().toInstant();
+        }
+        return null;
+    }
+
+    private static List<Object> ids(List<Holder> holders) {
+        return holders.stream().map(Holder::id).toList();
+    }
+
+    private record Holder(Object id, Instant createdAt) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.project.management.repository;
+
+import com.project.management.Models.Timesheet;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+
+@Repository
+public interface ReactiveTimesheetRepository extends ReactiveMongoRepository<Timesheet, String> {
+    Flux<Timesheet> findByUserIdAndWeekStartDateBetween(String userId, LocalDate startDate, LocalDate endDate);
+    Flux<Timesheet> findByProjectIdAndWeekStartDateBetween(String projectId, LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,9 @@
+package com.project.management.repository;
+
+import com.project.management.Models.User;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReactiveUserRepository extends ReactiveMongoRepository<User, String> {
+}
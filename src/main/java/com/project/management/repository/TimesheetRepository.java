@@ -9,9 +9,10 @@ import java.util.List;
 
 
 @Repository
-public interface TimesheetRepository extends MongoRepository<Timesheet, String> {
+public interface TimesheetRepository extends MongoRepository<Timesheet, String>, TimesheetRepositoryCustom {
     List<Timesheet> findByUserIdAndWeekStartDateBetween(String userId, LocalDate startDate, LocalDate endDate);
     List<Timesheet> findByProjectId(String projectId);
+    List<Timesheet> findTop5ByProjectIdOrderBySubmittedAtDesc(String projectId);
     List<Timesheet> findByProjectIdAndWeekStartDateBetween(String projectId, LocalDate startDate, LocalDate endDate);
     List<Timesheet> findByProjectIdAndWeekStartDateAfter(String projectId, LocalDate startDate);
     List<Timesheet> findByWeekStartDateAfter(LocalDate date);
@@ -0,0 +1,27 @@
+package com.project.management.repository;
+
+import com.project.management.Models.Timesheet;
+import org.springframework.data.domain.Range;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface TimesheetRepositoryCustom {
+
+    /**
+     * A user's timesheets whose week start falls in any of the given ranges, fetched in a single
+     * {@code $or} query.
+     */
+    List<Timesheet> findByUserIdAndWeekStartDateInRanges(String userId, List<Range<LocalDate>> ranges);
+
+    /** The project-scoped counterpart of {@link #findByUserIdAndWeekStartDateInRanges}. */
+    List<Timesheet> findByProjectIdAndWeekStartDateInRanges(String projectId, List<Range<LocalDate>> ranges);
+
+    /**
+     * Where the timesheets with a week start after {@code date} sit, newest week first: only the
+     * user, project and week are loaded, and documents are read from a cursor as the stream is
+     * consumed. The stream must be closed.
+     */
+    Stream<Timesheet> streamPlacementsByWeekStartDateAfter(LocalDate date);
+}
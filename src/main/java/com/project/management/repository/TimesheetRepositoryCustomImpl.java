@@ -0,0 +1,67 @@
+package com.project.management.repository;
+
+import com.project.management.Models.Timesheet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class TimesheetRepositoryCustomImpl implements TimesheetRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<Timesheet> findByUserIdAndWeekStartDateInRanges(String userId, List<Range<LocalDate>> ranges) {
+        return findInRanges("userId", userId, ranges);
+    }
+
+    @Override
+    public List<Timesheet> findByProjectIdAndWeekStartDateInRanges(String projectId, List<Range<LocalDate>> ranges) {
+        return findInRanges("projectId", projectId, ranges);
+    }
+
+    @Override
+    public Stream<Timesheet> streamPlacementsByWeekStartDateAfter(LocalDate date) {
+        Query query = new Query(Criteria.where("weekStartDate").gt(date))
+                .with(Sort.by(Sort.Direction.DESC, "weekStartDate"));
+        query.fields().include("userId", "projectId", "weekStartDate");
+        return mongoTemplate.stream(query, Timesheet.class);
+    }
+
+    private List<Timesheet> findInRanges(String field, String value, List<Range<LocalDate>> ranges) {
+        if (ranges.isEmpty()) {
+            return List.of();
+        }
+        Criteria[] weeks = ranges.stream().map(TimesheetRepositoryCustomImpl::toCriteria).toArray(Criteria[]::new);
+        Query query = new Query(Criteria.where(field).is(value).orOperator(weeks));
+        return mongoTemplate.find(query, Timesheet.class);
+    }
+
+    private static Criteria toCriteria(Range<LocalDate> range) {
+        Criteria criteria = Criteria.where("weekStartDate");
+        Range.Bound<LocalDate> lower = range.getLowerBound();
+        Range.Bound<LocalDate> upper = range.getUpperBound();
+        lower.getValue().ifPresent(value -> {
+            if (lower.isInclusive()) {
+                criteria.gte(value);
+            } else {
+                criteria.gt(value);
+            }
+        });
+        upper.getValue().ifPresent(value -> {
+            if (upper.isInclusive()) {
+                criteria.lte(value);
+            } else {
+                criteria.lt(value);
+            }
+        });
+        return criteria;
+    }
+}
@@ -1,14 +1,17 @@
 package com.project.management.repository;
 
 import com.project.management.Models.User;
+import com.project.management.Models.UserRole;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 import org.springframework.stereotype.Repository;
 
 
 
 import java.util.Optional;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends MongoRepository<User, String> {
@@ -18,6 +21,15 @@ public interface UserRepository extends MongoRepository<User, String> {
     List<User> findAllById(List<String> userIds);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
+    Optional<User> findFirstByRole(UserRole role);
+    @Query(value = "{ $or: [ { 'username': ?0 }, { 'email': ?1 } ] }", fields = "{ 'username': 1, 'email': 1 }")
+    List<User> findByUsernameOrEmail(String username, String email);
+    @Query(value = "{}", fields = "{ 'username': 1, 'email': 1 }")
+    Stream<User> streamUsernamesAndEmails();
+    // Only replaces the hash it was computed from, so a password changed meanwhile is kept
+    @Query("{ '_id': ?0, 'password': ?1 }")
+    @Update("{ '$set': { 'password': ?2 } }")
+    long replacePassword(String userId, String currentHash, String newHash);
 
 }
 
@@ -0,0 +1,53 @@
+package com.project.management.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+
+@Configuration
+@Slf4j
+public class PasswordEncoderConfig {
+
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+    /**
+     * BCrypt at {@code password-hashing.strength}, or otherwise at the highest cost between the
+     * configured bounds whose hash still fits the target latency on this machine. Hashes stored at
+     * a lower cost are upgraded on the next successful login.
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        int strength = properties.getStrength() != null
+                ? properties.getStrength()
+                : calibrate(properties.getTargetLatency(), properties.getMinStrength(), properties.getMaxStrength());
+        Gauge.builder("password.hash.strength", () -> strength).register(meterRegistry);
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    static int calibrate(Duration targetLatency, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minStrength);
+        encoder.encode(CALIBRATION_PASSWORD);
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            encoder.encode(CALIBRATION_PASSWORD);
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+        // Each step up in cost doubles the work
+        int strength = minStrength;
+        long estimate = fastest;
+        while (strength < maxStrength && estimate * 2 <= targetLatency.toNanos()) {
+            strength++;
+            estimate *= 2;
+        }
+        log.info("Calibrated BCrypt cost {} (~{} ms per hash, target {} ms)", strength,
+                Duration.ofNanos(estimate).toMillis(), targetLatency.toMillis());
+        return strength;
+    }
+}
@@ -0,0 +1,122 @@
+package com.project.management.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs password hashing and verification on a dedicated bounded executor, so a login storm queues
+ * here instead of taking every core and request thread.
+ * <p>
+ * BCrypt is pure CPU, and virtual threads doing it would hold their carriers for the whole hash,
+ * so the workers are platform threads: at most {@code password-hashing.max-concurrency} hashes run
+ * at once, leaving the remaining cores to request handling. Up to {@code queue-capacity} more wait.
+ * A task that has waited longer than {@code max-queue-wait} is dropped when it reaches a worker,
+ * because its caller is likely to have given up. Both overload cases raise
+ * {@link RejectedExecutionException}, which the API answers with 503 and {@code Retry-After}.
+ * Callers block until the result is ready, which is cheap on the virtual request threads.
+ * <p>
+ * Publishes {@code password.hash.duration} (by operation), {@code password.hash.queue.wait},
+ * {@code password.hash.rejected} (by reason: {@code full} or {@code queue_timeout}) and
+ * {@code password.hash.queue.depth}.
+ */
+@Component
+@Slf4j
+public class PasswordHashing implements DisposableBean {
+
+    private final PasswordEncoder passwordEncoder;
+    private final long maxQueueWaitNanos;
+    private final ThreadPoolExecutor pool;
+    private final Timer matchesTimer;
+    private final Timer encodeTimer;
+    private final Timer queueWait;
+    private final Counter queueTimeouts;
+
+    public PasswordHashing(PasswordEncoder passwordEncoder, PasswordHashingProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.maxQueueWaitNanos = properties.getMaxQueueWait().toNanos();
+        this.matchesTimer = Timer.builder("password.hash.duration").tag("operation", "matches").register(meterRegistry);
+        this.encodeTimer = Timer.builder("password.hash.duration").tag("operation", "encode").register(meterRegistry);
+        this.queueWait = Timer.builder("password.hash.queue.wait").register(meterRegistry);
+        this.queueTimeouts = rejected(meterRegistry, "queue_timeout");
+        Counter full = rejected(meterRegistry, "full");
+        this.pool = new ThreadPoolExecutor(
+                properties.getMaxConcurrency(), properties.getMaxConcurrency(),
+                30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                Thread.ofPlatform().name("password-hash-", 0).daemon().factory(),
+                (task, executor) -> {
+                    full.increment();
+                    log.warn("Password hashing queue is full, rejecting task");
+                    throw new RejectedExecutionException("Password hashing is overloaded");
+                });
+        pool.allowCoreThreadTimeOut(true);
+        Gauge.builder("password.hash.queue.depth", pool, executor -> executor.getQueue().size()).register(meterRegistry);
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return join(submit(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return join(encodeAsync(rawPassword));
+    }
+
+    /** Queues a hash without waiting for it; throws {@link RejectedExecutionException} at once if the queue is full. */
+    public CompletableFuture<String> encodeAsync(CharSequence rawPassword) {
+        return submit(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /** Whether {@code encodedPassword} was hashed at a lower cost than the configured one. */
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdown();
+    }
+
+    private <T> CompletableFuture<T> submit(Timer timer, Supplier<T> work) {
+        long queuedAt = System.nanoTime();
+        return CompletableFuture.supplyAsync(() -> {
+            long waited = System.nanoTime() - queuedAt;
+            queueWait.record(waited, TimeUnit.NANOSECONDS);
+            if (waited > maxQueueWaitNanos) {
+                queueTimeouts.increment();
+                throw new RejectedExecutionException("Password hashing request waited "
+                        + TimeUnit.NANOSECONDS.toMillis(waited) + " ms in queue");
+            }
+            return timer.record(work);
+        }, pool);
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Counter rejected(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("password.hash.rejected").tag("reason", reason).register(meterRegistry);
+    }
+}
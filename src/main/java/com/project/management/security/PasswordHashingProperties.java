@@ -0,0 +1,25 @@
+package com.project.management.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "password-hashing")
+public class PasswordHashingProperties {
+    /** Hashes computed at once; defaults to half the cores so request handling keeps the rest. */
+    private int maxConcurrency = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    private int queueCapacity = 256;
+    /** A verification still queued after this long is dropped and the login answered with 503. */
+    private Duration maxQueueWait = Duration.ofSeconds(2);
+    /** Fixed BCrypt cost; when unset, the cost is calibrated at startup to {@link #targetLatency}. */
+    private Integer strength;
+    private Duration targetLatency = Duration.ofMillis(250);
+    private int minStrength = 10;
+    private int maxStrength = 14;
+}
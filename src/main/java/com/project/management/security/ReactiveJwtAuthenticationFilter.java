@@ -0,0 +1,56 @@
+package com.project.management.security;
+
+import com.project.management.repository.ReactiveUserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * WebFlux counterpart of {@link JwtAuthenticationFilter}: validates the bearer token and loads
+ * the user through the reactive repository, so authentication never blocks an event-loop thread.
+ * <p>
+ * Deliberately not a {@code @Component}: WebFlux would register it as a global filter in addition
+ * to its place in the security chain. {@link ReactiveSecurityConfig} adds it to the chain.
+ */
+@RequiredArgsConstructor
+public class ReactiveJwtAuthenticationFilter implements WebFilter {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final ReactiveUserRepository userRepository;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String token = getJwtFromRequest(exchange);
+        if (token == null || !jwtTokenProvider.validateToken(token)) {
+            return chain.filter(exchange);
+        }
+
+        String userId = jwtTokenProvider.getUserIdFromToken(token);
+        // Resolve to an Optional first: chaining chain.filter() inside flatMap and falling back with
+        // switchIfEmpty would run the rest of the chain twice, because chain.filter() completes empty.
+        return userRepository.findById(userId)
+                .map(user -> Optional.<Authentication>of(
+                        new UsernamePasswordAuthenticationToken(userId, null, user.getAuthorities())))
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(authentication -> authentication
+                        .map(auth -> chain.filter(exchange)
+                                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(auth)))
+                        .orElseGet(() -> chain.filter(exchange)));
+    }
+
+    private String getJwtFromRequest(ServerWebExchange exchange) {
+        String bearerToken = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
+            return bearerToken.substring(7);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,32 @@
+package com.project.management.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Restricts a controller method (or every method of a class) to callers holding any of the given
+ * roles, as configured in {@link RoleProperties}. Equivalent to
+ * {@code @PreAuthorize("hasAnyAuthority(@roleProperties.adminRole, ...)")}, but checked by
+ * {@link RoleAuthorizationManager} without evaluating an expression per call.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RequiresRole {
+
+    Role[] value();
+
+    /**
+     * Name of a method parameter; callers whose user ID equals its value are allowed without the
+     * role, as in {@code hasAuthority(...) or #userId == authentication.name}.
+     */
+    String orSelf() default "";
+
+    enum Role {
+        ADMIN,
+        USER
+    }
+}
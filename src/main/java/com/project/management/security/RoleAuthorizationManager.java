@@ -0,0 +1,152 @@
+package com.project.management.security;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.Pointcuts;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.ReactiveAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Decides {@link RequiresRole} checks with bitmasks instead of SpEL.
+ * <p>
+ * The authority of each role is read from {@link RoleProperties} once. The advisors supply the
+ * properties lazily and they are read on the first check: the advisors are created while bean
+ * post-processors are being registered, and resolving the properties then would also create them
+ * and the configuration declaring them too early to be post-processed. The first call to a method
+ * turns its annotation into a mask of accepted roles, plus the index of its {@code orSelf}
+ * parameter, and caches it. Each check then reduces the caller's authorities to a
+ * role mask and tests the overlap, which is what {@code hasAnyAuthority} does with strings. As with
+ * {@code @PreAuthorize}, the method-security interceptor turns a denial into
+ * {@code AuthorizationDeniedException}.
+ */
+public class RoleAuthorizationManager
+        implements AuthorizationManager<MethodInvocation>, ReactiveAuthorizationManager<MethodInvocation> {
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+    private static final RequiresRole.Role[] ROLES = RequiresRole.Role.values();
+
+    private final Supplier<RoleProperties> roleProperties;
+    private volatile String[] roleAuthorities;
+    private final Map<Method, Requirement> requirements = new ConcurrentHashMap<>();
+
+    /** Methods annotated with {@link RequiresRole}, directly or through their class. */
+    public static Pointcut pointcut() {
+        return Pointcuts.union(new AnnotationMatchingPointcut(null, RequiresRole.class, true),
+                new AnnotationMatchingPointcut(RequiresRole.class, true));
+    }
+
+    public RoleAuthorizationManager(RoleProperties roleProperties) {
+        this(() -> roleProperties);
+        roleAuthorities();
+    }
+
+    /** Reads {@code roleProperties} on the first check rather than now. */
+    public RoleAuthorizationManager(Supplier<RoleProperties> roleProperties) {
+        this.roleProperties = roleProperties;
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        return decide(authentication.get(), invocation);
+    }
+
+    @Override
+    public Mono<AuthorizationDecision> check(Mono<Authentication> authentication, MethodInvocation invocation) {
+        return authentication
+                .map(auth -> decide(auth, invocation))
+                .defaultIfEmpty(DENIED);
+    }
+
+    private AuthorizationDecision decide(Authentication authentication, MethodInvocation invocation) {
+        if (authentication == null) {
+            return DENIED;
+        }
+        Requirement requirement = requirements.computeIfAbsent(invocation.getMethod(), this::requirement);
+        if ((roleMask(authentication) & requirement.roles()) != 0) {
+            return GRANTED;
+        }
+        if (requirement.selfParameter() >= 0
+                && Objects.equals(invocation.getArguments()[requirement.selfParameter()], authentication.getName())) {
+            return GRANTED;
+        }
+        return DENIED;
+    }
+
+    /** The caller's configured roles, one bit per {@link RequiresRole.Role}. */
+    int roleMask(Authentication authentication) {
+        String[] roleAuthorities = roleAuthorities();
+        int mask = 0;
+        for (GrantedAuthority granted : authentication.getAuthorities()) {
+            String authority = granted.getAuthority();
+            for (int i = 0; i < roleAuthorities.length; i++) {
+                if (roleAuthorities[i].equals(authority)) {
+                    mask |= 1 << i;
+                }
+            }
+        }
+        return mask;
+    }
+
+    private String[] roleAuthorities() {
+        String[] authorities = roleAuthorities;
+        if (authorities == null) {
+            // Racing first checks resolve the same values, so whichever is published wins harmlessly
+            RoleProperties properties = roleProperties.get();
+            authorities = new String[ROLES.length];
+            authorities[RequiresRole.Role.ADMIN.ordinal()] = properties.getAdminRole();
+            authorities[RequiresRole.Role.USER.ordinal()] = properties.getUserRole();
+            for (RequiresRole.Role role : ROLES) {
+                if (authorities[role.ordinal()] == null) {
+                    throw new IllegalStateException("No authority configured for role " + role);
+                }
+            }
+            roleAuthorities = authorities;
+        }
+        return authorities;
+    }
+
+    private Requirement requirement(Method method) {
+        RequiresRole annotation = AnnotatedElementUtils.findMergedAnnotation(method, RequiresRole.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(method.getDeclaringClass(), RequiresRole.class);
+        }
+        if (annotation == null) {
+            throw new IllegalStateException("No @RequiresRole on " + method);
+        }
+        int roles = 0;
+        for (RequiresRole.Role role : annotation.value()) {
+            roles |= 1 << role.ordinal();
+        }
+        return new Requirement(roles, parameterIndex(method, annotation.orSelf()));
+    }
+
+    private static int parameterIndex(Method method, String name) {
+        if (name.isEmpty()) {
+            return -1;
+        }
+        Parameter[] parameters = method.getParameters();
+        for (int i = 0; i < parameters.length; i++) {
+            if (parameters[i].getName().equals(name)) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("@RequiresRole(orSelf = \"" + name + "\") names no parameter of " + method);
+    }
+
+    private record Requirement(int roles, int selfParameter) {
+    }
+}
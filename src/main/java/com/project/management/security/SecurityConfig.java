@@ -2,15 +2,21 @@ package com.project.management.security;
 
 import com.project.management.service.CustomUserDetailsService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.aop.Advisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
 
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authorization.method.AuthorizationInterceptorsOrder;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
@@ -20,11 +26,13 @@ import java.util.Collections;
 
 
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @EnableMethodSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final CustomUserDetailsService customUserDetailsService;
+    private final PasswordEncoder passwordEncoder;
 
 
     @Bean
@@ -42,22 +50,33 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/**",
+                                "/actuator/health",
+                                "/actuator/health/**",
                                 "/api/users",
                                 "/api/users/stats/weekly",
                                 "/api/users/{userID}",
+                                "/api/users/batch",
                                 "/api/projects",
                                 "/api/projects/{projectID}",
                                 "/api/projects/{projectID}/users",
                                 "/api/projects/stats",
+                                "/api/projects/batch",
                                 "/api/timesheets",
                                 "/api/timesheets/{timesheetID}",
+                                "/api/timesheets/batch-get",
                                 "/api/timesheets/projects/{projectID}",
                                 "/api/timesheets/users/{userID}",
+                                "/api/timesheets/users/{userID}/events",
+                                "/api/timesheets/approvals/events",
                                 "/api/timesheets/stats/summary",
                                 "/api/timesheets/{timesheetID}/approve",
                                 "/api/timesheets/{timesheetID}/reject",
+                                "/api/reactive/timesheets/{timesheetID}",
+                                "/api/reactive/timesheets/users/{userID}",
+                                "/api/reactive/timesheets/projects/{projectID}",
                                 "/api/metrics/",
-                                "/api/metrics/dashboard"
+                                "/api/metrics/dashboard",
+                                "/api/metrics/dashboard/stream"
                         ).permitAll()
                         .anyRequest().authenticated()
                 );
@@ -70,18 +89,23 @@ public class SecurityConfig {
         return new RoleProperties();
     }
 
+    /** Runs {@link RequiresRole} checks where {@code @PreAuthorize} checks would run. */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor requiresRoleAuthorization(ObjectProvider<RoleProperties> roleProperties) {
+        AuthorizationManagerBeforeMethodInterceptor interceptor = new AuthorizationManagerBeforeMethodInterceptor(
+                RoleAuthorizationManager.pointcut(), new RoleAuthorizationManager(roleProperties::getObject));
+        interceptor.setOrder(AuthorizationInterceptorsOrder.PRE_AUTHORIZE.getOrder());
+        return interceptor;
+    }
+
     @Bean
     public AuthenticationManager authenticationManager(HttpSecurity http) throws Exception {
         AuthenticationManagerBuilder authenticationManagerBuilder = http.getSharedObject(AuthenticationManagerBuilder.class);
         authenticationManagerBuilder
                 .userDetailsService(customUserDetailsService)
-                .passwordEncoder(passwordEncoder());
+                .passwordEncoder(passwordEncoder);
         return authenticationManagerBuilder.build();
     }
-
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
 }
 
@@ -0,0 +1,148 @@
+package com.project.management.seed;
+
+import com.project.management.Models.Project;
+import com.project.management.Models.Timesheet;
+import com.project.management.Models.User;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fills MongoDB with a {@link SyntheticDatasetGenerator} data set when the {@code seed} profile is
+ * active, for load tests and for reproducing production-sized behaviour locally:
+ * <pre>
+ * java -jar target/TimeSheetManagement-1.0.0-exec.jar --spring.profiles.active=seed --seed.users=20000
+ * </pre>
+ * Users are inserted first. Timesheets follow in unordered bulk inserts of {@code seed.batch-size}
+ * documents, {@code seed.parallelism} at a time, each task generating the timesheets of its own
+ * range of users. Projects go last, once their billed hours are known. A database that already
+ * has users is left alone unless {@code seed.drop} is set.
+ * <p>
+ * Seeding runs before the application reports ready, so warm-up and the availability filter see
+ * the seeded data. With {@code seed.exit-when-done} the application then shuts down.
+ */
+@Component
+@Profile("seed")
+@Slf4j
+public class DatasetSeeder implements ApplicationRunner {
+
+    private final SeedProperties properties;
+    private final MongoTemplate mongoTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final ConfigurableApplicationContext context;
+
+    public DatasetSeeder(SeedProperties properties, MongoTemplate mongoTemplate, PasswordEncoder passwordEncoder,
+                         ConfigurableApplicationContext context) {
+        this.properties = properties;
+        this.mongoTemplate = mongoTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        seed();
+        if (properties.isExitWhenDone()) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+
+    /** Seeds the database; returns the number of timesheets written, or -1 if it already had users. */
+    public long seed() throws InterruptedException, ExecutionException {
+        if (properties.isDrop()) {
+            for (Class<?> type : List.of(User.class, Project.class, Timesheet.class)) {
+                mongoTemplate.getCollection(mongoTemplate.getCollectionName(type)).deleteMany(new Document());
+            }
+        } else if (mongoTemplate.estimatedCount(User.class) > 0) {
+            log.warn("Database already has users; not seeding (set seed.drop to replace them)");
+            return -1;
+        }
+
+        long start = System.nanoTime();
+        LocalDate lastWeek = properties.getLastWeek() != null ? properties.getLastWeek() : LocalDate.now();
+        SyntheticDatasetGenerator generator = new SyntheticDatasetGenerator(properties, lastWeek,
+                passwordEncoder.encode(properties.getPassword()));
+        log.info("Seeding {} users, {} projects and {} weeks of timesheets from seed {}",
+                generator.users().size(), generator.projects().size(), properties.getWeeks(), properties.getRandomSeed());
+
+        insert(User.class, generator.users());
+        Map<String, LongAdder> billedHours = new ConcurrentHashMap<>();
+        long timesheets = insertTimesheets(generator, billedHours);
+        for (Project project : generator.projects()) {
+            LongAdder hours = billedHours.get(project.getId());
+            project.setTotalBilledHours(hours != null ? hours.intValue() : 0);
+        }
+        insert(Project.class, generator.projects());
+
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        log.info("Seeded {} users, {} projects and {} timesheets in {} ms", generator.users().size(),
+                generator.projects().size(), timesheets, millis);
+        return timesheets;
+    }
+
+    private long insertTimesheets(SyntheticDatasetGenerator generator, Map<String, LongAdder> billedHours)
+            throws InterruptedException, ExecutionException {
+        // Roughly one batch of timesheets per task
+        int usersPerTask = Math.max(1, properties.getBatchSize() / Math.max(1, properties.getWeeks()));
+        List<Callable<Long>> tasks = new ArrayList<>();
+        for (int from = 0; from < generator.users().size(); from += usersPerTask) {
+            int first = from;
+            int last = Math.min(generator.users().size(), from + usersPerTask);
+            tasks.add(() -> {
+                List<Timesheet> batch = new ArrayList<>(properties.getBatchSize());
+                long written = 0;
+                for (int u = first; u < last; u++) {
+                    for (Timesheet timesheet : generator.timesheets(u)) {
+                        billedHours.computeIfAbsent(timesheet.getProjectId(), _ -> new LongAdder())
+                                .add(SyntheticDatasetGenerator.hours(timesheet));
+                        batch.add(timesheet);
+                        if (batch.size() == properties.getBatchSize()) {
+                            written += insert(Timesheet.class, batch);
+                            batch.clear();
+                        }
+                    }
+                }
+                return written + insert(Timesheet.class, batch);
+            });
+        }
+
+        long written = 0;
+        try (ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, properties.getParallelism()),
+                Thread.ofPlatform().name("seed-", 0).factory())) {
+            for (Future<Long> result : pool.invokeAll(tasks)) {
+                written += result.get();
+            }
+        }
+        return written;
+    }
+
+    private <T> int insert(Class<T> type, List<T> documents) {
+        int written = 0;
+        for (int from = 0; from < documents.size(); from += properties.getBatchSize()) {
+            List<T> batch = documents.subList(from, Math.min(documents.size(), from + properties.getBatchSize()));
+            written += mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, type).insert(batch).execute().getInsertedCount();
+        }
+        return written;
+    }
+}
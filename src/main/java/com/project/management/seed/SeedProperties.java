@@ -0,0 +1,34 @@
+package com.project.management.seed;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "seed")
+public class SeedProperties {
+    /** The same seed and sizes always produce the same documents, ids included. */
+    private long randomSeed = 42;
+    private int users = 1_000;
+    private int projects = 100;
+    /** Weeks of timesheets per user, ending at {@link #lastWeek}. */
+    private int weeks = 104;
+    /** Monday of the newest week; unset means the current week. */
+    private LocalDate lastWeek;
+    /** Skew of project sizes: the project ranked {@code r} draws members in proportion to {@code 1 / r^s}. */
+    private double zipfExponent = 1.1;
+    /** Password of every seeded user; hashed once with the configured encoder. */
+    private String password = "password";
+    private int batchSize = 1_000;
+    /** Concurrent bulk inserts. */
+    private int parallelism = 4;
+    /** Empty the users, projects and timesheets collections first; otherwise a non-empty database is left alone. */
+    private boolean drop = false;
+    /** Shut the application down once seeding has finished. */
+    private boolean exitWhenDone = false;
+}
@@ -0,0 +1,294 @@
+package com.project.management.seed;
+
+import com.project.management.Models.Project;
+import com.project.management.Models.ProjectStatus;
+import com.project.management.Models.TimeSheetStatus;
+import com.project.management.Models.Timesheet;
+import com.project.management.Models.User;
+import com.project.management.Models.UserRole;
+import org.bson.types.ObjectId;
+
+import java.nio.ByteBuffer;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Generates a production-shaped data set: users, projects whose sizes follow a Zipf distribution,
+ * and a timesheet per user, project and week.
+ * <p>
+ * Each user works on one to three projects, drawn with probability {@code 1 / rank^zipfExponent},
+ * so a few projects have a large share of the users and most have a handful. A user logs time
+ * only in weeks their project runs, and misses some weeks. A normal week is five days of about
+ * eight hours, with occasional short, long, absent and weekend days, split between the user's
+ * projects with the first one taking most. Weeks older than a fortnight are nearly all approved;
+ * recent ones are mostly still submitted.
+ * <p>
+ * Output depends only on the settings and {@code lastWeek}: ids are built from the seed and a
+ * per-kind index rather than taken from {@link ObjectId#get()}, and each user's timesheets come
+ * from their own random stream, so {@link #timesheets(int)} can run for different users in any
+ * order or in parallel. Users and projects are built up front and the same instances are returned
+ * on every call. Projects start with no billed hours; callers sum them from the timesheets they
+ * keep, using {@link #hours(Timesheet)}.
+ */
+public class SyntheticDatasetGenerator {
+
+    private static final byte USER = 1;
+    private static final byte PROJECT = 2;
+    private static final byte TIMESHEET = 3;
+    private static final int MAX_PROJECTS_PER_USER = 3;
+    private static final int RECENT_WEEKS = 2;
+    private static final String[] DESCRIPTIONS = {
+            "Feature development and code review",
+            "Sprint work on backlog items",
+            "Bug fixing and support tickets",
+            "Release preparation and deployment",
+            "Design discussions and documentation",
+            "Client meetings and requirement analysis"
+    };
+
+    private final long seed;
+    private final int seedTag;
+    private final int weeks;
+    private final LocalDate firstWeek;
+    private final LocalDate lastWeek;
+    private final List<User> users;
+    private final List<Project> projects;
+    private final int[][] userProjects;
+
+    public SyntheticDatasetGenerator(SeedProperties settings, LocalDate lastWeek, String passwordHash) {
+        if (settings.getUsers() < 0 || settings.getProjects() < 1 || settings.getWeeks() < 1) {
+            throw new IllegalArgumentException("A data set needs at least one project and one week");
+        }
+        this.seed = settings.getRandomSeed();
+        this.seedTag = (int) mix(seed, 0, 0) & 0xFFFFFF;
+        this.weeks = settings.getWeeks();
+        this.lastWeek = lastWeek.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        this.firstWeek = this.lastWeek.minusWeeks(weeks - 1);
+
+        SplittableRandom random = new SplittableRandom(seed);
+        this.projects = new ArrayList<>(settings.getProjects());
+        for (int p = 0; p < settings.getProjects(); p++) {
+            projects.add(project(p, random));
+        }
+
+        double[] cdf = zipfCdf(projects.size(), settings.getZipfExponent());
+        this.users = new ArrayList<>(settings.getUsers());
+        this.userProjects = new int[settings.getUsers()][];
+        for (int u = 0; u < settings.getUsers(); u++) {
+            double draw = random.nextDouble();
+            int count = Math.min(projects.size(), draw < 0.55 ? 1 : draw < 0.9 ? 2 : MAX_PROJECTS_PER_USER);
+            Set<Integer> chosen = new LinkedHashSet<>();
+            while (chosen.size() < count) {
+                chosen.add(sample(cdf, random));
+            }
+            userProjects[u] = chosen.stream().mapToInt(Integer::intValue).toArray();
+
+            User user = user(u, random, passwordHash);
+            List<String> assigned = new ArrayList<>(count);
+            for (int p : userProjects[u]) {
+                Project project = projects.get(p);
+                project.getAssignedUsers().add(user.getId());
+                assigned.add(project.getId());
+            }
+            user.setAssignedProjects(assigned);
+            users.add(user);
+        }
+
+        for (Project project : projects) {
+            long projectWeeks = ChronoUnit.WEEKS.between(project.getStartDate(), project.getEndDate()) + 1;
+            double budgetFactor = 0.8 + random.nextDouble() * 0.6;
+            long budget = Math.round(Math.max(1, project.getAssignedUsers().size()) * projectWeeks * 30 * budgetFactor);
+            project.setTotalBudgetHours((int) Math.min(Integer.MAX_VALUE, budget));
+        }
+    }
+
+    public List<User> users() {
+        return users;
+    }
+
+    public List<Project> projects() {
+        return projects;
+    }
+
+    public LocalDate firstWeek() {
+        return firstWeek;
+    }
+
+    public LocalDate lastWeek() {
+        return lastWeek;
+    }
+
+    /** Every timesheet, user by user. */
+    public Stream<Timesheet> timesheets() {
+        return IntStream.range(0, users.size()).mapToObj(this::timesheets).flatMap(List::stream);
+    }
+
+    /** The timesheets of the user at {@code userIndex} in {@link #users()}, oldest week first. */
+    public List<Timesheet> timesheets(int userIndex) {
+        User user = users.get(userIndex);
+        int[] assigned = userProjects[userIndex];
+        SplittableRandom random = new SplittableRandom(mix(seed, TIMESHEET, userIndex));
+        List<Timesheet> timesheets = new ArrayList<>(weeks * assigned.length);
+        int[] active = new int[assigned.length];
+        int[] dayHours = new int[7];
+
+        for (int w = 0; w < weeks; w++) {
+            LocalDate week = firstWeek.plusWeeks(w);
+            if (random.nextDouble() < 0.06) {
+                continue; // Leave, or simply not filled in
+            }
+            int activeCount = 0;
+            for (int p : assigned) {
+                if (runsIn(projects.get(p), week)) {
+                    active[activeCount++] = p;
+                }
+            }
+            if (activeCount == 0) {
+                continue;
+            }
+            workWeek(random, dayHours);
+            double primaryShare = activeCount == 1 ? 1.0 : 0.5 + random.nextDouble() * 0.3;
+            double otherShare = (1.0 - primaryShare) / Math.max(1, activeCount - 1);
+
+            for (int slot = 0; slot < activeCount; slot++) {
+                Map<DayOfWeek, Integer> dailyHours = new EnumMap<>(DayOfWeek.class);
+                for (int d = 0; d < 7; d++) {
+                    int others = (int) (dayHours[d] * otherShare);
+                    // Rounding down the secondary projects leaves the remainder to the primary one
+                    int hours = slot == 0 ? dayHours[d] - others * (activeCount - 1) : others;
+                    if (hours > 0) {
+                        dailyHours.put(DayOfWeek.of(d + 1), hours);
+                    }
+                }
+                if (dailyHours.isEmpty()) {
+                    continue;
+                }
+                LocalDateTime submittedAt = week.plusDays(4).atTime(16, 0).plusMinutes(random.nextInt(3 * 24 * 60));
+                Timesheet timesheet = new Timesheet();
+                timesheet.setId(objectId(TIMESHEET, submittedAt, ((long) userIndex * weeks + w) * MAX_PROJECTS_PER_USER + slot));
+                timesheet.setUserId(user.getId());
+                timesheet.setProjectId(projects.get(active[slot]).getId());
+                timesheet.setWeekStartDate(week);
+                timesheet.setDailyHours(dailyHours);
+                timesheet.setDescription(DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)]);
+                timesheet.setStatus(status(random, weeks - 1 - w));
+                timesheet.setSubmittedAt(submittedAt);
+                timesheets.add(timesheet);
+            }
+        }
+        return timesheets;
+    }
+
+    public static int hours(Timesheet timesheet) {
+        return timesheet.getDailyHours().values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    private Project project(int index, SplittableRandom random) {
+        // Starts up to half a year before the data set and runs for six months to a year past its length
+        LocalDate start = firstWeek.minusWeeks(random.nextInt(26)).plusWeeks(random.nextInt(Math.max(1, weeks / 2)));
+        LocalDate end = start.plusWeeks(26 + random.nextInt(Math.max(1, weeks)));
+        ProjectStatus status = !end.isBefore(lastWeek) ? ProjectStatus.ACTIVE
+                : random.nextDouble() < 0.1 ? ProjectStatus.CANCELLED : ProjectStatus.COMPLETED;
+
+        Project project = new Project();
+        project.setId(objectId(PROJECT, start.atTime(9, 0), index));
+        project.setName("Project " + index);
+        project.setDescription("Synthetic project " + index);
+        project.setStartDate(start.atTime(9, 0));
+        project.setEndDate(end.atTime(18, 0));
+        project.setStatus(status);
+        project.setAssignedUsers(new ArrayList<>());
+        project.setTotalBilledHours(0);
+        return project;
+    }
+
+    private User user(int index, SplittableRandom random, String passwordHash) {
+        LocalDateTime createdAt = firstWeek.minusDays(random.nextInt(365)).atTime(9, 0).plusMinutes(random.nextInt(8 * 60));
+        User user = new User();
+        user.setId(objectId(USER, createdAt, index));
+        user.setUsername("user" + index);
+        user.setEmail("user" + index + "@example.com");
+        user.setPassword(passwordHash);
+        // user0 is always an admin, so load tests have a known admin account
+        boolean admin = random.nextDouble() < 0.02 || index == 0;
+        user.setRole(admin ? UserRole.ADMIN : UserRole.USER);
+        user.setCreatedAt(createdAt);
+        return user;
+    }
+
+    private static boolean runsIn(Project project, LocalDate week) {
+        return !week.isBefore(project.getStartDate().toLocalDate()) && !week.isAfter(project.getEndDate().toLocalDate());
+    }
+
+    /** Fills Monday to Sunday with the hours worked that week. */
+    private static void workWeek(SplittableRandom random, int[] dayHours) {
+        Arrays.fill(dayHours, 0);
+        for (int d = 0; d < 5; d++) {
+            double draw = random.nextDouble();
+            dayHours[d] = draw < 0.04 ? 0 : draw < 0.19 ? 6 + random.nextInt(2) : draw < 0.34 ? 9 + random.nextInt(2) : 8;
+        }
+        for (int d = 5; d < 7; d++) {
+            if (random.nextDouble() < 0.04) {
+                dayHours[d] = 2 + random.nextInt(5);
+            }
+        }
+    }
+
+    private static TimeSheetStatus status(SplittableRandom random, int weeksAgo) {
+        double draw = random.nextDouble();
+        if (weeksAgo < RECENT_WEEKS) {
+            return draw < 0.70 ? TimeSheetStatus.SUBMITTED : draw < 0.97 ? TimeSheetStatus.APPROVED : TimeSheetStatus.REJECTED;
+        }
+        return draw < 0.93 ? TimeSheetStatus.APPROVED : draw < 0.97 ? TimeSheetStatus.REJECTED : TimeSheetStatus.SUBMITTED;
+    }
+
+    private static double[] zipfCdf(int size, double exponent) {
+        double[] cdf = new double[size];
+        double total = 0;
+        for (int r = 0; r < size; r++) {
+            total += 1.0 / Math.pow(r + 1, exponent);
+            cdf[r] = total;
+        }
+        for (int r = 0; r < size; r++) {
+            cdf[r] /= total;
+        }
+        return cdf;
+    }
+
+    private static int sample(double[] cdf, SplittableRandom random) {
+        int index = Arrays.binarySearch(cdf, random.nextDouble());
+        return Math.min(cdf.length - 1, index >= 0 ? index : -index - 1);
+    }
+
+    /** Time-ordered like a driver-made id: creation second, then kind, seed and index. */
+    private String objectId(byte kind, LocalDateTime createdAt, long index) {
+        ByteBuffer bytes = ByteBuffer.allocate(12);
+        bytes.putInt((int) createdAt.toEpochSecond(ZoneOffset.UTC));
+        bytes.put(kind);
+        bytes.put((byte) (seedTag >>> 16)).put((byte) (seedTag >>> 8)).put((byte) seedTag);
+        bytes.putInt((int) index);
+        return new ObjectId(bytes.array()).toHexString();
+    }
+
+    private static long mix(long seed, int kind, long index) {
+        // SplitMix64 finaliser, so neighbouring users get unrelated streams
+        long z = seed + 0x9E3779B97F4A7C15L * (index + 1) + kind;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
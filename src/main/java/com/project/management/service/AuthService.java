@@ -7,13 +7,17 @@ import com.project.management.Models.User;
 import com.project.management.exception.UserAlreadyExistsException;
 import com.project.management.repository.UserRepository;
 import com.project.management.security.JwtTokenProvider;
+import com.project.management.security.PasswordHashing;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.security.sasl.AuthenticationException;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
 @Service
 @RequiredArgsConstructor
@@ -22,16 +26,21 @@ import javax.security.sasl.AuthenticationException;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashing passwordHashing;
     private final JwtTokenProvider jwtTokenProvider;
+    private final DataVersions dataVersions;
+    private final UserAvailability userAvailability;
 
     public LoginResponseDTO login(LoginRequestDTO loginRequest) throws AuthenticationException {
         User user = userRepository.findByUsername(loginRequest.getUsername())
                 .orElseThrow(() -> new AuthenticationException("Invalid credentials"));
 
-        if (!passwordEncoder.matches(loginRequest.getPassword(), user.getPassword())) {
+        if (!passwordHashing.matches(loginRequest.getPassword(), user.getPassword())) {
             throw new AuthenticationException("Invalid credentials");
         }
+        if (passwordHashing.needsRehash(user.getPassword())) {
+            rehash(user, loginRequest.getPassword());
+        }
 
         String token = jwtTokenProvider.generateToken(user);
         return new LoginResponseDTO(token, user.getUsername(), user.getRole(), user.getAssignedProjects());
@@ -39,24 +48,55 @@ public class AuthService {
 
     public void register(RegisterRequestDTO registerRequest) {
         // Check if username or email is already taken
-        log.info("exception raised for user not exist");
-        if (userRepository.existsByUsername(registerRequest.getUsername())) {
-            throw new UserAlreadyExistsException("Username is already taken");
-
-        }
-        log.info("exception raised for email not exist");
-        if (userRepository.existsByEmail(registerRequest.getEmail())) {
-            throw new UserAlreadyExistsException("Email is already taken");
-        }
+        rejectIfTaken(userAvailability.check(registerRequest.getUsername(), registerRequest.getEmail()));
 
         // Create a new user and set their details
         User user = new User();
         user.setUsername(registerRequest.getUsername());
-        user.setPassword(passwordEncoder.encode(registerRequest.getPassword()));
+        user.setPassword(passwordHashing.encode(registerRequest.getPassword()));
         user.setEmail(registerRequest.getEmail());
         user.setRole(registerRequest.getRole());  //
+        user.setCreatedAt(LocalDateTime.now());
 
-        // Save the user in the database
-        userRepository.save(user);
+        // Save the user in the database; the unique indexes catch a registration that raced this one
+        try {
+            userRepository.save(user);
+        } catch (DuplicateKeyException e) {
+            rejectIfTaken(userAvailability.fromDuplicateKey(e));
+            throw e;
+        }
+        userAvailability.added(user.getUsername(), user.getEmail());
+        dataVersions.bump(DataVersions.Collection.USERS);
+    }
+
+    // Off the login's critical path; a failure just leaves the old hash for the next login
+    private void rehash(User user, String rawPassword) {
+        String currentHash = user.getPassword();
+        CompletableFuture<String> newHash;
+        try {
+            newHash = passwordHashing.encodeAsync(rawPassword);
+        } catch (RejectedExecutionException e) {
+            // A full hashing queue must not fail a login that has already been verified
+            log.debug("Skipping password hash upgrade for user {}: {}", user.getId(), e.getMessage());
+            return;
+        }
+        newHash
+                .thenAccept(hash -> {
+                    if (userRepository.replacePassword(user.getId(), currentHash, hash) > 0) {
+                        log.info("Upgraded password hash cost for user {}", user.getId());
+                    }
+                })
+                .exceptionally(e -> {
+                    log.warn("Could not upgrade password hash for user {}: {}", user.getId(), e.getMessage());
+                    return null;
+                });
+    }
+
+    private static void rejectIfTaken(UserAvailability.Result availability) {
+        switch (availability) {
+            case USERNAME_TAKEN -> throw new UserAlreadyExistsException("Username is already taken");
+            case EMAIL_TAKEN -> throw new UserAlreadyExistsException("Email is already taken");
+            case AVAILABLE -> { }
+        }
     }
 }
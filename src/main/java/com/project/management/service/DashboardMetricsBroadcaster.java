@@ -0,0 +1,193 @@
+package com.project.management.service;
+
+import com.project.management.dto.DashboardMetricsDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Streams dashboard metrics to admin browsers over SSE.
+ * <p>
+ * Metrics are recomputed once per tick, and only while someone is subscribed, however many
+ * subscribers there are. Each subscriber first receives a full {@code snapshot} event and then
+ * {@code delta} events carrying only the top-level fields that changed since the last state it was
+ * sent. Delivery is conflated: a subscriber still busy with a previous send just has its pending
+ * state replaced, so a slow client skips intermediate ticks and only ever catches up to the latest.
+ * Subscribers sent nothing for {@code heartbeat-ms}, for instance because the metrics have not
+ * changed, get a comment instead, so a client that went away is dropped on the failed write rather
+ * than at the emitter timeout.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardMetricsBroadcaster {
+
+    static final String SNAPSHOT_EVENT = "snapshot";
+    static final String DELTA_EVENT = "delta";
+
+    private static final Map<String, Function<DashboardMetricsDTO, Object>> FIELDS = fields();
+
+    private final MetricsService metricsService;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicReference<Snapshot> latest = new AtomicReference<>();
+
+    @Value("${dashboard.stream.interval-ms:10000}")
+    private long intervalMs = 10_000;
+
+    @Value("${dashboard.stream.timeout-ms:1800000}")
+    private long timeoutMs = 1_800_000;
+
+    @Value("${dashboard.stream.heartbeat-ms:25000}")
+    private long heartbeatMs = 25_000;
+
+    public SseEmitter subscribe() {
+        return subscribe(new SseEmitter(timeoutMs));
+    }
+
+    SseEmitter subscribe(SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter);
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(_ -> subscribers.remove(subscriber));
+
+        // Late joiners get the current state straight away if it is still fresh
+        Snapshot snapshot = latest.get();
+        if (snapshot != null && System.nanoTime() - snapshot.computedAtNanos() < TimeUnit.MILLISECONDS.toNanos(intervalMs)) {
+            subscriber.offer(snapshot.metrics());
+        }
+        return emitter;
+    }
+
+    @Scheduled(fixedDelayString = "${dashboard.stream.interval-ms:10000}")
+    public void tick() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        DashboardMetricsDTO metrics = metricsService.getDashboardMetrics();
+        latest.set(new Snapshot(metrics, System.nanoTime()));
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(metrics);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${dashboard.stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        long idleSince = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(heartbeatMs);
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.lastWriteNanos - idleSince <= 0) {
+                subscriber.heartbeat();
+            }
+        }
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    static Map<String, Object> diff(DashboardMetricsDTO previous, DashboardMetricsDTO current) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        FIELDS.forEach((name, accessor) -> {
+            Object value = accessor.apply(current);
+            if (!Objects.equals(accessor.apply(previous), value)) {
+                changes.put(name, value);
+            }
+        });
+        return changes;
+    }
+
+    private static Map<String, Function<DashboardMetricsDTO, Object>> fields() {
+        Map<String, Function<DashboardMetricsDTO, Object>> fields = new LinkedHashMap<>();
+        fields.put("activeProjects", DashboardMetricsDTO::getActiveProjects);
+        fields.put("totalResources", DashboardMetricsDTO::getTotalResources);
+        fields.put("totalBilledHours", DashboardMetricsDTO::getTotalBilledHours);
+        fields.put("averageUtilization", DashboardMetricsDTO::getAverageUtilization);
+        fields.put("topProjects", DashboardMetricsDTO::getTopProjects);
+        fields.put("topResources", DashboardMetricsDTO::getTopResources);
+        return fields;
+    }
+
+    private record Snapshot(DashboardMetricsDTO metrics, long computedAtNanos) {
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final AtomicReference<DashboardMetricsDTO> pending = new AtomicReference<>();
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private final AtomicBoolean heartbeatDue = new AtomicBoolean();
+        private volatile long lastWriteNanos = System.nanoTime();
+        private DashboardMetricsDTO lastSent;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(DashboardMetricsDTO metrics) {
+            pending.set(metrics);
+            startDrain();
+        }
+
+        void heartbeat() {
+            heartbeatDue.set(true);
+            startDrain();
+        }
+
+        private void startDrain() {
+            if (sending.compareAndSet(false, true)) {
+                Thread.ofVirtual().name("dashboard-stream").start(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                do {
+                    DashboardMetricsDTO metrics;
+                    while ((metrics = pending.getAndSet(null)) != null) {
+                        send(metrics);
+                    }
+                    if (heartbeatDue.getAndSet(false)) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                        lastWriteNanos = System.nanoTime();
+                    }
+                    sending.set(false);
+                    // Re-check: a tick may have offered between the last poll and releasing the flag
+                } while ((pending.get() != null || heartbeatDue.get()) && sending.compareAndSet(false, true));
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping dashboard stream subscriber: {}", e.getMessage());
+                subscribers.remove(this);
+                sending.set(false);
+            }
+        }
+
+        private void send(DashboardMetricsDTO metrics) throws IOException {
+            if (lastSent == null) {
+                emitter.send(SseEmitter.event().name(SNAPSHOT_EVENT).data(metrics));
+            } else {
+                Map<String, Object> changes = diff(lastSent, metrics);
+                if (changes.isEmpty()) {
+                    return;
+                }
+                emitter.send(SseEmitter.event().name(DELTA_EVENT).data(changes));
+            }
+            lastSent = metrics;
+            lastWriteNanos = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.project.management.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Monotonic version counters for the collections and projects behind the cacheable read endpoints,
+ * and the strong ETags derived from them.
+ * <p>
+ * Write paths bump the counters after they have saved, and readers take the ETag before they load
+ * anything, so a response can only ever be labelled with a version at or before the data it holds.
+ * Every bump also advances {@link #generation()}, which keys coalesced reads: a reader never joins
+ * or reuses a computation started before a write its ETag already reflects.
+ * Counters start from zero in every process; the ETags carry a per-process epoch so a restart (or
+ * another instance) never produces a false match.
+ * <p>
+ * The counters only see this instance's writes unless something feeds it the others', which
+ * {@link com.project.management.cache.CacheInvalidationBus} does while its change streams are
+ * connected. Until then each ETag also carries the current {@code data-versions.unshared-ttl-ms}
+ * window, so a response validated or cached here goes stale within that long of a write made by
+ * another replica. Setting it to {@code 0} trusts the local counters alone, which is only right for
+ * a single instance.
+ */
+@Component
+public class DataVersions {
+
+    public enum Collection { PROJECTS, TIMESHEETS, USERS }
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<Collection, AtomicLong> collections = new EnumMap<>(Collection.class);
+    private final Map<String, AtomicLong> projects = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private volatile BooleanSupplier shared = () -> false;
+    private Clock clock = Clock.systemDefaultZone();
+
+    @Value("${data-versions.unshared-ttl-ms:5000}")
+    private long unsharedTtlMs = 5000;
+
+    public DataVersions() {
+        for (Collection collection : Collection.values()) {
+            collections.put(collection, new AtomicLong());
+        }
+    }
+
+    public void bump(Collection collection) {
+        collections.get(collection).incrementAndGet();
+        generation.incrementAndGet();
+    }
+
+    public void bumpProject(String projectId) {
+        projects.computeIfAbsent(projectId, id -> new AtomicLong()).incrementAndGet();
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Registers what tells whether the counters currently follow every replica's writes; while it
+     * answers {@code true} the ETags drop their time window.
+     */
+    public void sharedWhile(BooleanSupplier shared) {
+        this.shared = shared;
+    }
+
+    /** Advances with every bump, after the counter it belongs to. */
+    public long generation() {
+        return generation.get();
+    }
+
+    public long version(Collection collection) {
+        return collections.get(collection).get();
+    }
+
+    public long projectVersion(String projectId) {
+        AtomicLong version = projects.get(projectId);
+        return version == null ? 0 : version.get();
+    }
+
+    /** {@code GET /api/projects}: the project documents only. */
+    public String projectsETag() {
+        return eTag("projects", version(Collection.PROJECTS));
+    }
+
+    /** {@code GET /api/projects/{id}}: the project, its recent timesheets and its assigned users. */
+    public String projectETag(String projectId) {
+        return eTag("project-" + projectId, projectVersion(projectId), version(Collection.USERS));
+    }
+
+    /** {@code GET /api/projects/stats}: projects and timesheets, over a window that moves daily. */
+    public String projectStatsETag() {
+        return eTag("project-stats", version(Collection.PROJECTS), version(Collection.TIMESHEETS),
+                LocalDate.now(clock).toEpochDay());
+    }
+
+    /** {@code GET /api/metrics/dashboard}: project stats plus the users' weekly stats. */
+    public String dashboardETag() {
+        return eTag("dashboard", version(Collection.PROJECTS), version(Collection.TIMESHEETS),
+                version(Collection.USERS), LocalDate.now(clock).toEpochDay());
+    }
+
+    private String eTag(String resource, long... versions) {
+        String eTag = Arrays.stream(versions)
+                .mapToObj(Long::toString)
+                .collect(Collectors.joining(".", "\"" + resource + "-" + epoch + "-", ""));
+        if (unsharedTtlMs > 0 && !shared.getAsBoolean()) {
+            eTag += "~" + clock.millis() / unsharedTtlMs;
+        }
+        return eTag + "\"";
+    }
+}
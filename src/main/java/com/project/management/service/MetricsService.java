@@ -1,5 +1,6 @@
 package com.project.management.service;
 
+import com.project.management.coalesce.Coalesced;
 import com.project.management.dto.DashboardMetricsDTO;
 import com.project.management.dto.ProjectStatsDTO;
 import com.project.management.dto.UserWeeklyStatsDTO;
@@ -20,6 +21,7 @@ public class MetricsService {
     private final ProjectService projectService;
     private final UserService userService;
 
+    @Coalesced(ttlMillis = 1000)
     public DashboardMetricsDTO getDashboardMetrics() {
         List<ProjectStatsDTO> allProjectStats = projectService.getProjectStats();
         List<UserWeeklyStatsDTO> userStats = userService.getUsersWeeklyStats(
@@ -1,7 +1,9 @@
 package com.project.management.service;
 
+import com.project.management.coalesce.Coalesced;
 import com.project.management.dto.*;
 import com.project.management.exception.ResourceNotFoundException;
+import com.project.management.exception.ServiceTimeoutException;
 import com.project.management.exception.UserAlreadyExistsException;
 import com.project.management.mapper.ProjectMapper;
 
@@ -13,22 +15,42 @@ import com.project.management.repository.ProjectRepository;
 import com.project.management.repository.TimesheetRepository;
 import com.project.management.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
-public class ProjectService {
+public class ProjectService implements DisposableBean {
 
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final TimesheetRepository timesheetRepository;
     private final ProjectMapper projectMapper;
+    private final DataVersions dataVersions;
+
+    // Fan-out lookups block on Mongo I/O, so each one gets its own virtual thread
+    private final ExecutorService fanOutExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${project.details.timeout-ms:2000}")
+    private long detailsTimeoutMs = 2000;
+
+    @Override
+    public void destroy() {
+        fanOutExecutor.shutdown();
+    }
 
 
     public ProjectDTO createProject(ProjectDTO projectDTO) {
@@ -43,6 +65,8 @@ public class ProjectService {
         project.setTotalBilledHours(0);
 
         Project savedProject = projectRepository.save(project);
+        dataVersions.bump(DataVersions.Collection.PROJECTS);
+        dataVersions.bumpProject(savedProject.getId());
         return projectMapper.toProjectDTO(savedProject);
     }
 
@@ -79,6 +103,9 @@ public class ProjectService {
 
         projectRepository.save(project);
         userRepository.saveAll(newUsers);
+        dataVersions.bump(DataVersions.Collection.PROJECTS);
+        dataVersions.bump(DataVersions.Collection.USERS);
+        dataVersions.bumpProject(projectId);
     }
 
     public ProjectDTO updateProjectStatus(String projectId, ProjectStatus newStatus) {
@@ -89,6 +116,8 @@ public class ProjectService {
         if (newStatus == ProjectStatus.COMPLETED || newStatus == ProjectStatus.CANCELLED) {
             project.setStatus(newStatus);
             Project updatedProject = projectRepository.save(project);
+            dataVersions.bump(DataVersions.Collection.PROJECTS);
+            dataVersions.bumpProject(projectId);
             return projectMapper.toProjectDTO(updatedProject);
         } else {
             throw new IllegalArgumentException("Invalid status transition");
@@ -101,6 +130,12 @@ public class ProjectService {
                 .collect(Collectors.toList());
     }
 
+    public BatchLookupResponseDTO<ProjectDTO> getProjectsByIds(List<String> projectIds) {
+        return BatchLookupResponseDTO.of(projectIds, projectRepository.findAllById(projectIds),
+                Project::getId, projectMapper::toProjectDTO);
+    }
+
+    @Coalesced
     public List<ProjectStatsDTO> getProjectStats() {
         return projectRepository.findAll().stream()
                 .map(this::calculateProjectStats)
@@ -108,16 +143,31 @@ public class ProjectService {
     }
 
 public ProjectDetailDTO getProjectDetails(String projectId) {
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(detailsTimeoutMs);
+
     Project project = projectRepository.findById(projectId)
             .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
 
-
-    List<UserDTO> assignedUsers = userRepository.findAllById(project.getAssignedUsers())
-            .stream()
-            .map(this::mapToUserDTO)
-            .collect(Collectors.toList());
-
-    List<TimesheetSummaryDTO> recentTimesheets = getRecentTimesheets(projectId);
+    Future<List<UserDTO>> assignedUsersFuture = fanOutExecutor.submit(() ->
+            userRepository.findAllById(project.getAssignedUsers())
+                    .stream()
+                    .map(this::mapToUserDTO)
+                    .collect(Collectors.toList()));
+    Future<List<TimesheetSummaryDTO>> recentTimesheetsFuture =
+            fanOutExecutor.submit(() -> getRecentTimesheets(projectId));
+
+    List<UserDTO> assignedUsers;
+    List<TimesheetSummaryDTO> recentTimesheets;
+    try {
+        assignedUsers = await(assignedUsersFuture, deadline);
+        recentTimesheets = await(recentTimesheetsFuture, deadline);
+    } catch (TimeoutException e) {
+        throw new ServiceTimeoutException("Project details lookup timed out after " + detailsTimeoutMs + " ms");
+    } finally {
+        // No-op for finished lookups; interrupts the virtual thread of one still running
+        assignedUsersFuture.cancel(true);
+        recentTimesheetsFuture.cancel(true);
+    }
 
     return new ProjectDetailDTO(
             project.getId(),
@@ -187,14 +237,22 @@ public ProjectDetailDTO getProjectDetails(String projectId) {
     }
 
     private List<TimesheetSummaryDTO> getRecentTimesheets(String projectId) {
-        List<Timesheet> recentTimesheets = timesheetRepository.findByProjectId(projectId)
-                .stream()
-                .sorted(Comparator.comparing(Timesheet::getSubmittedAt).reversed()) // Sort by most recent
-                .limit(5) // Get the last 5 timesheets
-                .collect(Collectors.toList());
-
-        return recentTimesheets.stream()
+        return timesheetRepository.findTop5ByProjectIdOrderBySubmittedAtDesc(projectId).stream()
                 .map(this::mapToTimesheetSummaryDTO)
                 .collect(Collectors.toList());
     }
+
+    private static <T> T await(Future<T> future, long deadlineNanos) throws TimeoutException {
+        try {
+            return future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading project details", e);
+        }
+    }
 }
@@ -0,0 +1,71 @@
+package com.project.management.service;
+
+import com.project.management.Models.Timesheet;
+import com.project.management.dto.TimesheetResponseDTO;
+import com.project.management.dto.TimesheetSummaryDTO;
+import com.project.management.exception.ResourceNotFoundException;
+import com.project.management.repository.ReactiveTimesheetRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Non-blocking counterpart of the read side of {@link TimesheetService}. List lookups stream
+ * straight from the reactive driver's cursor, so demand from the HTTP response propagates back to
+ * MongoDB and a slow client never forces the whole result set into memory.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveTimesheetService {
+
+    private final ReactiveTimesheetRepository timesheetRepository;
+
+    public Mono<TimesheetResponseDTO> getTimesheetById(String timesheetId) {
+        return timesheetRepository.findById(timesheetId)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Timesheet not found with ID: " + timesheetId)))
+                .map(this::mapToResponseDTO);
+    }
+
+    public Flux<TimesheetSummaryDTO> getUserTimesheets(String userId, LocalDate startDate, LocalDate endDate) {
+        return timesheetRepository.findByUserIdAndWeekStartDateBetween(userId, startDate, endDate)
+                .map(this::mapToSummaryDTO);
+    }
+
+    public Flux<TimesheetSummaryDTO> getProjectTimesheets(String projectId, LocalDate startDate, LocalDate endDate) {
+        return timesheetRepository.findByProjectIdAndWeekStartDateBetween(projectId, startDate, endDate)
+                .map(this::mapToSummaryDTO);
+    }
+
+    private TimesheetResponseDTO mapToResponseDTO(Timesheet timesheet) {
+        return new TimesheetResponseDTO(
+                timesheet.getId(),
+                timesheet.getUserId(),
+                timesheet.getProjectId(),
+                timesheet.getWeekStartDate(),
+                timesheet.getDailyHours(),
+                timesheet.getDescription(),
+                timesheet.getStatus(),
+                timesheet.getSubmittedAt()
+        );
+    }
+
+    private TimesheetSummaryDTO mapToSummaryDTO(Timesheet timesheet) {
+        return new TimesheetSummaryDTO(
+                timesheet.getId(),
+                timesheet.getProjectId(),
+                timesheet.getWeekStartDate(),
+                calculateTotalHours(timesheet.getDailyHours()),
+                timesheet.getStatus(),
+                timesheet.getSubmittedAt()
+        );
+    }
+
+    private Integer calculateTotalHours(Map<DayOfWeek, Integer> dailyHours) {
+        return dailyHours == null ? 0 : dailyHours.values().stream().mapToInt(Integer::intValue).sum();
+    }
+}
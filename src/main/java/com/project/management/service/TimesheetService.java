@@ -1,5 +1,7 @@
 package com.project.management.service;
 
+import com.project.management.coalesce.Coalesced;
+import com.project.management.dto.BatchLookupResponseDTO;
 import com.project.management.dto.TimesheetDTO;
 import com.project.management.dto.TimesheetResponseDTO;
 import com.project.management.dto.TimesheetStatsDTO;
@@ -8,11 +10,15 @@ import com.project.management.Models.Project;
 import com.project.management.Models.TimeSheetStatus;
 import com.project.management.Models.Timesheet;
 import com.project.management.Models.User;
+import com.project.management.event.TimesheetStatusChangedEvent;
+import com.project.management.exception.ErrorCode;
 import com.project.management.exception.ResourceNotFoundException;
+import com.project.management.exception.TimesheetValidationException;
 import com.project.management.repository.ProjectRepository;
 import com.project.management.repository.TimesheetRepository;
 import com.project.management.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,6 +39,10 @@ public class TimesheetService {
     private final TimesheetRepository timesheetRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TimesheetWeekCache timesheetWeekCache;
+    private final TimesheetSummaryCache timesheetSummaryCache;
+    private final DataVersions dataVersions;
 
     public TimesheetDTO submitTimesheet(TimesheetDTO timesheetDTO) {
         validateTimesheetSubmission(timesheetDTO);
@@ -49,6 +59,11 @@ public class TimesheetService {
         updateProjectBilledHours(timesheetDTO);
 
         Timesheet savedTimesheet = timesheetRepository.save(timesheet);
+        // Submission also moves the project's billed hours
+        dataVersions.bump(DataVersions.Collection.PROJECTS);
+        dataVersions.bump(DataVersions.Collection.TIMESHEETS);
+        dataVersions.bumpProject(savedTimesheet.getProjectId());
+        eventPublisher.publishEvent(TimesheetStatusChangedEvent.of(savedTimesheet));
         return mapToDTO(savedTimesheet);
     }
 
@@ -56,19 +71,13 @@ public class TimesheetService {
         Timesheet timesheet = timesheetRepository.findById(timesheetId)
                 .orElseThrow(() -> new ResourceNotFoundException("Timesheet not found with ID: " + timesheetId));
 
-
-        return new TimesheetResponseDTO(
-                timesheet.getId(),
-                timesheet.getUserId(),
-                timesheet.getProjectId(),
-                timesheet.getWeekStartDate(),
-                timesheet.getDailyHours(),
-                timesheet.getDescription(),
-                timesheet.getStatus(),
-                timesheet.getSubmittedAt()
-        );
+        return mapToResponseDTO(timesheet);
     }
 
+    public BatchLookupResponseDTO<TimesheetResponseDTO> getTimesheetsByIds(List<String> timesheetIds) {
+        return BatchLookupResponseDTO.of(timesheetIds, timesheetRepository.findAllById(timesheetIds),
+                Timesheet::getId, this::mapToResponseDTO);
+    }
 
     public TimesheetDTO approveTimesheet(String timesheetId) {
         Timesheet timesheet = timesheetRepository.findById(timesheetId)
@@ -81,6 +90,9 @@ public class TimesheetService {
 
         timesheet.setStatus(TimeSheetStatus.APPROVED);
         Timesheet savedTimesheet = timesheetRepository.save(timesheet);
+        dataVersions.bump(DataVersions.Collection.TIMESHEETS);
+        dataVersions.bumpProject(savedTimesheet.getProjectId());
+        eventPublisher.publishEvent(TimesheetStatusChangedEvent.of(savedTimesheet));
         return mapToDTO(savedTimesheet);
     }
 
@@ -96,18 +108,26 @@ public class TimesheetService {
         timesheet.setStatus(TimeSheetStatus.REJECTED);
         timesheet.setDescription(timesheet.getDescription() + "\nRejection reason: " + rejectionReason);
         Timesheet savedTimesheet = timesheetRepository.save(timesheet);
+        dataVersions.bump(DataVersions.Collection.TIMESHEETS);
+        dataVersions.bumpProject(savedTimesheet.getProjectId());
+        eventPublisher.publishEvent(TimesheetStatusChangedEvent.of(savedTimesheet));
         return mapToDTO(savedTimesheet);
     }
 
     public List<TimesheetSummaryDTO> getUserTimesheets(String userId, LocalDate startDate, LocalDate endDate) {
-        List<Timesheet> timesheets = timesheetRepository
-                .findByUserIdAndWeekStartDateBetween(userId, startDate, endDate);
+        if (timesheetSummaryCache.isEnabled()) {
+            return timesheetSummaryCache.getUserTimesheets(userId, startDate, endDate, this::mapToSummaryDTO);
+        }
+        List<Timesheet> timesheets = timesheetWeekCache.getUserTimesheets(userId, startDate, endDate);
         return timesheets.stream()
                 .map(this::mapToSummaryDTO)
                 .collect(Collectors.toList());
     }
 
     public List<TimesheetSummaryDTO> getProjectTimesheets(String projectId, LocalDate startDate, LocalDate endDate) {
+        if (timesheetSummaryCache.isEnabled()) {
+            return timesheetSummaryCache.getProjectTimesheets(projectId, startDate, endDate, this::mapToSummaryDTO);
+        }
         List<Timesheet> timesheets = timesheetRepository
                 .findByProjectIdAndWeekStartDateBetween(projectId, startDate, endDate);
         return timesheets.stream()
@@ -115,6 +135,7 @@ public class TimesheetService {
                 .collect(Collectors.toList());
     }
 
+    @Coalesced
     public TimesheetStatsDTO getTimesheetStats() {
         List<Timesheet> allTimesheets = timesheetRepository.findAll();
 
@@ -151,7 +172,7 @@ public class TimesheetService {
 
 
         if (!project.getAssignedUsers().contains(user.getId())) {
-            throw new IllegalArgumentException("User is not assigned to this project");
+            throw new TimesheetValidationException(ErrorCode.USER_NOT_ASSIGNED);
         }
 
 
@@ -159,7 +180,7 @@ public class TimesheetService {
                 timesheetDTO.getUserId(),
                 timesheetDTO.getProjectId(),
                 timesheetDTO.getWeekStartDate())) {
-            throw new IllegalStateException("Timesheet already exists for this week");
+            throw new TimesheetValidationException(ErrorCode.TIMESHEET_ALREADY_EXISTS);
         }
     }
 
@@ -176,6 +197,19 @@ public class TimesheetService {
         );
     }
 
+    private TimesheetResponseDTO mapToResponseDTO(Timesheet timesheet) {
+        return new TimesheetResponseDTO(
+                timesheet.getId(),
+                timesheet.getUserId(),
+                timesheet.getProjectId(),
+                timesheet.getWeekStartDate(),
+                timesheet.getDailyHours(),
+                timesheet.getDescription(),
+                timesheet.getStatus(),
+                timesheet.getSubmittedAt()
+        );
+    }
+
     private TimesheetSummaryDTO mapToSummaryDTO(Timesheet timesheet) {
         return new TimesheetSummaryDTO(
                 timesheet.getId(),
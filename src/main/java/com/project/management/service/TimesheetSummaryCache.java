@@ -0,0 +1,293 @@
+package com.project.management.service;
+
+import com.project.management.Models.TimeSheetStatus;
+import com.project.management.Models.Timesheet;
+import com.project.management.cache.OffHeapSlabStore;
+import com.project.management.dto.TimesheetSummaryDTO;
+import com.project.management.event.TimesheetStatusChangedEvent;
+import com.project.management.repository.TimesheetRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Off-heap tier for the timesheet summaries behind the user and project timesheet listings, one
+ * calendar week per entry.
+ * <p>
+ * Entries live in {@link OffHeapSlabStore}s, so a large cache adds almost nothing for the garbage
+ * collector to trace. Only the key index stays on the heap. There is one store for (user, week)
+ * and one for (project, week), because a project's week is usually much larger than a user's.
+ * Ranges are answered the same way as {@link TimesheetWeekCache}: cached weeks are decoded,
+ * missing weeks are loaded together in one query and stored, and status changes invalidate the
+ * affected user and project weeks.
+ * <p>
+ * Each week's summaries are stored in a compact binary layout: an int count, then per summary
+ * the id and project id (12 bytes when they are ObjectIds, length-prefixed UTF-8 otherwise),
+ * week start as epoch day, total hours, status ordinal and submission time as UTC epoch
+ * seconds plus nanos. Direct memory has to allow for both capacities
+ * ({@code -XX:MaxDirectMemorySize}), so the tier is off unless
+ * {@code timesheet.summary-cache.enabled} is set.
+ */
+@Component
+@Slf4j
+public class TimesheetSummaryCache {
+
+    private static final byte NULL = 0;
+    private static final byte OBJECT_ID = 1;
+    private static final byte UTF8 = 2;
+    private static final int ABSENT = Integer.MIN_VALUE;
+    private static final TimeSheetStatus[] STATUSES = TimeSheetStatus.values();
+
+    private final TimesheetRepository timesheetRepository;
+    private final TimesheetSummaryCacheProperties properties;
+    private final OffHeapSlabStore userWeeks;
+    private final OffHeapSlabStore projectWeeks;
+    // Bumped on every invalidation, so a load that raced with a write does not store what it read
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public TimesheetSummaryCache(TimesheetRepository timesheetRepository,
+                                 TimesheetSummaryCacheProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.timesheetRepository = timesheetRepository;
+        this.properties = properties;
+        if (properties.isEnabled()) {
+            int slabBytes = (int) properties.getSlabSize().toBytes();
+            this.userWeeks = store("timesheet.summaries.users", properties.getUserWeeks(), slabBytes);
+            this.projectWeeks = store("timesheet.summaries.projects", properties.getProjectWeeks(), slabBytes);
+            userWeeks.bindTo(meterRegistry);
+            projectWeeks.bindTo(meterRegistry);
+        } else {
+            this.userWeeks = null;
+            this.projectWeeks = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return userWeeks != null;
+    }
+
+    /** Same result as mapping {@link TimesheetRepository#findByUserIdAndWeekStartDateBetween}. */
+    public List<TimesheetSummaryDTO> getUserTimesheets(String userId, LocalDate startDate, LocalDate endDate,
+                                                       Function<Timesheet, TimesheetSummaryDTO> mapper) {
+        return get(Scope.USER, userId, startDate, endDate, mapper);
+    }
+
+    /** Same result as mapping {@link TimesheetRepository#findByProjectIdAndWeekStartDateBetween}. */
+    public List<TimesheetSummaryDTO> getProjectTimesheets(String projectId, LocalDate startDate, LocalDate endDate,
+                                                          Function<Timesheet, TimesheetSummaryDTO> mapper) {
+        return get(Scope.PROJECT, projectId, startDate, endDate, mapper);
+    }
+
+    @EventListener
+    public void onTimesheetStatusChanged(TimesheetStatusChangedEvent event) {
+        evict(event.getUserId(), event.getProjectId(), event.getWeekStartDate());
+    }
+
+    /** Drops the user's and the project's cached week containing {@code date}; either id may be null. */
+    public void evict(String userId, String projectId, LocalDate date) {
+        if (!isEnabled()) {
+            return;
+        }
+        invalidations.incrementAndGet();
+        LocalDate week = TimesheetWeekCache.weekOf(date);
+        if (userId != null) {
+            userWeeks.invalidate(key(userId, week));
+        }
+        if (projectId != null) {
+            projectWeeks.invalidate(key(projectId, week));
+        }
+    }
+
+    /** Drops every cached week, for when it is no longer known which ones changed. */
+    public void evictAll() {
+        if (!isEnabled()) {
+            return;
+        }
+        invalidations.incrementAndGet();
+        userWeeks.clear();
+        projectWeeks.clear();
+    }
+
+    private List<TimesheetSummaryDTO> get(Scope scope, String id, LocalDate startDate, LocalDate endDate,
+                                          Function<Timesheet, TimesheetSummaryDTO> mapper) {
+        if (!startDate.isBefore(endDate)) {
+            return List.of();
+        }
+        LocalDate firstWeek = TimesheetWeekCache.weekOf(startDate);
+        LocalDate lastWeek = TimesheetWeekCache.weekOf(endDate);
+        if (ChronoUnit.WEEKS.between(firstWeek, lastWeek) >= properties.getMaxRangeWeeks()) {
+            List<Timesheet> timesheets = scope == Scope.USER
+                    ? timesheetRepository.findByUserIdAndWeekStartDateBetween(id, startDate, endDate)
+                    : timesheetRepository.findByProjectIdAndWeekStartDateBetween(id, startDate, endDate);
+            return timesheets.stream().map(mapper).toList();
+        }
+
+        OffHeapSlabStore store = scope == Scope.USER ? userWeeks : projectWeeks;
+        List<TimesheetSummaryDTO> summaries = new ArrayList<>();
+        List<LocalDate> missing = new ArrayList<>();
+        for (LocalDate week = firstWeek; !week.isAfter(lastWeek); week = week.plusWeeks(1)) {
+            byte[] encoded = store.get(key(id, week));
+            if (encoded == null) {
+                missing.add(week);
+            } else {
+                summaries.addAll(decode(encoded));
+            }
+        }
+        if (!missing.isEmpty()) {
+            summaries.addAll(load(scope, store, id, missing, mapper));
+        }
+
+        return summaries.stream()
+                .filter(summary -> summary.getWeekStartDate().isAfter(startDate)
+                        && summary.getWeekStartDate().isBefore(endDate))
+                .sorted(Comparator.comparing(TimesheetSummaryDTO::getWeekStartDate))
+                .toList();
+    }
+
+    private List<TimesheetSummaryDTO> load(Scope scope, OffHeapSlabStore store, String id, List<LocalDate> missingWeeks,
+                                           Function<Timesheet, TimesheetSummaryDTO> mapper) {
+        long generation = invalidations.get();
+        List<Timesheet> loaded = scope == Scope.USER
+                ? timesheetRepository.findByUserIdAndWeekStartDateInRanges(id, TimesheetWeekCache.toRanges(missingWeeks))
+                : timesheetRepository.findByProjectIdAndWeekStartDateInRanges(id, TimesheetWeekCache.toRanges(missingWeeks));
+        Map<LocalDate, List<TimesheetSummaryDTO>> byWeek = loaded.stream()
+                .map(mapper)
+                .collect(Collectors.groupingBy(summary -> TimesheetWeekCache.weekOf(summary.getWeekStartDate())));
+
+        List<TimesheetSummaryDTO> result = new ArrayList<>();
+        for (LocalDate week : missingWeeks) {
+            List<TimesheetSummaryDTO> summaries = byWeek.getOrDefault(week, List.of());
+            String key = key(id, week);
+            store.put(key, encode(summaries));
+            // Checked after the put: an eviction since the load began either removes the entry or is seen here
+            if (invalidations.get() != generation) {
+                store.invalidate(key);
+            }
+            result.addAll(summaries);
+        }
+        log.debug("Loaded {} weeks of {} timesheet summaries for {}", missingWeeks.size(), scope, id);
+        return result;
+    }
+
+    static byte[] encode(List<TimesheetSummaryDTO> summaries) {
+        List<byte[]> strings = new ArrayList<>();
+        int size = Integer.BYTES;
+        for (TimesheetSummaryDTO summary : summaries) {
+            size += idSize(summary.getId(), strings) + idSize(summary.getProjectId(), strings)
+                    + Integer.BYTES + Integer.BYTES + Byte.BYTES + Byte.BYTES + Long.BYTES + Integer.BYTES;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(summaries.size());
+        int string = 0;
+        for (TimesheetSummaryDTO summary : summaries) {
+            string = putId(buffer, summary.getId(), strings, string);
+            string = putId(buffer, summary.getProjectId(), strings, string);
+            buffer.putInt(summary.getWeekStartDate() == null ? ABSENT : (int) summary.getWeekStartDate().toEpochDay());
+            buffer.putInt(summary.getTotalHours() == null ? ABSENT : summary.getTotalHours());
+            buffer.put(summary.getStatus() == null ? -1 : (byte) summary.getStatus().ordinal());
+            LocalDateTime submittedAt = summary.getSubmittedAt();
+            buffer.put(submittedAt == null ? NULL : 1);
+            buffer.putLong(submittedAt == null ? 0 : submittedAt.toEpochSecond(ZoneOffset.UTC));
+            buffer.putInt(submittedAt == null ? 0 : submittedAt.getNano());
+        }
+        return buffer.array();
+    }
+
+    static List<TimesheetSummaryDTO> decode(byte[] encoded) {
+        ByteBuffer buffer = ByteBuffer.wrap(encoded);
+        int count = buffer.getInt();
+        List<TimesheetSummaryDTO> summaries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String id = getId(buffer);
+            String projectId = getId(buffer);
+            int epochDay = buffer.getInt();
+            int totalHours = buffer.getInt();
+            byte status = buffer.get();
+            boolean submitted = buffer.get() != NULL;
+            long seconds = buffer.getLong();
+            int nanos = buffer.getInt();
+            summaries.add(new TimesheetSummaryDTO(
+                    id,
+                    projectId,
+                    epochDay == ABSENT ? null : LocalDate.ofEpochDay(epochDay),
+                    totalHours == ABSENT ? null : totalHours,
+                    status < 0 ? null : STATUSES[status],
+                    submitted ? LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC) : null
+            ));
+        }
+        return summaries;
+    }
+
+    private static int idSize(String id, List<byte[]> strings) {
+        if (id == null) {
+            return Byte.BYTES;
+        }
+        if (isObjectId(id)) {
+            return Byte.BYTES + 12;
+        }
+        byte[] utf8 = id.getBytes(StandardCharsets.UTF_8);
+        strings.add(utf8);
+        return Byte.BYTES + Integer.BYTES + utf8.length;
+    }
+
+    private static int putId(ByteBuffer buffer, String id, List<byte[]> strings, int string) {
+        if (id == null) {
+            buffer.put(NULL);
+            return string;
+        }
+        if (isObjectId(id)) {
+            buffer.put(OBJECT_ID).put(new ObjectId(id).toByteArray());
+            return string;
+        }
+        byte[] utf8 = strings.get(string);
+        buffer.put(UTF8).putInt(utf8.length).put(utf8);
+        return string + 1;
+    }
+
+    private static String getId(ByteBuffer buffer) {
+        byte type = buffer.get();
+        if (type == NULL) {
+            return null;
+        }
+        if (type == OBJECT_ID) {
+            byte[] bytes = new byte[12];
+            buffer.get(bytes);
+            return new ObjectId(bytes).toHexString();
+        }
+        byte[] utf8 = new byte[buffer.getInt()];
+        buffer.get(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    // Lower case only, so the id decodes back to exactly the same string
+    private static boolean isObjectId(String id) {
+        return ObjectId.isValid(id) && id.equals(id.toLowerCase());
+    }
+
+    private static OffHeapSlabStore store(String name, TimesheetSummaryCacheProperties.Tier tier, int slabBytes) {
+        return new OffHeapSlabStore(name, tier.getCapacity().toBytes(), (int) tier.getSlotSize().toBytes(), slabBytes);
+    }
+
+    private static String key(String id, LocalDate week) {
+        return id + '@' + week.toEpochDay();
+    }
+
+    private enum Scope { USER, PROJECT }
+}
@@ -0,0 +1,36 @@
+package com.project.management.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "timesheet.summary-cache")
+public class TimesheetSummaryCacheProperties {
+    private boolean enabled = false;
+    private int maxRangeWeeks = 104;
+    /** Direct memory is allocated in slabs of this size as the cache fills. */
+    private DataSize slabSize = DataSize.ofMegabytes(64);
+    private Tier userWeeks = new Tier(DataSize.ofMegabytes(512), DataSize.ofBytes(512));
+    private Tier projectWeeks = new Tier(DataSize.ofMegabytes(128), DataSize.ofKilobytes(8));
+
+    @Getter
+    @Setter
+    public static class Tier {
+        private DataSize capacity;
+        /** Upper bound on one week's encoded summaries; larger weeks are always read from MongoDB. */
+        private DataSize slotSize;
+
+        public Tier() {
+        }
+
+        Tier(DataSize capacity, DataSize slotSize) {
+            this.capacity = capacity;
+            this.slotSize = slotSize;
+        }
+    }
+}
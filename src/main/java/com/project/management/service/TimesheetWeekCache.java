@@ -0,0 +1,162 @@
+package com.project.management.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.management.Models.Timesheet;
+import com.project.management.event.TimesheetStatusChangedEvent;
+import com.project.management.repository.TimesheetRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Range;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Caches each user's timesheets one calendar week (Monday to Sunday) at a time.
+ * <p>
+ * A date range is answered from the cached weeks it covers; the weeks that are missing are
+ * loaded together in one query and cached, including weeks with no timesheets. Status changes
+ * evict just the week of the timesheet that changed, and entries also expire after a while so
+ * writes made by other instances are picked up. Ranges longer than {@code max-range-weeks} go
+ * straight to the repository rather than flooding the cache.
+ * <p>
+ * Hits and misses are published as {@code cache.gets} with {@code cache=timesheet.weeks}.
+ */
+@Component
+@Slf4j
+public class TimesheetWeekCache {
+
+    static final String CACHE_NAME = "timesheet.weeks";
+
+    private final TimesheetRepository timesheetRepository;
+    private final Cache<WeekKey, List<Timesheet>> weeks;
+    private final int maxRangeWeeks;
+    // Bumped on every eviction, so a load that raced with a write does not cache what it read
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public TimesheetWeekCache(TimesheetRepository timesheetRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${timesheet.week-cache.maximum-size:50000}") long maximumSize,
+                              @Value("${timesheet.week-cache.expire-after-write:PT10M}") Duration expireAfterWrite,
+                              @Value("${timesheet.week-cache.max-range-weeks:104}") int maxRangeWeeks) {
+        this.timesheetRepository = timesheetRepository;
+        this.maxRangeWeeks = maxRangeWeeks;
+        this.weeks = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, weeks, CACHE_NAME);
+    }
+
+    /**
+     * Same result as {@link TimesheetRepository#findByUserIdAndWeekStartDateBetween}: week start
+     * strictly after {@code startDate} and strictly before {@code endDate}.
+     */
+    public List<Timesheet> getUserTimesheets(String userId, LocalDate startDate, LocalDate endDate) {
+        if (!startDate.isBefore(endDate)) {
+            return List.of();
+        }
+        LocalDate firstWeek = weekOf(startDate);
+        LocalDate lastWeek = weekOf(endDate);
+        if (ChronoUnit.WEEKS.between(firstWeek, lastWeek) >= maxRangeWeeks) {
+            return timesheetRepository.findByUserIdAndWeekStartDateBetween(userId, startDate, endDate);
+        }
+
+        List<List<Timesheet>> cached = new ArrayList<>();
+        List<LocalDate> missing = new ArrayList<>();
+        for (LocalDate week = firstWeek; !week.isAfter(lastWeek); week = week.plusWeeks(1)) {
+            List<Timesheet> timesheets = weeks.getIfPresent(new WeekKey(userId, week));
+            if (timesheets == null) {
+                missing.add(week);
+            } else {
+                cached.add(timesheets);
+            }
+        }
+        if (!missing.isEmpty()) {
+            cached.addAll(load(userId, missing));
+        }
+
+        return cached.stream()
+                .flatMap(List::stream)
+                .filter(timesheet -> timesheet.getWeekStartDate().isAfter(startDate)
+                        && timesheet.getWeekStartDate().isBefore(endDate))
+                .sorted(Comparator.comparing(Timesheet::getWeekStartDate))
+                .toList();
+    }
+
+    @EventListener
+    public void onTimesheetStatusChanged(TimesheetStatusChangedEvent event) {
+        evict(event.getUserId(), event.getWeekStartDate());
+    }
+
+    /** Drops the user's cached week containing {@code date}. */
+    public void evict(String userId, LocalDate date) {
+        invalidations.incrementAndGet();
+        weeks.invalidate(new WeekKey(userId, weekOf(date)));
+    }
+
+    /** Drops every cached week, for when it is no longer known which ones changed. */
+    public void evictAll() {
+        invalidations.incrementAndGet();
+        weeks.invalidateAll();
+    }
+
+    private List<List<Timesheet>> load(String userId, List<LocalDate> missingWeeks) {
+        long generation = invalidations.get();
+        List<Timesheet> loaded = timesheetRepository.findByUserIdAndWeekStartDateInRanges(userId, toRanges(missingWeeks));
+        Map<LocalDate, List<Timesheet>> byWeek = loaded.stream()
+                .collect(Collectors.groupingBy(timesheet -> weekOf(timesheet.getWeekStartDate())));
+
+        List<List<Timesheet>> result = new ArrayList<>();
+        for (LocalDate week : missingWeeks) {
+            List<Timesheet> timesheets = List.copyOf(byWeek.getOrDefault(week, List.of()));
+            WeekKey key = new WeekKey(userId, week);
+            weeks.put(key, timesheets);
+            // Checked after the put: an eviction since the load began either removes the entry or is seen here
+            if (invalidations.get() != generation) {
+                weeks.asMap().remove(key, timesheets);
+            }
+            result.add(timesheets);
+        }
+        log.debug("Loaded {} weeks of timesheets for user {}", missingWeeks.size(), userId);
+        return result;
+    }
+
+    /** Collapses runs of consecutive weeks into one half-open range each, keeping the $or short. */
+    static List<Range<LocalDate>> toRanges(List<LocalDate> weeks) {
+        List<Range<LocalDate>> ranges = new ArrayList<>();
+        LocalDate runStart = weeks.getFirst();
+        LocalDate runEnd = runStart.plusWeeks(1);
+        for (LocalDate week : weeks.subList(1, weeks.size())) {
+            if (!week.equals(runEnd)) {
+                ranges.add(Range.rightOpen(runStart, runEnd));
+                runStart = week;
+            }
+            runEnd = week.plusWeeks(1);
+        }
+        ranges.add(Range.rightOpen(runStart, runEnd));
+        return ranges;
+    }
+
+    static LocalDate weekOf(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private record WeekKey(String userId, LocalDate week) {
+    }
+}
@@ -0,0 +1,180 @@
+package com.project.management.service;
+
+import com.project.management.Models.User;
+import com.project.management.cache.BloomFilter;
+import com.project.management.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Answers whether a username and email are free to register, mostly without a database query.
+ * <p>
+ * A {@link BloomFilter} holds every known username and email. When neither value is in it, both
+ * are definitely free. Otherwise, and until the filter has been built, a single {@code $or} query
+ * settles it. The filter is built from a projection scan once the application is ready. Created
+ * users are added to it, as are users created on other instances when {@code CacheInvalidationBus}
+ * reports them. Deleted values cannot be removed from a Bloom filter, so they only cost a query
+ * until {@code user-availability.rebuild-after-deletes} deletes trigger a rebuild.
+ * <p>
+ * The filter never reports a stored value as free, but it can miss a user that another instance
+ * created a moment ago. The unique indexes built by {@link UserIndexes} close that gap, and
+ * {@link #fromDuplicateKey} maps their violations to the same answer.
+ * <p>
+ * Checks are counted in {@code user.availability.checks}, tagged {@code filtered} (no query),
+ * {@code taken}, or {@code false_positive} (queried, but free).
+ */
+@Service
+@Slf4j
+public class UserAvailability {
+
+    public enum Result { AVAILABLE, USERNAME_TAKEN, EMAIL_TAKEN }
+
+    // E11000 messages name the violated index as "index: <name> dup key: ..."
+    private static final Pattern DUPLICATE_KEY_INDEX = Pattern.compile("index: (\\S+)");
+
+    private final UserRepository userRepository;
+    private final Counter filtered;
+    private final Counter taken;
+    private final Counter falsePositives;
+
+    private volatile BloomFilter filter;
+    // Receives every add while a rebuild scan runs, so values saved mid-scan are not lost
+    private volatile BloomFilter rebuilding;
+    private final AtomicBoolean rebuildInProgress = new AtomicBoolean();
+    private final AtomicLong deletesSinceBuild = new AtomicLong();
+
+    @Value("${user-availability.filter-enabled:true}")
+    private boolean filterEnabled = true;
+
+    @Value("${user-availability.expected-users:100000}")
+    private long expectedUsers = 100_000;
+
+    @Value("${user-availability.false-positive-rate:0.01}")
+    private double falsePositiveRate = 0.01;
+
+    @Value("${user-availability.rebuild-after-deletes:1000}")
+    private long rebuildAfterDeletes = 1000;
+
+    public UserAvailability(UserRepository userRepository, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.filtered = counter(meterRegistry, "filtered");
+        this.taken = counter(meterRegistry, "taken");
+        this.falsePositives = counter(meterRegistry, "false_positive");
+    }
+
+    public Result check(String username, String email) {
+        BloomFilter current = filter;
+        if (current != null && !current.mightContain(username) && (email == null || !current.mightContain(email))) {
+            filtered.increment();
+            return Result.AVAILABLE;
+        }
+        // { email: null } would match every user without an email
+        List<User> matches = email == null
+                ? userRepository.findByUsername(username).stream().toList()
+                : userRepository.findByUsernameOrEmail(username, email);
+        Result result = matches.stream().anyMatch(user -> username.equals(user.getUsername())) ? Result.USERNAME_TAKEN
+                : matches.isEmpty() ? Result.AVAILABLE : Result.EMAIL_TAKEN;
+        (result == Result.AVAILABLE ? falsePositives : taken).increment();
+        return result;
+    }
+
+    /**
+     * Which value a unique index rejected. Any other duplicate key, such as a clashing {@code _id},
+     * is not about availability and is rethrown.
+     */
+    public Result fromDuplicateKey(DuplicateKeyException e) {
+        Matcher index = DUPLICATE_KEY_INDEX.matcher(Objects.toString(e.getMessage(), ""));
+        String name = index.find() ? index.group(1) : "";
+        return switch (name) {
+            case User.USERNAME_INDEX -> Result.USERNAME_TAKEN;
+            case User.EMAIL_INDEX -> Result.EMAIL_TAKEN;
+            default -> throw e;
+        };
+    }
+
+    /** Records a saved (or, from another instance, observed) username and email. */
+    public void added(String username, String email) {
+        // Read before filter: a rebuild publishes its filter before clearing this, so one of the two is current
+        BloomFilter next = rebuilding;
+        BloomFilter current = filter;
+        if (next != null) {
+            put(next, username, email);
+        }
+        if (current != null && current != next) {
+            put(current, username, email);
+        }
+    }
+
+    public void removed() {
+        if (deletesSinceBuild.incrementAndGet() >= rebuildAfterDeletes && filter != null) {
+            Thread.ofVirtual().name("user-availability-rebuild").start(this::rebuild);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (filterEnabled) {
+            Thread.ofVirtual().name("user-availability-build").start(this::rebuild);
+        }
+    }
+
+    /** Whether checks can currently skip the database. */
+    public boolean isFilterReady() {
+        return filter != null;
+    }
+
+    void rebuild() {
+        if (!rebuildInProgress.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long users = userRepository.count();
+            // Two values per user, with headroom for growth until the next rebuild
+            BloomFilter next = BloomFilter.create(Math.max(expectedUsers, users * 2) * 2, falsePositiveRate);
+            rebuilding = next;
+            deletesSinceBuild.set(0);
+            long scanned = 0;
+            try (Stream<User> stream = userRepository.streamUsernamesAndEmails()) {
+                for (User user : (Iterable<User>) stream::iterator) {
+                    put(next, user.getUsername(), user.getEmail());
+                    scanned++;
+                }
+            }
+            filter = next;
+            log.info("Built user availability filter from {} users ({} bits, {} hashes)", scanned,
+                    next.bitCount(), next.hashCount());
+        } catch (RuntimeException e) {
+            log.warn("Could not build user availability filter, checks will query the database: {}", e.getMessage());
+        } finally {
+            rebuilding = null;
+            rebuildInProgress.set(false);
+        }
+    }
+
+    private static void put(BloomFilter target, String username, String email) {
+        if (username != null) {
+            target.put(username);
+        }
+        if (email != null) {
+            target.put(email);
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("user.availability.checks").tag("result", result).register(meterRegistry);
+    }
+}
@@ -0,0 +1,93 @@
+package com.project.management.service;
+
+import com.project.management.Models.User;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Creates the unique indexes on {@link User} once the application is ready, instead of through
+ * {@code auto-index-creation}, which would abort startup on a database that already holds
+ * duplicates.
+ * <p>
+ * User data is never changed here. When a username or email belongs to more than one user, its
+ * index is skipped and the duplicates are logged, until they are resolved by hand or, for emails,
+ * by the one-off {@link com.project.management.migration.DuplicateEmailMigration}. The application
+ * keeps running either way, and until an index exists the {@link UserAvailability} check is the
+ * only guard against that kind of duplicate.
+ */
+@Component
+@Slf4j
+public class UserIndexes {
+
+    static final String USERNAME = "username";
+    static final String EMAIL = "email";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${user-indexes.enabled:true}")
+    private boolean enabled = true;
+
+    public UserIndexes(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            Thread.ofVirtual().name("user-indexes").start(this::ensureIndexes);
+        }
+    }
+
+    void ensureIndexes() {
+        try {
+            IndexOperations indexes = mongoTemplate.indexOps(User.class);
+
+            List<Document> usernames = duplicates(USERNAME);
+            if (usernames.isEmpty()) {
+                indexes.ensureIndex(new Index().on(USERNAME, Sort.Direction.ASC).unique().named(User.USERNAME_INDEX));
+            } else {
+                log.error("Not creating {}: {} usernames belong to more than one user ({}); rename or remove the extra"
+                        + " users and restart", User.USERNAME_INDEX, usernames.size(), sample(usernames));
+            }
+
+            List<Document> emails = duplicates(EMAIL);
+            if (emails.isEmpty()) {
+                indexes.ensureIndex(new Index().on(EMAIL, Sort.Direction.ASC).unique().sparse().named(User.EMAIL_INDEX));
+            } else {
+                log.error("Not creating {}: {} emails belong to more than one user; run the dedup-emails migration"
+                        + " or fix them by hand, then restart", User.EMAIL_INDEX, emails.size());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not create unique user indexes, registration relies on availability checks: {}",
+                    e.getMessage());
+        }
+    }
+
+    /** Values of {@code field} held by more than one user. */
+    private List<Document> duplicates(String field) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                        Aggregation.match(Criteria.where(field).exists(true)),
+                        Aggregation.group(field).count().as("count"),
+                        Aggregation.match(Criteria.where("count").gt(1)))
+                .withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+        return mongoTemplate.aggregate(aggregation, mongoTemplate.getCollectionName(User.class), Document.class)
+                .getMappedResults();
+    }
+
+    private static List<Object> sample(List<Document> duplicates) {
+        return duplicates.stream().map(duplicate -> duplicate.get("_id")).limit(10).toList();
+    }
+}
@@ -1,5 +1,6 @@
 package com.project.management.service;
 
+import com.project.management.dto.BatchLookupResponseDTO;
 import com.project.management.dto.UserDTO;
 import com.project.management.dto.UserRegistrationDTO;
 import com.project.management.dto.UserWeeklyStatsDTO;
@@ -10,10 +11,11 @@ import com.project.management.exception.ResourceNotFoundException;
 import com.project.management.exception.UserAlreadyExistsException;
 import com.project.management.repository.TimesheetRepository;
 import com.project.management.repository.UserRepository;
+import com.project.management.security.PasswordHashing;
 import jakarta.validation.ValidationException;
 import lombok.Builder;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,26 +35,34 @@ import java.util.stream.Collectors;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashing passwordHashing;
     private final TimesheetRepository timesheetRepository;
+    private final DataVersions dataVersions;
+    private final UserAvailability userAvailability;
 
     public UserDTO createUser(UserRegistrationDTO registrationDTO) {
-        if (userRepository.findByUsername(registrationDTO.getUsername()).isPresent()) {
-            throw new UserAlreadyExistsException("Username already exists");
-        }
-
         if (!registrationDTO.getPassword().equals(registrationDTO.getConfirmPassword())) {
             throw new ValidationException("Passwords do not match");
         }
 
+        rejectIfTaken(userAvailability.check(registrationDTO.getUsername(), registrationDTO.getEmail()));
+
         User user = new User();
         user.setUsername(registrationDTO.getUsername());
         user.setEmail(registrationDTO.getEmail());
-        user.setPassword(passwordEncoder.encode(registrationDTO.getPassword()));
+        user.setPassword(passwordHashing.encode(registrationDTO.getPassword()));
         user.setRole(UserRole.USER);
         user.setAssignedProjects(new ArrayList<>());
         user.setCreatedAt(LocalDateTime.now());
-        User savedUser = userRepository.save(user);
+        User savedUser;
+        try {
+            savedUser = userRepository.save(user);
+        } catch (DuplicateKeyException e) {
+            rejectIfTaken(userAvailability.fromDuplicateKey(e));
+            throw e;
+        }
+        userAvailability.added(user.getUsername(), user.getEmail());
+        dataVersions.bump(DataVersions.Collection.USERS);
         return mapToDTO(savedUser);
     }
 
@@ -68,11 +78,17 @@ public class UserService {
         return mapToDTO(user);
     }
 
+    public BatchLookupResponseDTO<UserDTO> getUsersByIds(List<String> userIds) {
+        return BatchLookupResponseDTO.of(userIds, userRepository.findAllById(userIds), User::getId, this::mapToDTO);
+    }
+
     public void deleteUserById(String userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
         userRepository.delete(user);
+        userAvailability.removed();
+        dataVersions.bump(DataVersions.Collection.USERS);
     }
 
     public List<UserWeeklyStatsDTO> getUsersWeeklyStats(LocalDate startDate, LocalDate endDate) {
@@ -115,6 +131,14 @@ public class UserService {
         return (double) totalHours / maxHours * 100;
     }
 
+    private static void rejectIfTaken(UserAvailability.Result availability) {
+        switch (availability) {
+            case USERNAME_TAKEN -> throw new UserAlreadyExistsException("Username already exists");
+            case EMAIL_TAKEN -> throw new UserAlreadyExistsException("Email already exists");
+            case AVAILABLE -> { }
+        }
+    }
+
     private UserDTO mapToDTO(User user) {
         return new UserDTO(
                 user.getId(),
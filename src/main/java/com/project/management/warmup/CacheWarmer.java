@@ -0,0 +1,247 @@
+package com.project.management.warmup;
+
+import com.project.management.Models.Timesheet;
+import com.project.management.Models.User;
+import com.project.management.Models.UserRole;
+import com.project.management.cache.ResponseBytesCache;
+import com.project.management.repository.TimesheetRepository;
+import com.project.management.repository.UserRepository;
+import com.project.management.security.JwtTokenProvider;
+import com.project.management.service.CustomUserDetailsService;
+import com.project.management.service.DataVersions;
+import com.project.management.service.MetricsService;
+import com.project.management.service.ProjectService;
+import com.project.management.service.TimesheetService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Warms caches and JIT after startup, before readiness lets traffic in.
+ * <p>
+ * Once the application is ready, a virtual thread encodes the project list and dashboard into
+ * {@link ResponseBytesCache}, runs the project stats rollup, and loads the hot set: users and
+ * projects with timesheets in the last {@code warmup.recent-weeks} weeks, most recent first,
+ * whose weeks land in the timesheet week and summary caches. Loading each hot user by id also
+ * pulls the documents the JWT filter reads on every request into MongoDB's own cache. With
+ * {@code warmup.synthetic-rounds} set, it then sends loopback requests signed as an admin through
+ * the full filter chain so the JIT compiles the request path as well.
+ * <p>
+ * {@link WarmupHealthIndicator} keeps readiness out of service until this finishes or
+ * {@code warmup.timeout} passes; steps check the deadline and stop early once it has. A failed
+ * step is logged and skipped. Durations are published as {@code warmup.duration} (tagged with the
+ * outcome) and {@code warmup.step.duration} (per step).
+ */
+@Component
+@Slf4j
+public class CacheWarmer {
+
+    public enum State { PENDING, RUNNING, COMPLETED, TIMED_OUT, DISABLED }
+
+    private final WarmupProperties properties;
+    private final ProjectService projectService;
+    private final MetricsService metricsService;
+    private final TimesheetService timesheetService;
+    private final TimesheetRepository timesheetRepository;
+    private final UserRepository userRepository;
+    private final CustomUserDetailsService customUserDetailsService;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final DataVersions dataVersions;
+    private final ObjectProvider<ResponseBytesCache> responseBytesCache;
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    private volatile State state = State.PENDING;
+    private volatile long deadlineNanos;
+
+    public CacheWarmer(WarmupProperties properties,
+                       ProjectService projectService,
+                       MetricsService metricsService,
+                       TimesheetService timesheetService,
+                       TimesheetRepository timesheetRepository,
+                       UserRepository userRepository,
+                       CustomUserDetailsService customUserDetailsService,
+                       JwtTokenProvider jwtTokenProvider,
+                       DataVersions dataVersions,
+                       ObjectProvider<ResponseBytesCache> responseBytesCache,
+                       Environment environment,
+                       MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.projectService = projectService;
+        this.metricsService = metricsService;
+        this.timesheetService = timesheetService;
+        this.timesheetRepository = timesheetRepository;
+        this.userRepository = userRepository;
+        this.customUserDetailsService = customUserDetailsService;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.dataVersions = dataVersions;
+        this.responseBytesCache = responseBytesCache;
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!properties.isEnabled()) {
+            state = State.DISABLED;
+            return;
+        }
+        begin();
+        Thread.ofVirtual().name("cache-warmup").start(this::run);
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /** Whether readiness may report UP: warm-up is over, disabled, or out of time. */
+    public boolean isSettled() {
+        State current = state;
+        return current == State.COMPLETED || current == State.TIMED_OUT || current == State.DISABLED
+                || (current == State.RUNNING && expired());
+    }
+
+    void begin() {
+        deadlineNanos = System.nanoTime() + properties.getTimeout().toNanos();
+        state = State.RUNNING;
+    }
+
+    void run() {
+        long start = System.nanoTime();
+        step("responses", this::warmResponses);
+        step("stats", projectService::getProjectStats);
+        step("hot-set", this::warmHotSet);
+        if (properties.getSyntheticRounds() > 0) {
+            step("synthetic", this::sendSyntheticRequests);
+        }
+        long elapsed = System.nanoTime() - start;
+        state = expired() ? State.TIMED_OUT : State.COMPLETED;
+        Timer.builder("warmup.duration").tag("outcome", state == State.COMPLETED ? "completed" : "timed_out")
+                .register(meterRegistry).record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("Warm-up {} after {} ms", state == State.COMPLETED ? "completed" : "timed out",
+                TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+
+    private void step(String name, Runnable step) {
+        if (expired()) {
+            log.warn("Skipping warm-up step {}: out of time", name);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            step.run();
+        } catch (RuntimeException e) {
+            log.warn("Warm-up step {} failed: {}", name, e.getMessage());
+        }
+        long elapsed = System.nanoTime() - start;
+        Timer.builder("warmup.step.duration").tag("step", name).register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("Warm-up step {} took {} ms", name, TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+
+    private void warmResponses() {
+        ResponseBytesCache cache = responseBytesCache.getIfAvailable();
+        if (cache == null) {
+            return;
+        }
+        // ETags are read before the data, as the controllers do, so a concurrent write cannot be masked
+        String projectsETag = dataVersions.projectsETag();
+        cache.put(ResponseBytesCache.PROJECTS, projectsETag, projectService.getAllProjects());
+        String dashboardETag = dataVersions.dashboardETag();
+        cache.put(ResponseBytesCache.DASHBOARD, dashboardETag, metricsService.getDashboardMetrics());
+    }
+
+    private void warmHotSet() {
+        LocalDate today = LocalDate.now();
+        LocalDate since = today.minusWeeks(properties.getRecentWeeks())
+                .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        Set<String> users = new LinkedHashSet<>();
+        Set<String> projects = new LinkedHashSet<>();
+        int scanned = 0;
+        // Newest weeks first, and only until both sets are full, so the scan never holds more
+        // than the cursor's current batch
+        try (Stream<Timesheet> recent = timesheetRepository.streamPlacementsByWeekStartDateAfter(since.minusDays(1))) {
+            Iterator<Timesheet> timesheets = recent.iterator();
+            while (timesheets.hasNext()
+                    && (users.size() < properties.getMaxUsers() || projects.size() < properties.getMaxProjects())) {
+                Timesheet timesheet = timesheets.next();
+                scanned++;
+                if (timesheet.getUserId() != null && users.size() < properties.getMaxUsers()) {
+                    users.add(timesheet.getUserId());
+                }
+                if (timesheet.getProjectId() != null && projects.size() < properties.getMaxProjects()) {
+                    projects.add(timesheet.getProjectId());
+                }
+            }
+        }
+        // The repository range is exclusive at both ends
+        LocalDate from = since.minusDays(1);
+        LocalDate to = today.plusDays(1);
+        for (String userId : users) {
+            if (expired()) {
+                return;
+            }
+            customUserDetailsService.loadUserById(userId);
+            timesheetService.getUserTimesheets(userId, from, to);
+        }
+        for (String projectId : projects) {
+            if (expired()) {
+                return;
+            }
+            timesheetService.getProjectTimesheets(projectId, from, to);
+        }
+        log.info("Warmed {} users and {} projects from {} recent timesheets", users.size(), projects.size(), scanned);
+    }
+
+    private void sendSyntheticRequests() {
+        String port = environment.getProperty("local.server.port");
+        Optional<User> admin = userRepository.findFirstByRole(UserRole.ADMIN);
+        if (port == null || admin.isEmpty()) {
+            log.info("Skipping synthetic warm-up requests: {}", port == null ? "no local server" : "no admin user");
+            return;
+        }
+        RestClient client = RestClient.builder()
+                .baseUrl("http://localhost:" + port)
+                .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + jwtTokenProvider.generateToken(admin.get()))
+                .build();
+        int sent = 0;
+        for (int round = 0; round < properties.getSyntheticRounds(); round++) {
+            for (String path : properties.getSyntheticPaths()) {
+                if (expired()) {
+                    return;
+                }
+                try {
+                    client.get().uri(path).accept(MediaType.APPLICATION_JSON).retrieve().toBodilessEntity();
+                    sent++;
+                } catch (RestClientException e) {
+                    log.debug("Synthetic warm-up request to {} failed: {}", path, e.getMessage());
+                }
+            }
+        }
+        log.info("Sent {} synthetic warm-up requests", sent);
+    }
+
+    private boolean expired() {
+        return System.nanoTime() - deadlineNanos >= 0;
+    }
+}
@@ -0,0 +1,24 @@
+package com.project.management.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports {@code warmup} as out of service while {@link CacheWarmer} is still running. It is part
+ * of the readiness group, so instances only receive traffic once their caches are warm or the
+ * warm-up timeout has passed.
+ */
+@Component
+@RequiredArgsConstructor
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private final CacheWarmer cacheWarmer;
+
+    @Override
+    public Health health() {
+        Health.Builder builder = cacheWarmer.isSettled() ? Health.up() : Health.outOfService();
+        return builder.withDetail("state", cacheWarmer.getState()).build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.project.management.warmup;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "warmup")
+public class WarmupProperties {
+    private boolean enabled = true;
+    /** Readiness reports UP after this long even if warm-up has not finished. */
+    private Duration timeout = Duration.ofSeconds(60);
+    /** Users and projects with timesheets in this many recent weeks make up the hot set. */
+    private int recentWeeks = 4;
+    private int maxUsers = 500;
+    private int maxProjects = 200;
+    /** Rounds of loopback requests through the full filter chain, signed as an admin; 0 skips them. */
+    private int syntheticRounds = 0;
+    /** GET paths requested in each synthetic round. */
+    private List<String> syntheticPaths = new ArrayList<>(List.of(
+            "/api/projects",
+            "/api/projects/stats",
+            "/api/metrics/dashboard",
+            "/api/timesheets/stats/summary"));
+}
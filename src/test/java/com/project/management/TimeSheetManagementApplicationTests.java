@@ -1,14 +1,32 @@
 package com.project.management;
 
+import com.project.management.service.MetricsService;
+import com.project.management.service.ProjectService;
 import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 @SpringBootTest(classes = TimeSheetManagementApplication.class)
 
 class TimeSheetManagementApplicationTests {
 
+    @Autowired
+    private MetricsService metricsService;
+
+    @Autowired
+    private ProjectService projectService;
+
     @Test
     void contextLoads() {
     }
 
+    @Test
+    void coalescedServicesAreProxied() {
+        assertTrue(AopUtils.isAopProxy(metricsService));
+        assertTrue(AopUtils.isAopProxy(projectService));
+    }
+
 }
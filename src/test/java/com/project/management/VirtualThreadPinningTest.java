@@ -0,0 +1,80 @@
+package com.project.management;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.asm.ClassReader;
+import org.springframework.asm.ClassVisitor;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Request handling and service fan-out run on virtual threads. On this JDK a virtual thread that
+ * blocks inside a {@code synchronized} method or block pins its carrier thread, so a blocking Mongo
+ * call under a monitor serialises requests across the whole carrier pool. Application code guards
+ * shared state with {@code java.util.concurrent} locks and atomics instead; this test fails the
+ * build if a monitor sneaks back in.
+ */
+class VirtualThreadPinningTest {
+
+    @Test
+    void applicationCodeDoesNotUseMonitors() throws IOException {
+        Resource[] classes = new PathMatchingResourcePatternResolver()
+                .getResources("classpath*:com/project/management/**/*.class");
+        List<String> offenders = new ArrayList<>();
+        int scanned = 0;
+
+        for (Resource resource : classes) {
+            if (!resource.getURL().getPath().contains("/classes/")
+                    || resource.getURL().getPath().contains("/test-classes/")) {
+                continue;
+            }
+            scanned++;
+            try (InputStream in = resource.getInputStream()) {
+                new ClassReader(in).accept(new MonitorFinder(offenders), ClassReader.SKIP_DEBUG);
+            }
+        }
+
+        assertTrue(scanned > 0, "No application classes found to scan");
+        assertTrue(offenders.isEmpty(), "Monitors pin virtual threads: " + offenders);
+    }
+
+    private static final class MonitorFinder extends ClassVisitor {
+
+        private final List<String> offenders;
+        private String className;
+
+        MonitorFinder(List<String> offenders) {
+            super(Opcodes.ASM9);
+            this.offenders = offenders;
+        }
+
+        @Override
+        public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+            className = name.replace('/', '.');
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+            String method = className + "#" + name;
+            if ((access & Opcodes.ACC_SYNCHRONIZED) != 0) {
+                offenders.add(method + " (synchronized method)");
+            }
+            return new MethodVisitor(Opcodes.ASM9) {
+                @Override
+                public void visitInsn(int opcode) {
+                    if (opcode == Opcodes.MONITORENTER) {
+                        offenders.add(method + " (synchronized block)");
+                    }
+                }
+            };
+        }
+    }
+}
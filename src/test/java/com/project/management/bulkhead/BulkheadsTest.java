@@ -0,0 +1,85 @@
+package com.project.management.bulkhead;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkheadsTest {
+
+    private MeterRegistry meterRegistry;
+    private Bulkheads bulkheads;
+
+    @BeforeEach
+    void setUp() {
+        BulkheadProperties.Pool analytics = new BulkheadProperties.Pool();
+        analytics.setMaxConcurrency(1);
+        analytics.setQueueCapacity(1);
+        BulkheadProperties properties = new BulkheadProperties();
+        properties.getPools().put(Bulkheads.ANALYTICS, analytics);
+
+        meterRegistry = new SimpleMeterRegistry();
+        bulkheads = new Bulkheads(properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bulkheads.destroy();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void fullBulkhead_RejectsWithoutAffectingOthers() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        bulkheads.analytics().execute(() -> {
+            running.countDown();
+            await(release);
+        });
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        bulkheads.analytics().execute(() -> { });
+
+        assertThrows(RejectedExecutionException.class, () -> bulkheads.analytics().execute(() -> { }));
+        assertEquals("write", CompletableFuture.supplyAsync(() -> "write", bulkheads.writes()).get(5, TimeUnit.SECONDS));
+
+        assertEquals(1.0, meterRegistry.get("bulkhead.rejected").tag("name", Bulkheads.ANALYTICS).counter().count());
+        assertEquals(1.0, meterRegistry.get("bulkhead.queue.depth").tag("name", Bulkheads.ANALYTICS).gauge().value());
+        assertEquals(1.0, meterRegistry.get("bulkhead.active").tag("name", Bulkheads.ANALYTICS).gauge().value());
+        release.countDown();
+    }
+
+    @Test
+    void tasks_RunOnVirtualThreadsWithCallerSecurityContext() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("user-1", null));
+
+        CompletableFuture<String> result = CompletableFuture.supplyAsync(() -> {
+            assertTrue(Thread.currentThread().isVirtual());
+            return SecurityContextHolder.getContext().getAuthentication().getName();
+        }, bulkheads.reads());
+
+        assertEquals("user-1", result.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void unconfiguredBulkheads_UseDefaults() {
+        assertEquals(new BulkheadProperties.Pool().getMaxConcurrency(), bulkheads.pool(Bulkheads.WRITES).getMaximumPoolSize());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
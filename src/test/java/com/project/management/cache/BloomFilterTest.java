@@ -0,0 +1,46 @@
+package com.project.management.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void mightContain_TrueForEveryValuePut() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + "@example.com");
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("user" + i + "@example.com"));
+        }
+    }
+
+    @Test
+    void mightContain_FalsePositiveRateNearTarget() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("other" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void create_SizesBitsAndHashesForTarget() {
+        BloomFilter filter = BloomFilter.create(1_000, 0.01);
+
+        // ~9.6 bits and ~7 hashes per value at 1%
+        assertEquals(9_586, filter.bitCount());
+        assertEquals(7, filter.hashCount());
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(1_000, 0));
+    }
+}
@@ -0,0 +1,145 @@
+package com.project.management.cache;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.project.management.service.DataVersions;
+import com.project.management.service.TimesheetSummaryCache;
+import com.project.management.service.TimesheetWeekCache;
+import com.project.management.service.UserAvailability;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs the bus against a single-node replica set, which is what change streams need.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class CacheInvalidationBusIntegrationTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(20);
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    private MongoClient client;
+    private MongoTemplate mongoTemplate;
+    private DataVersions dataVersions;
+    private MeterRegistry meterRegistry;
+    private TimesheetWeekCache timesheetWeekCache;
+    private TimesheetSummaryCache timesheetSummaryCache;
+    private CacheInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        client = MongoClients.create(MONGO.getReplicaSetUrl());
+        mongoTemplate = new MongoTemplate(client, "timesheets-test");
+        dataVersions = new DataVersions();
+        meterRegistry = new SimpleMeterRegistry();
+        timesheetWeekCache = mock(TimesheetWeekCache.class);
+        timesheetSummaryCache = mock(TimesheetSummaryCache.class);
+        bus = new CacheInvalidationBus(mongoTemplate, dataVersions, timesheetWeekCache, timesheetSummaryCache,
+                mock(UserAvailability.class), meterRegistry);
+        bus.start();
+        await(bus::isConnected);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bus.stop();
+        client.close();
+    }
+
+    @Test
+    void writesFromAnotherInstance_InvalidateLocalCaches() {
+        ObjectId projectId = new ObjectId();
+        ObjectId userId = new ObjectId();
+        LocalDate week = LocalDate.of(2024, 3, 4);
+        String projectETag = dataVersions.projectETag(projectId.toHexString());
+        long users = dataVersions.version(DataVersions.Collection.USERS);
+
+        mongoTemplate.getCollection("projects").insertOne(new Document("_id", projectId).append("name", "Apollo"));
+        mongoTemplate.getCollection("users").insertOne(new Document("_id", userId).append("username", "ada"));
+        mongoTemplate.getCollection("timesheets").insertOne(new Document("userId", userId)
+                .append("projectId", projectId)
+                .append("weekStartDate", Date.from(week.atStartOfDay(ZoneId.systemDefault()).toInstant())));
+
+        await(() -> !projectETag.equals(dataVersions.projectETag(projectId.toHexString())));
+        await(() -> dataVersions.version(DataVersions.Collection.USERS) > users);
+        verify(timesheetWeekCache, timeout(TIMEOUT.toMillis())).evict(userId.toHexString(), week);
+        verify(timesheetSummaryCache, timeout(TIMEOUT.toMillis()))
+                .evict(userId.toHexString(), projectId.toHexString(), week);
+        assertTrue(meterRegistry.get("cache.invalidation.lag").tag("collection", "timesheets").timer().count() > 0);
+    }
+
+    @Test
+    void movedTimesheet_EvictsWhereItWasAndWhereItIs() {
+        ObjectId id = new ObjectId();
+        ObjectId userId = new ObjectId();
+        ObjectId otherUserId = new ObjectId();
+        ObjectId projectId = new ObjectId();
+        LocalDate week = LocalDate.of(2024, 3, 4);
+        LocalDate nextWeek = week.plusWeeks(1);
+        mongoTemplate.getCollection("timesheets").insertOne(new Document("_id", id)
+                .append("userId", userId)
+                .append("projectId", projectId)
+                .append("weekStartDate", date(week)));
+        verify(timesheetWeekCache, timeout(TIMEOUT.toMillis())).evict(userId.toHexString(), week);
+        clearInvocations(timesheetWeekCache);
+
+        mongoTemplate.getCollection("timesheets").updateOne(new Document("_id", id), new Document("$set",
+                new Document("userId", otherUserId).append("weekStartDate", date(nextWeek))));
+
+        // The pre-image places the old entry, so nothing has to be evicted wholesale
+        verify(timesheetWeekCache, timeout(TIMEOUT.toMillis())).evict(userId.toHexString(), week);
+        verify(timesheetWeekCache, timeout(TIMEOUT.toMillis())).evict(otherUserId.toHexString(), nextWeek);
+        verify(timesheetWeekCache, never()).evictAll();
+    }
+
+    @Test
+    void reconnect_ResumesAfterLastSeenEvent() {
+        mongoTemplate.getCollection("users").insertOne(new Document("username", "first"));
+        await(() -> bus.resumeToken(CacheInvalidationBus.USERS) != null);
+
+        bus.stop();
+        long users = dataVersions.version(DataVersions.Collection.USERS);
+        // Written while no stream is open; the restarted stream picks it up from the held token
+        mongoTemplate.getCollection("users").insertOne(new Document("username", "missed"));
+        bus.start();
+
+        await(() -> dataVersions.version(DataVersions.Collection.USERS) > users);
+    }
+
+    private static Date date(LocalDate day) {
+        return Date.from(day.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting for the change stream");
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(e);
+            }
+        }
+    }
+}
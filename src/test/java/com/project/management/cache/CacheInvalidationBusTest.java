@@ -0,0 +1,210 @@
+package com.project.management.cache;
+
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.mongodb.client.model.changestream.UpdateDescription;
+import com.project.management.service.DataVersions;
+import com.project.management.service.TimesheetSummaryCache;
+import com.project.management.service.TimesheetWeekCache;
+import com.project.management.service.UserAvailability;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDocument;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationBusTest {
+
+    private static final LocalDate WEEK = LocalDate.of(2024, 3, 4);
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private TimesheetWeekCache timesheetWeekCache;
+
+    @Mock
+    private TimesheetSummaryCache timesheetSummaryCache;
+
+    @Mock
+    private UserAvailability userAvailability;
+
+    private DataVersions dataVersions;
+    private MeterRegistry meterRegistry;
+    private CacheInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        dataVersions = new DataVersions();
+        meterRegistry = new SimpleMeterRegistry();
+        bus = new CacheInvalidationBus(mongoTemplate, dataVersions, timesheetWeekCache, timesheetSummaryCache,
+                userAvailability, meterRegistry);
+    }
+
+    @Test
+    void projectChange_BumpsProjectListAndProject() {
+        ObjectId projectId = new ObjectId();
+        String listETag = dataVersions.projectsETag();
+        String projectETag = dataVersions.projectETag(projectId.toHexString());
+
+        bus.apply(CacheInvalidationBus.PROJECTS, OperationType.UPDATE, key(projectId), null, null);
+
+        assertNotEquals(listETag, dataVersions.projectsETag());
+        assertNotEquals(projectETag, dataVersions.projectETag(projectId.toHexString()));
+        assertEquals(1.0, meterRegistry.get("cache.invalidation.events")
+                .tag("collection", "projects").tag("operation", "update").counter().count());
+        verifyNoInteractions(timesheetWeekCache, timesheetSummaryCache);
+    }
+
+    @Test
+    void userChange_BumpsUsersAndRecordsNameAndEmail() {
+        long before = dataVersions.version(DataVersions.Collection.USERS);
+
+        bus.apply(CacheInvalidationBus.USERS, OperationType.INSERT, key(new ObjectId()), null,
+                new Document("username", "ada").append("email", "ada@example.com"));
+
+        assertEquals(before + 1, dataVersions.version(DataVersions.Collection.USERS));
+        verify(userAvailability).added("ada", "ada@example.com");
+    }
+
+    @Test
+    void timesheetChange_EvictsOnlyItsWeek() {
+        ObjectId userId = new ObjectId();
+        ObjectId projectId = new ObjectId();
+        String projectETag = dataVersions.projectETag(projectId.toHexString());
+        Document timesheet = timesheet(userId, projectId, WEEK);
+
+        bus.apply(CacheInvalidationBus.TIMESHEETS, OperationType.REPLACE, key(new ObjectId()), timesheet, timesheet);
+
+        verify(timesheetWeekCache, times(2)).evict(userId.toHexString(), WEEK);
+        verify(timesheetSummaryCache, times(2)).evict(userId.toHexString(), projectId.toHexString(), WEEK);
+        verify(timesheetWeekCache, never()).evictAll();
+        assertNotEquals(projectETag, dataVersions.projectETag(projectId.toHexString()));
+    }
+
+    @Test
+    void timesheetMoved_EvictsBothWeeksAndUsers() {
+        ObjectId userId = new ObjectId();
+        ObjectId otherUserId = new ObjectId();
+        ObjectId projectId = new ObjectId();
+        LocalDate nextWeek = WEEK.plusWeeks(1);
+
+        bus.apply(CacheInvalidationBus.TIMESHEETS, OperationType.UPDATE, key(new ObjectId()),
+                timesheet(userId, projectId, WEEK), timesheet(otherUserId, projectId, nextWeek));
+
+        verify(timesheetWeekCache).evict(userId.toHexString(), WEEK);
+        verify(timesheetWeekCache).evict(otherUserId.toHexString(), nextWeek);
+        verify(timesheetSummaryCache).evict(userId.toHexString(), projectId.toHexString(), WEEK);
+        verify(timesheetSummaryCache).evict(otherUserId.toHexString(), projectId.toHexString(), nextWeek);
+        verify(timesheetWeekCache, never()).evictAll();
+    }
+
+    @Test
+    void timesheetReplaceWithoutPreImage_EvictsEverything() {
+        bus.apply(CacheInvalidationBus.TIMESHEETS, OperationType.REPLACE, key(new ObjectId()), null,
+                timesheet(new ObjectId(), new ObjectId(), WEEK));
+
+        verify(timesheetWeekCache).evictAll();
+        verify(timesheetSummaryCache).evictAll();
+    }
+
+    @Test
+    void timesheetUpdateLeavingKeysAlone_NeedsNoPreImage() {
+        ObjectId userId = new ObjectId();
+        Document timesheet = timesheet(userId, new ObjectId(), WEEK);
+        ChangeStreamDocument<Document> change = change(OperationType.UPDATE, null, timesheet,
+                new UpdateDescription(List.of(), new BsonDocument("status", new BsonString("APPROVED"))));
+
+        bus.handle(CacheInvalidationBus.TIMESHEETS, change);
+
+        verify(timesheetWeekCache, times(2)).evict(userId.toHexString(), WEEK);
+        verify(timesheetWeekCache, never()).evictAll();
+    }
+
+    @Test
+    void timesheetUpdateMovingWeekWithoutPreImage_EvictsEverything() {
+        Document timesheet = timesheet(new ObjectId(), new ObjectId(), WEEK);
+        ChangeStreamDocument<Document> change = change(OperationType.UPDATE, null, timesheet,
+                new UpdateDescription(List.of(), new BsonDocument("weekStartDate", new BsonString("moved"))));
+
+        bus.handle(CacheInvalidationBus.TIMESHEETS, change);
+
+        verify(timesheetWeekCache).evictAll();
+        verify(timesheetSummaryCache).evictAll();
+    }
+
+    @Test
+    void failingChange_IsSkippedAfterEvictingEverything() {
+        doThrow(new IllegalArgumentException("Unexpected field type")).when(userAvailability).added(any(), any());
+        long users = dataVersions.version(DataVersions.Collection.USERS);
+
+        assertDoesNotThrow(() -> bus.handle(CacheInvalidationBus.USERS,
+                change(OperationType.INSERT, null, new Document("username", "ada"), null)));
+
+        verify(timesheetWeekCache).evictAll();
+        verify(timesheetSummaryCache).evictAll();
+        assertTrue(dataVersions.version(DataVersions.Collection.USERS) > users);
+        assertEquals(1.0, meterRegistry.get("cache.invalidation.failures").tag("collection", "users").counter().count());
+    }
+
+    @Test
+    void timesheetDelete_EvictsEverythingSinceWeekIsUnknown() {
+        long before = dataVersions.version(DataVersions.Collection.TIMESHEETS);
+
+        bus.apply(CacheInvalidationBus.TIMESHEETS, OperationType.DELETE, key(new ObjectId()), null, null);
+
+        verify(timesheetWeekCache).evictAll();
+        verify(timesheetSummaryCache).evictAll();
+        assertEquals(before + 1, dataVersions.version(DataVersions.Collection.TIMESHEETS));
+    }
+
+    @Test
+    void drop_EvictsEverything() {
+        long users = dataVersions.version(DataVersions.Collection.USERS);
+
+        bus.apply(CacheInvalidationBus.PROJECTS, OperationType.DROP, null, null, null);
+
+        verify(timesheetWeekCache).evictAll();
+        verify(timesheetSummaryCache).evictAll();
+        assertEquals(users + 1, dataVersions.version(DataVersions.Collection.USERS));
+    }
+
+    private static Document timesheet(ObjectId userId, ObjectId projectId, LocalDate week) {
+        return new Document("userId", userId)
+                .append("projectId", projectId)
+                .append("weekStartDate", Date.from(week.atStartOfDay(ZoneId.systemDefault()).toInstant()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ChangeStreamDocument<Document> change(OperationType operation, Document before, Document after,
+                                                         UpdateDescription update) {
+        ChangeStreamDocument<Document> change = mock(ChangeStreamDocument.class);
+        when(change.getOperationType()).thenReturn(operation);
+        when(change.getDocumentKey()).thenReturn(key(new ObjectId()));
+        when(change.getFullDocumentBeforeChange()).thenReturn(before);
+        when(change.getFullDocument()).thenReturn(after);
+        lenient().when(change.getUpdateDescription()).thenReturn(update);
+        return change;
+    }
+
+    private static BsonDocument key(ObjectId id) {
+        return new BsonDocument("_id", new BsonObjectId(id));
+    }
+}
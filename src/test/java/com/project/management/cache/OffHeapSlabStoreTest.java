@@ -0,0 +1,135 @@
+package com.project.management.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapSlabStoreTest {
+
+    @Test
+    void putAndGet_ReturnsCopyOfValue() {
+        OffHeapSlabStore store = new OffHeapSlabStore("test", 1024, 64, 256);
+
+        assertTrue(store.put("a", bytes("alpha")));
+        byte[] value = store.get("a");
+        value[0] = 'X';
+
+        assertEquals("alpha", string(store.get("a")));
+        assertNull(store.get("missing"));
+    }
+
+    @Test
+    void put_ReplacesValueInPlace() {
+        OffHeapSlabStore store = new OffHeapSlabStore("test", 1024, 64, 256);
+
+        store.put("a", bytes("first value"));
+        store.put("a", bytes("second"));
+
+        assertEquals("second", string(store.get("a")));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void put_ValueLargerThanSlot_Refused() {
+        OffHeapSlabStore store = new OffHeapSlabStore("test", 1024, 16, 256);
+
+        assertFalse(store.put("a", new byte[13]));
+        assertTrue(store.put("a", new byte[12]));
+    }
+
+    @Test
+    void full_EvictsEntriesNotReadSinceLastSweep() {
+        OffHeapSlabStore store = new OffHeapSlabStore("test", 4 * 32, 32, 64);
+        for (String key : List.of("a", "b", "c", "d")) {
+            store.put(key, bytes(key));
+        }
+
+        // First sweep clears every reference bit and takes "a"; "b" is read again before the next insert
+        store.put("e", bytes("e"));
+        store.get("b");
+        store.put("f", bytes("f"));
+
+        assertNull(store.get("a"));
+        assertEquals("b", string(store.get("b")));
+        assertNull(store.get("c"));
+        assertEquals(4, store.size());
+        assertEquals(2, store.evictionCount());
+    }
+
+    @Test
+    void invalidate_FreesSlotForReuse() {
+        OffHeapSlabStore store = new OffHeapSlabStore("test", 2 * 32, 32, 64);
+        store.put("a", bytes("a"));
+        store.put("b", bytes("b"));
+
+        store.invalidate("a");
+        store.put("c", bytes("c"));
+
+        assertNull(store.get("a"));
+        assertEquals("b", string(store.get("b")));
+        assertEquals("c", string(store.get("c")));
+        assertEquals(0, store.evictionCount());
+    }
+
+    @Test
+    void slabs_AllocatedOnFirstUse() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        OffHeapSlabStore store = new OffHeapSlabStore("test", 1024, 64, 256);
+        store.bindTo(meterRegistry);
+
+        assertEquals(0, store.allocatedBytes());
+        store.put("a", bytes("a"));
+        assertEquals(256, store.allocatedBytes());
+        assertEquals(256.0, meterRegistry.get("offheap.cache.allocated").tag("cache", "test").gauge().value());
+        assertEquals(16, store.capacity());
+    }
+
+    @Test
+    void concurrentReadersAndWriters_NeverSeeTornValues() throws Exception {
+        OffHeapSlabStore store = new OffHeapSlabStore("test", 16 * 64, 64, 256);
+        List<Future<?>> tasks = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int t = 0; t < 4; t++) {
+                int writer = t;
+                tasks.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        String key = "k" + (i % 40);
+                        store.put(key, bytes(key + "=" + writer + "-" + i));
+                    }
+                }));
+                tasks.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        String key = "k" + (i % 40);
+                        byte[] value = store.get(key);
+                        if (value != null) {
+                            assertTrue(string(value).startsWith(key + "="), string(value));
+                        }
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get(30, TimeUnit.SECONDS);
+            }
+        }
+        assertTrue(store.size() <= store.capacity());
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
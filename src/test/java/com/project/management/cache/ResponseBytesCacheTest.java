@@ -0,0 +1,169 @@
+package com.project.management.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.management.service.DataVersions;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseBytesCacheTest {
+
+    private MeterRegistry meterRegistry;
+    private ResponseBytesCache cache;
+    private DataVersions dataVersions;
+    private String eTag;
+    private final AtomicInteger encodes = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dataVersions = new DataVersions();
+        // Keep the ETags off the clock, as they are while the invalidation bus is connected
+        dataVersions.sharedWhile(() -> true);
+        cache = new ResponseBytesCache(new ObjectMapper(), meterRegistry, dataVersions);
+        eTag = dataVersions.projectsETag();
+    }
+
+    @Test
+    void sameETag_EncodesOnceAndServesBytes() throws Exception {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        MockHttpServletResponse second = new MockHttpServletResponse();
+
+        assertTrue(cache.write(request("application/json", null, first), "projects", eTag, this::body));
+        assertTrue(cache.write(request("application/json", null, second), "projects", eTag, this::body));
+
+        assertEquals(1, encodes.get());
+        assertEquals("application/json", second.getContentType());
+        assertEquals(eTag, second.getHeader(HttpHeaders.ETAG));
+        assertEquals(first.getContentAsString(), second.getContentAsString());
+        assertEquals(body(), new ObjectMapper().readValue(second.getContentAsByteArray(), Map.class));
+        assertEquals(1.0, count("projects", "miss"));
+        assertEquals(1.0, count("projects", "hit"));
+    }
+
+    @Test
+    void newETag_ReplacesEntry() {
+        cache.write(request("application/json", null, new MockHttpServletResponse()), "projects", eTag, this::body);
+        dataVersions.bump(DataVersions.Collection.PROJECTS);
+        String newETag = dataVersions.projectsETag();
+        cache.write(request("application/json", null, new MockHttpServletResponse()), "projects", newETag, this::body);
+
+        assertEquals(2, encodes.get());
+        assertTrue(cache.get("projects", eTag).isEmpty());
+        assertTrue(cache.get("projects", newETag).isPresent());
+    }
+
+    @Test
+    void writeDuringEncoding_ServedButNotKept() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        cache.write(request("application/json", null, response), "projects", eTag, () -> {
+            // A write lands after the ETag was taken, while the body is being loaded
+            dataVersions.bump(DataVersions.Collection.PROJECTS);
+            return body();
+        });
+
+        assertEquals(eTag, response.getHeader(HttpHeaders.ETAG));
+        assertEquals(body(), new ObjectMapper().readValue(response.getContentAsByteArray(), Map.class));
+        assertTrue(cache.get("projects", eTag).isEmpty());
+        assertTrue(cache.get("projects", dataVersions.projectsETag()).isEmpty());
+    }
+
+    @Test
+    void largeBody_ServedGzippedWhenAccepted() throws Exception {
+        List<String> large = IntStream.range(0, 500).mapToObj(i -> "project-" + i).toList();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        cache.write(request("*/*", "gzip, deflate, br", response), "projects", eTag, () -> large);
+
+        assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertTrue(response.getContentAsByteArray().length < new ObjectMapper().writeValueAsBytes(large).length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertEquals(large, new ObjectMapper().readValue(in, List.class));
+        }
+    }
+
+    @Test
+    void smallBody_NotGzipped() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        cache.write(request("application/json", "gzip", response), "projects", eTag, this::body);
+
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void toResponseEntity_CarriesHeadersForAsyncHandlers() throws Exception {
+        List<String> large = IntStream.range(0, 500).mapToObj(i -> "project-" + i).toList();
+        ResponseBytesCache.EncodedResponse encoded = cache.put("projects", eTag, large);
+
+        ResponseEntity<byte[]> plain = cache.toResponseEntity(encoded, false);
+        ResponseEntity<byte[]> gzipped = cache.toResponseEntity(encoded, true);
+
+        assertEquals(MediaType.APPLICATION_JSON, plain.getHeaders().getContentType());
+        assertEquals(eTag, plain.getHeaders().getETag());
+        assertEquals(List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING), plain.getHeaders().getVary());
+        assertNull(plain.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(large, new ObjectMapper().readValue(plain.getBody(), List.class));
+        assertEquals("gzip", gzipped.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getBody()))) {
+            assertEquals(large, new ObjectMapper().readValue(in, List.class));
+        }
+    }
+
+    @Test
+    void nonJsonAccept_FallsBackToNegotiation() {
+        assertFalse(cache.write(request(null, null, new MockHttpServletResponse()), "projects", eTag, this::body));
+        assertFalse(cache.write(request("application/x-jackson-smile", null, new MockHttpServletResponse()),
+                "projects", eTag, this::body));
+        assertFalse(cache.write(request("application/cbor, */*;q=0.1", null, new MockHttpServletResponse()),
+                "projects", eTag, this::body));
+        assertEquals(0, encodes.get());
+    }
+
+    @Test
+    void acceptsGzip() {
+        assertTrue(ResponseBytesCache.acceptsGzip("gzip"));
+        assertTrue(ResponseBytesCache.acceptsGzip("deflate, GZIP;q=0.5"));
+        assertTrue(ResponseBytesCache.acceptsGzip("*"));
+        assertFalse(ResponseBytesCache.acceptsGzip("gzip;q=0"));
+        assertFalse(ResponseBytesCache.acceptsGzip("identity"));
+        assertFalse(ResponseBytesCache.acceptsGzip(null));
+    }
+
+    private Map<String, Object> body() {
+        encodes.incrementAndGet();
+        return Map.of("name", "Apollo", "billedHours", 40);
+    }
+
+    private static ServletWebRequest request(String accept, String acceptEncoding, MockHttpServletResponse response) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects");
+        if (accept != null) {
+            request.addHeader(HttpHeaders.ACCEPT, accept);
+        }
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return new ServletWebRequest(request, response);
+    }
+
+    private double count(String endpoint, String result) {
+        return meterRegistry.counter(ResponseBytesCache.METRIC_NAME, "endpoint", endpoint, "result", result).count();
+    }
+}
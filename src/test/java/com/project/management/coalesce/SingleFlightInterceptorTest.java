@@ -0,0 +1,185 @@
+package com.project.management.coalesce;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightInterceptorTest {
+
+    private MeterRegistry meterRegistry;
+    private SingleFlightInterceptor interceptor;
+    private StatsSource target;
+    private StatsSource proxy;
+    private final AtomicLong generation = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new SingleFlightInterceptor(() -> meterRegistry, generation::get);
+        target = new StatsSource();
+
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvisor(new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(Coalesced.class), interceptor));
+        proxy = (StatsSource) proxyFactory.getProxy();
+    }
+
+    @Test
+    void hundredConcurrentCallers_ShareOneComputation() throws Exception {
+        target.release = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 100; i++) {
+                results.add(callers.submit(() -> proxy.stats("week-10")));
+            }
+            // Hold the leader until every caller has either started the computation or joined it
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (count("leader") + count("joined") < 100 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            target.release.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("stats-week-10-1", result.get(10, TimeUnit.SECONDS));
+            }
+        }
+
+        assertEquals(1, target.invocations.get());
+        assertEquals(1, count("leader"));
+        assertEquals(99, count("joined"));
+        assertEquals(0, interceptor.inFlight());
+    }
+
+    @Test
+    void sequentialCalls_WithoutTtl_RecomputeEachTime() throws Exception {
+        assertEquals("stats-a-1", proxy.stats("a"));
+        assertEquals("stats-a-2", proxy.stats("a"));
+
+        assertEquals(2, count("leader"));
+    }
+
+    @Test
+    void differentArguments_AreNotCoalesced() throws Exception {
+        assertEquals("stats-a-1", proxy.stats("a"));
+        assertEquals("stats-b-2", proxy.stats("b"));
+    }
+
+    @Test
+    void ttl_ServesCompletedResultUntilExpiry() throws Exception {
+        assertEquals("cached-1", proxy.cachedStats());
+        assertEquals("cached-1", proxy.cachedStats());
+        assertEquals(1, count("cached"));
+
+        Thread.sleep(250);
+
+        assertEquals("cached-2", proxy.cachedStats());
+    }
+
+    @Test
+    void newGeneration_DoesNotJoinComputationStartedBefore() throws Exception {
+        target.release = new CountDownLatch(1);
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> before = callers.submit(() -> proxy.stats("a"));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (count("leader") < 1 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            // A write lands while the first computation is still running
+            generation.incrementAndGet();
+            Future<String> after = callers.submit(() -> proxy.stats("a"));
+            while (count("leader") < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            target.release.countDown();
+
+            assertEquals("stats-a-1", before.get(10, TimeUnit.SECONDS));
+            assertEquals("stats-a-2", after.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(0, count("joined"));
+    }
+
+    @Test
+    void newGeneration_DoesNotReuseKeptResult() throws Exception {
+        assertEquals("cached-1", proxy.cachedStats());
+        generation.incrementAndGet();
+
+        assertEquals("cached-2", proxy.cachedStats());
+        assertEquals(0, count("cached"));
+
+        Thread.sleep(250);
+        proxy.cachedStats();
+        // The expired entry of the old generation was swept, not left behind
+        assertEquals(1, interceptor.inFlight());
+    }
+
+    @Test
+    void failure_IsPropagatedAndNotKept() {
+        target.failure = new IllegalStateException("Database unavailable");
+
+        assertThrows(IllegalStateException.class, () -> proxy.cachedStats());
+
+        target.failure = null;
+        assertEquals("cached-2", proxy.cachedStats());
+    }
+
+    @Test
+    void unannotatedMethods_AreNotIntercepted() {
+        proxy.plain();
+        proxy.plain();
+
+        assertEquals(2, target.invocations.get());
+        assertTrue(meterRegistry.find(SingleFlightInterceptor.METRIC_NAME).counters().isEmpty());
+    }
+
+    private double count(String result) {
+        return meterRegistry.find(SingleFlightInterceptor.METRIC_NAME).tag("result", result).counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+    }
+
+    static class StatsSource {
+        final AtomicInteger invocations = new AtomicInteger();
+        volatile CountDownLatch release;
+        volatile RuntimeException failure;
+
+        @Coalesced
+        public String stats(String week) throws InterruptedException {
+            int call = invocations.incrementAndGet();
+            if (release != null) {
+                release.await(10, TimeUnit.SECONDS);
+            }
+            return "stats-" + week + "-" + call;
+        }
+
+        @Coalesced(ttlMillis = 200)
+        public String cachedStats() {
+            int call = invocations.incrementAndGet();
+            if (failure != null) {
+                throw failure;
+            }
+            return "cached-" + call;
+        }
+
+        public void plain() {
+            invocations.incrementAndGet();
+        }
+    }
+}
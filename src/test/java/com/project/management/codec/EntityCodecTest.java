@@ -0,0 +1,177 @@
+package com.project.management.codec;
+
+import com.project.management.Models.*;
+import com.project.management.config.MongoConfig;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityCodecTest {
+
+    private MappingMongoConverter defaultConverter;
+    private MappingMongoConverter codecConverter;
+
+    private Timesheet timesheet;
+    private Project project;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        defaultConverter = converter(new MongoCustomConversions(List.of()));
+        codecConverter = converter(new MongoConfig().mongoCustomConversions());
+
+        Map<DayOfWeek, Integer> dailyHours = new EnumMap<>(DayOfWeek.class);
+        dailyHours.put(DayOfWeek.MONDAY, 8);
+        dailyHours.put(DayOfWeek.TUESDAY, 7);
+        dailyHours.put(DayOfWeek.FRIDAY, 4);
+
+        timesheet = new Timesheet();
+        timesheet.setId(new ObjectId().toHexString());
+        timesheet.setUserId("user123");
+        timesheet.setProjectId("project123");
+        timesheet.setWeekStartDate(LocalDate.of(2024, 3, 4));
+        timesheet.setDailyHours(dailyHours);
+        timesheet.setDescription("Weekly work");
+        timesheet.setStatus(TimeSheetStatus.APPROVED);
+        // BSON dates carry millisecond precision
+        timesheet.setSubmittedAt(LocalDateTime.of(2024, 3, 8, 17, 30, 15, 123_000_000));
+
+        project = new Project();
+        project.setId(new ObjectId().toHexString());
+        project.setName("Test Project");
+        project.setDescription("This is a test project");
+        project.setStartDate(LocalDateTime.of(2024, 1, 1, 9, 0));
+        project.setEndDate(LocalDateTime.of(2024, 12, 31, 18, 0));
+        project.setStatus(ProjectStatus.ACTIVE);
+        project.setAssignedUsers(new ArrayList<>(List.of("user1", "user2")));
+        project.setTotalBudgetHours(1000);
+        project.setTotalBilledHours(250);
+
+        user = new User(
+                new ObjectId().toHexString(),
+                "testuser",
+                "test@example.com",
+                "encoded-password",
+                UserRole.USER,
+                new ArrayList<>(List.of("project1")),
+                LocalDateTime.of(2023, 11, 20, 8, 15, 0, 500_000_000)
+        );
+    }
+
+    @Test
+    void timesheetCodec_RoundTrip() {
+        assertEquals(timesheet, roundTrip(new TimesheetCodec(), timesheet));
+    }
+
+    @Test
+    void projectCodec_RoundTrip() {
+        assertEquals(project, roundTrip(new ProjectCodec(), project));
+    }
+
+    @Test
+    void userCodec_RoundTrip() {
+        assertEquals(user, roundTrip(new UserCodec(), user));
+    }
+
+    @Test
+    void codec_RoundTripWithNullFieldsAndNonObjectId() {
+        Timesheet sparse = new Timesheet();
+        sparse.setId("custom-id");
+        sparse.setUserId("user123");
+
+        BsonDocument encoded = encode(new TimesheetCodec(), sparse);
+
+        assertTrue(encoded.get("_id").isString());
+        assertFalse(encoded.containsKey("dailyHours"));
+        assertEquals(sparse, decode(new TimesheetCodec(), encoded));
+    }
+
+    @Test
+    void codecs_DecodeDocumentsWrittenByMappingConverter() {
+        assertEquals(timesheet, decode(new TimesheetCodec(), writeWithDefaultConverter(timesheet)));
+        assertEquals(project, decode(new ProjectCodec(), writeWithDefaultConverter(project)));
+        assertEquals(user, decode(new UserCodec(), writeWithDefaultConverter(user)));
+    }
+
+    @Test
+    void codecs_WriteDocumentsReadableByMappingConverter() {
+        assertEquals(timesheet, defaultConverter.read(Timesheet.class, toDocument(encode(new TimesheetCodec(), timesheet))));
+        assertEquals(project, defaultConverter.read(Project.class, toDocument(encode(new ProjectCodec(), project))));
+        assertEquals(user, defaultConverter.read(User.class, toDocument(encode(new UserCodec(), user))));
+    }
+
+    @Test
+    void readingConverters_MatchReflectiveMapping() {
+        Document timesheetDocument = writeDocument(timesheet);
+        Document projectDocument = writeDocument(project);
+        Document userDocument = writeDocument(user);
+
+        assertEquals(defaultConverter.read(Timesheet.class, timesheetDocument),
+                codecConverter.read(Timesheet.class, timesheetDocument));
+        assertEquals(defaultConverter.read(Project.class, projectDocument),
+                codecConverter.read(Project.class, projectDocument));
+        assertEquals(defaultConverter.read(User.class, userDocument),
+                codecConverter.read(User.class, userDocument));
+    }
+
+    private static MappingMongoConverter converter(MongoCustomConversions conversions) {
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+
+    private Document writeDocument(Object entity) {
+        Document document = new Document();
+        defaultConverter.write(entity, document);
+        return document;
+    }
+
+    private BsonDocument writeWithDefaultConverter(Object entity) {
+        return writeDocument(entity).toBsonDocument(Document.class, MongoConfig.entityCodecRegistry());
+    }
+
+    private static Document toDocument(BsonDocument bsonDocument) {
+        return MongoConfig.entityCodecRegistry().get(Document.class)
+                .decode(new BsonDocumentReader(bsonDocument), DecoderContext.builder().build());
+    }
+
+    private static <T> T roundTrip(Codec<T> codec, T value) {
+        return decode(codec, encode(codec, value));
+    }
+
+    private static <T> BsonDocument encode(Codec<T> codec, T value) {
+        BsonDocument document = new BsonDocument();
+        codec.encode(new BsonDocumentWriter(document), value, EncoderContext.builder().build());
+        return document;
+    }
+
+    private static <T> T decode(Codec<T> codec, BsonDocument document) {
+        return codec.decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+    }
+}
@@ -1,6 +1,10 @@
 package com.project.management.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.project.management.dto.DashboardMetricsDTO;
+import com.project.management.service.DataVersions;
 import com.project.management.service.MetricsService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,12 +14,19 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 
 import java.util.List;
 
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -30,6 +41,9 @@ class MetricsControllerTest {
     @MockBean
     private MetricsService metricsService;
 
+    @Autowired
+    private DataVersions dataVersions;
+
     private DashboardMetricsDTO mockMetrics;
 
     @BeforeEach
@@ -45,8 +59,12 @@ class MetricsControllerTest {
     @Test
     @WithMockUser(authorities = "ROLE_ADMIN")
     void testGetDashboardMetrics_AsAdmin_Success() throws Exception {
-        mockMvc.perform(get("/api/metrics/dashboard")
+        MvcResult result = mockMvc.perform(get("/api/metrics/dashboard")
                         .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.activeProjects").value(5))
                 .andExpect(jsonPath("$.totalResources").value(10))
@@ -61,5 +79,118 @@ class MetricsControllerTest {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    @WithMockUser(authorities = "ROLE_ADMIN")
+    void testGetDashboardMetrics_DefaultsToJson() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/metrics/dashboard")
+                        .accept(MediaType.ALL))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @WithMockUser(authorities = "ROLE_ADMIN")
+    void testGetDashboardMetrics_Smile() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/metrics/dashboard")
+                        .accept("application/x-jackson-smile"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertEquals(mockMetrics, new ObjectMapper(new SmileFactory()).readValue(body, DashboardMetricsDTO.class));
+    }
+
+    @Test
+    @WithMockUser(authorities = "ROLE_ADMIN")
+    void testGetDashboardMetrics_Cbor() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/metrics/dashboard")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertEquals(mockMetrics, new ObjectMapper(new CBORFactory()).readValue(body, DashboardMetricsDTO.class));
+    }
+
+    @Test
+    @WithMockUser(authorities = "ROLE_ADMIN")
+    void testStreamDashboardMetrics_AsAdmin() throws Exception {
+        mockMvc.perform(get("/api/metrics/dashboard/stream")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void testStreamDashboardMetrics_AsUser_Forbidden() throws Exception {
+        mockMvc.perform(get("/api/metrics/dashboard/stream")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(authorities = "ROLE_ADMIN")
+    void testGetDashboardMetrics_MatchingETag_NotModified() throws Exception {
+        MvcResult first = mockMvc.perform(get("/api/metrics/dashboard"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String eTag = mockMvc.perform(asyncDispatch(first))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        MvcResult second = mockMvc.perform(get("/api/metrics/dashboard")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(second))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(metricsService, times(1)).getDashboardMetrics();
+    }
+
+    @Test
+    @WithMockUser(authorities = "ROLE_ADMIN")
+    void testGetDashboardMetrics_JsonServedFromResponseCache() throws Exception {
+        // Start from a version no other test has cached
+        dataVersions.bump(DataVersions.Collection.USERS);
+
+        MvcResult first = mockMvc.perform(get("/api/metrics/dashboard")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(first))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING)))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.activeProjects").value(5))
+                .andReturn().getResponse().getContentAsString();
+
+        MvcResult second = mockMvc.perform(get("/api/metrics/dashboard")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String cached = mockMvc.perform(asyncDispatch(second))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.activeProjects").value(5))
+                .andReturn().getResponse().getContentAsString();
 
-}
\ No newline at end of file
+        assertEquals(body, cached);
+        verify(metricsService, times(1)).getDashboardMetrics();
+    }
+}
@@ -6,16 +6,21 @@ import com.project.management.dto.*;
 import com.project.management.exception.ResourceNotFoundException;
 import com.project.management.repository.ProjectRepository;
 import com.project.management.repository.UserRepository;
+import com.project.management.service.DataVersions;
 import com.project.management.service.ProjectService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.web.context.request.ServletWebRequest;
 
 
 import java.util.Collections;
@@ -44,6 +49,9 @@ class ProjectControllerTest {
     @MockBean
     private UserRepository userRepository;
 
+    @Autowired
+    private DataVersions dataVersions;
+
     private ProjectDTO projectDTO;
     private final String testProjectId = "proj-123";
     private final String testProjectName = "Test Project";
@@ -66,6 +74,16 @@ class ProjectControllerTest {
         SecurityContextHolder.clearContext();
     }
 
+    private static ServletWebRequest newRequest() {
+        return new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse());
+    }
+
+    private static ServletWebRequest jsonRequest(MockHttpServletResponse response) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects");
+        request.addHeader(HttpHeaders.ACCEPT, "application/json");
+        return new ServletWebRequest(request, response);
+    }
+
     @Test
     @WithMockUser(username = "admin", roles = "ADMIN")
     void createProject_Success() {
@@ -93,7 +111,7 @@ class ProjectControllerTest {
         when(projectService.getAllProjects()).thenReturn(projectList);
 
         // Act
-        ResponseEntity<List<ProjectDTO>> response = projectController.getAllProjects();
+        ResponseEntity<List<ProjectDTO>> response = projectController.getAllProjects(newRequest());
 
         // Assert
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -104,6 +122,56 @@ class ProjectControllerTest {
         verify(projectService).getAllProjects();
     }
 
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void getAllProjects_MatchingETag_NotModifiedWithoutLoading() throws Exception {
+        when(projectService.getAllProjects()).thenReturn(List.of(projectDTO));
+        String eTag = projectController.getAllProjects(newRequest()).getHeaders().getETag();
+
+        MockHttpServletRequest conditional = new MockHttpServletRequest("GET", "/api/projects");
+        conditional.addHeader(HttpHeaders.IF_NONE_MATCH, eTag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertNull(projectController.getAllProjects(new ServletWebRequest(conditional, response)));
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), response.getStatus());
+        verify(projectService, times(1)).getAllProjects();
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void getAllProjects_JsonAccept_ServedFromResponseCacheUntilProjectsChange() throws Exception {
+        when(projectService.getAllProjects()).thenReturn(List.of(projectDTO));
+        dataVersions.bump(DataVersions.Collection.PROJECTS);
+
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        assertNull(projectController.getAllProjects(jsonRequest(first)));
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        assertNull(projectController.getAllProjects(jsonRequest(second)));
+
+        assertEquals("application/json", second.getContentType());
+        assertThat(second.getContentAsString()).contains(testProjectId).isEqualTo(first.getContentAsString());
+        verify(projectService, times(1)).getAllProjects();
+
+        dataVersions.bump(DataVersions.Collection.PROJECTS);
+        MockHttpServletResponse afterWrite = new MockHttpServletResponse();
+        projectController.getAllProjects(jsonRequest(afterWrite));
+        assertNotEquals(first.getHeader(HttpHeaders.ETAG), afterWrite.getHeader(HttpHeaders.ETAG));
+        verify(projectService, times(2)).getAllProjects();
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void getProjectDetails_ProjectWrite_ChangesETag() throws Exception {
+        when(projectService.getProjectDetails(testProjectId)).thenReturn(new ProjectDetailDTO());
+        String before = projectController.getProjectDetails(testProjectId, newRequest()).getHeaders().getETag();
+
+        dataVersions.bumpProject("another-project");
+        assertEquals(before, projectController.getProjectDetails(testProjectId, newRequest()).getHeaders().getETag());
+
+        dataVersions.bumpProject(testProjectId);
+        assertNotEquals(before, projectController.getProjectDetails(testProjectId, newRequest()).getHeaders().getETag());
+    }
+
     @Test
     @WithMockUser(username = "admin", roles = "ADMIN")
     void getAllProjects_EmptyList() throws Exception {
@@ -111,7 +179,7 @@ class ProjectControllerTest {
         when(projectService.getAllProjects()).thenReturn(Collections.emptyList());
 
         // Act
-        ResponseEntity<List<ProjectDTO>> response = projectController.getAllProjects();
+        ResponseEntity<List<ProjectDTO>> response = projectController.getAllProjects(newRequest());
 
         // Assert
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -226,7 +294,7 @@ class ProjectControllerTest {
         when(projectService.getProjectDetails(testProjectId)).thenReturn(detailDTO);
 
         // Act
-        ResponseEntity<ProjectDetailDTO> response = projectController.getProjectDetails(testProjectId);
+        ResponseEntity<ProjectDetailDTO> response = projectController.getProjectDetails(testProjectId, newRequest());
 
         // Assert
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -247,7 +315,7 @@ class ProjectControllerTest {
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () ->
-                projectController.getProjectDetails("nonexistent")
+                projectController.getProjectDetails("nonexistent", newRequest())
         );
 
         verify(projectService).getProjectDetails("nonexistent");
@@ -290,7 +358,7 @@ class ProjectControllerTest {
         when(projectService.getProjectStats()).thenReturn(statsList);
 
         // Act
-        ResponseEntity<List<ProjectStatsDTO>> response = projectController.getProjectStats();
+        ResponseEntity<List<ProjectStatsDTO>> response = projectController.getProjectStats(newRequest()).join();
 
         // Assert
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -312,7 +380,7 @@ class ProjectControllerTest {
 
         // Act & Assert
         assertThrows(Exception.class, () ->
-                projectController.getAllProjects()
+                projectController.getAllProjects(newRequest())
         );
 
         verify(projectService, never()).getAllProjects();
@@ -0,0 +1,113 @@
+package com.project.management.controller;
+
+import com.project.management.Models.TimeSheetStatus;
+import com.project.management.dto.TimesheetSummaryDTO;
+import com.project.management.service.ReactiveTimesheetService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * The reactive controller served through Spring MVC in the default servlet deployment.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ReactiveTimesheetControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ReactiveTimesheetService timesheetService;
+
+    private TimesheetSummaryDTO first;
+    private TimesheetSummaryDTO second;
+
+    @BeforeEach
+    void setUp() {
+        first = new TimesheetSummaryDTO("t1", "project1", LocalDate.of(2024, 3, 4), 40,
+                TimeSheetStatus.SUBMITTED, LocalDateTime.of(2024, 3, 8, 17, 0));
+        second = new TimesheetSummaryDTO("t2", "project1", LocalDate.of(2024, 3, 11), 32,
+                TimeSheetStatus.APPROVED, LocalDateTime.of(2024, 3, 15, 17, 0));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void getUserTimesheets_Json() throws Exception {
+        when(timesheetService.getUserTimesheets(eq("user1"), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(Flux.just(first, second));
+
+        MvcResult result = mockMvc.perform(get("/api/reactive/timesheets/users/user1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value("t1"))
+                .andExpect(jsonPath("$[1].totalHours").value(32));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void getUserTimesheets_Ndjson() throws Exception {
+        when(timesheetService.getUserTimesheets(eq("user1"), any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(Flux.just(first, second));
+
+        MvcResult result = mockMvc.perform(get("/api/reactive/timesheets/users/user1")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult();
+
+        String body = result.getResponse().getContentAsString();
+        assertEquals(2, body.lines().count());
+        assertTrue(body.startsWith("{\"id\":\"t1\""));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void getProjectTimesheets_AsUser_Forbidden() throws Exception {
+        mockMvc.perform(get("/api/reactive/timesheets/projects/project1")
+                        .param("startDate", "2024-03-01")
+                        .param("endDate", "2024-03-31"))
+                .andExpect(status().isForbidden());
+
+        verify(timesheetService, never()).getProjectTimesheets(any(), any(), any());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getProjectTimesheets_InvalidDateRange() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/reactive/timesheets/projects/project1")
+                        .param("startDate", "2024-03-31")
+                        .param("endDate", "2024-03-01"))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(containsString("Start date")));
+    }
+}
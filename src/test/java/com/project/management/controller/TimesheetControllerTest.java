@@ -12,6 +12,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
@@ -86,9 +87,13 @@ class TimesheetControllerTest {
     void submitTimesheet_Success() throws Exception {
         when(timesheetService.submitTimesheet(any(TimesheetDTO.class))).thenReturn(sampleTimesheetDTO);
 
-        mockMvc.perform(post("/api/timesheets")
+        MvcResult result = mockMvc.perform(post("/api/timesheets")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(sampleTimesheetDTO)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.message").value("Timesheet submitted successfully"))
@@ -100,20 +105,56 @@ class TimesheetControllerTest {
     void getTimesheetById_Success() throws Exception {
         when(timesheetService.getTimesheetById(testTimesheetId)).thenReturn(sampleTimesheetResponseDTO);
 
-        mockMvc.perform(get("/api/timesheets/{timesheetId}", testTimesheetId))
+        MvcResult result = mockMvc.perform(get("/api/timesheets/{timesheetId}", testTimesheetId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.message").value("Timesheet retrieved successfully"))
                 .andExpect(jsonPath("$.data.id").value(testTimesheetId));
     }
 
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void getTimesheetsByIds_Success() throws Exception {
+        List<String> ids = List.of(testTimesheetId, "missing-id");
+        when(timesheetService.getTimesheetsByIds(ids)).thenReturn(new BatchLookupResponseDTO<>(
+                Map.of(testTimesheetId, sampleTimesheetResponseDTO), List.of("missing-id")));
+
+        MvcResult result = mockMvc.perform(post("/api/timesheets/batch-get")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BatchLookupRequestDTO(ids))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results['" + testTimesheetId + "'].userId").value(testUserId))
+                .andExpect(jsonPath("$.missingIds[0]").value("missing-id"));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = {"ADMIN"})
+    void getTimesheetsByIds_EmptyRequest() throws Exception {
+        mockMvc.perform(post("/api/timesheets/batch-get")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BatchLookupRequestDTO(List.of()))))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser(username = "admin", roles = {"ADMIN"})
     void approveTimesheet_Success() throws Exception {
         sampleTimesheetDTO.setStatus(TimeSheetStatus.APPROVED);
         when(timesheetService.approveTimesheet(testTimesheetId)).thenReturn(sampleTimesheetDTO);
 
-        mockMvc.perform(patch("/api/timesheets/{timesheetId}/approve", testTimesheetId))
+        MvcResult result = mockMvc.perform(patch("/api/timesheets/{timesheetId}/approve", testTimesheetId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.message").value("Timesheet approved successfully"))
@@ -130,9 +171,13 @@ class TimesheetControllerTest {
         when(timesheetService.rejectTimesheet(eq(testTimesheetId), any(String.class)))
                 .thenReturn(sampleTimesheetDTO);
 
-        mockMvc.perform(patch("/api/timesheets/{timesheetId}/reject", testTimesheetId)
+        MvcResult result = mockMvc.perform(patch("/api/timesheets/{timesheetId}/reject", testTimesheetId)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(rejectionBody)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.message").value("Timesheet rejected successfully"))
@@ -149,12 +194,40 @@ class TimesheetControllerTest {
         when(timesheetService.getUserTimesheets(testUserId, startDate, endDate))
                 .thenReturn(timesheets);
 
-        mockMvc.perform(get("/api/timesheets/users/{userId}", testUserId)
+        MvcResult result = mockMvc.perform(get("/api/timesheets/users/{userId}", testUserId)
                         .param("startDate", startDate.toString())
                         .param("endDate", endDate.toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk());
     }
 
+    @Test
+    @WithMockUser(username = "test-user", roles = {"USER"})
+    void streamUserTimesheetEvents_OwnStream() throws Exception {
+        mockMvc.perform(get("/api/timesheets/users/{userId}/events", testUserId)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    @WithMockUser(username = "test-user", roles = {"USER"})
+    void streamUserTimesheetEvents_OtherUser_Forbidden() throws Exception {
+        mockMvc.perform(get("/api/timesheets/users/{userId}/events", "someone-else")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(username = "test-user", roles = {"USER"})
+    void streamApprovalEvents_AsUser_Forbidden() throws Exception {
+        mockMvc.perform(get("/api/timesheets/approvals/events")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isForbidden());
+    }
+
     @Test
     @WithMockUser(username = "admin", roles = {"ADMIN"})
     void getProjectTimesheets_Success() throws Exception {
@@ -165,9 +238,13 @@ class TimesheetControllerTest {
         when(timesheetService.getProjectTimesheets(testProjectId, startDate, endDate))
                 .thenReturn(timesheets);
 
-        mockMvc.perform(get("/api/timesheets/projects/{projectId}", testProjectId)
+        MvcResult result = mockMvc.perform(get("/api/timesheets/projects/{projectId}", testProjectId)
                         .param("startDate", startDate.toString())
                         .param("endDate", endDate.toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk());
     }
 
@@ -177,9 +254,13 @@ class TimesheetControllerTest {
         LocalDate startDate = LocalDate.now();
         LocalDate endDate = LocalDate.now().minusDays(1);
 
-        mockMvc.perform(get("/api/timesheets/projects/{projectId}", testProjectId)
+        MvcResult result = mockMvc.perform(get("/api/timesheets/projects/{projectId}", testProjectId)
                         .param("startDate", startDate.toString())
                         .param("endDate", endDate.toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isBadRequest());
     }
 
@@ -189,7 +270,11 @@ class TimesheetControllerTest {
         TimesheetStatsDTO statsDTO = new TimesheetStatsDTO();
         when(timesheetService.getTimesheetStats()).thenReturn(statsDTO);
 
-        mockMvc.perform(get("/api/timesheets/stats/summary"))
+        MvcResult result = mockMvc.perform(get("/api/timesheets/stats/summary"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk());
     }
 
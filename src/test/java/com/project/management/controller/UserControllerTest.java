@@ -2,6 +2,8 @@ package com.project.management.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.management.Models.UserRole;
+import com.project.management.dto.BatchLookupRequestDTO;
+import com.project.management.dto.BatchLookupResponseDTO;
 import com.project.management.dto.UserDTO;
 import com.project.management.dto.UserRegistrationDTO;
 import com.project.management.dto.UserWeeklyStatsDTO;
@@ -15,11 +17,14 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -156,6 +161,56 @@ public class UserControllerTest {
         verify(userService).getUserById("user123");
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    public void testGetUsersByIds() throws Exception {
+        // Given
+        List<String> ids = List.of("user123", "missing");
+        Map<String, UserDTO> results = new LinkedHashMap<>();
+        results.put("user123", testUser);
+        when(userService.getUsersByIds(ids)).thenReturn(new BatchLookupResponseDTO<>(results, List.of("missing")));
+
+        // When & Then
+        mockMvc.perform(post("/api/users/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BatchLookupRequestDTO(ids))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.user123.username", is("testuser")))
+                .andExpect(jsonPath("$.missingIds[0]", is("missing")));
+
+        verify(userService).getUsersByIds(ids);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    public void testGetUsersByIds_TooManyIds() throws Exception {
+        // Given
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i <= BatchLookupRequestDTO.MAX_IDS; i++) {
+            ids.add("user" + i);
+        }
+
+        // When & Then
+        mockMvc.perform(post("/api/users/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BatchLookupRequestDTO(ids))))
+                .andExpect(status().isBadRequest());
+
+        verify(userService, never()).getUsersByIds(any());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    public void testGetUsersByIds_NullId() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/users/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[\"user1\",null]}"))
+                .andExpect(status().isBadRequest());
+
+        verify(userService, never()).getUsersByIds(any());
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     public void testGetUsersWeeklyStats() throws Exception {
@@ -165,9 +220,13 @@ public class UserControllerTest {
         when(userService.getUsersWeeklyStats(eq(startDate), eq(endDate))).thenReturn(weeklyStats);
 
         // When & Then
-        mockMvc.perform(get("/api/users/stats/weekly")
+        MvcResult result = mockMvc.perform(get("/api/users/stats/weekly")
                         .param("startDate", startDate.toString())
                         .param("endDate", endDate.toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(2)))
                 .andExpect(jsonPath("$[0].userId", is("user123")))
@@ -0,0 +1,115 @@
+package com.project.management.event;
+
+import com.project.management.Models.TimeSheetStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimesheetEventBusTest {
+
+    private TimesheetEventBus eventBus;
+
+    @BeforeEach
+    void setUp() {
+        eventBus = new TimesheetEventBus();
+        ReflectionTestUtils.setField(eventBus, "bufferSize", 4);
+        ReflectionTestUtils.setField(eventBus, "heartbeatMs", 60_000L);
+    }
+
+    @Test
+    void onStatusChanged_DeliversToOwnerAndApprovers() throws Exception {
+        RecordingEmitter owner = new RecordingEmitter(1);
+        RecordingEmitter otherUser = new RecordingEmitter(1);
+        RecordingEmitter approver = new RecordingEmitter(1);
+        eventBus.subscribe(TimesheetEventBus.userTopic("user1"), owner);
+        eventBus.subscribe(TimesheetEventBus.userTopic("user2"), otherUser);
+        eventBus.subscribe(TimesheetEventBus.APPROVERS, approver);
+
+        eventBus.onStatusChanged(event("timesheet1", "user1", TimeSheetStatus.APPROVED));
+
+        assertTrue(owner.delivered.await(2, TimeUnit.SECONDS));
+        assertTrue(approver.delivered.await(2, TimeUnit.SECONDS));
+        assertEquals(TimeSheetStatus.APPROVED, owner.events.get(0).getStatus());
+        assertEquals("timesheet1", approver.events.get(0).getTimesheetId());
+        assertFalse(otherUser.delivered.await(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void slowSubscriber_IsEvictedWithoutBlockingPublisher() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(1) {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.send(builder);
+            }
+        };
+        RecordingEmitter fast = new RecordingEmitter(8);
+        eventBus.subscribe(TimesheetEventBus.APPROVERS, slow);
+        eventBus.subscribe(TimesheetEventBus.APPROVERS, fast);
+
+        // The slow drain thread holds at most one event and four fill its buffer, so eight overflow it.
+        // Pace publishing on the fast subscriber so only the slow one falls behind.
+        for (int i = 0; i < 8; i++) {
+            eventBus.onStatusChanged(event("timesheet" + i, "user1", TimeSheetStatus.SUBMITTED));
+            long expected = 8 - (i + 1);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+            while (fast.delivered.getCount() > expected && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+        }
+
+        assertTrue(slow.completed);
+        assertEquals(1, eventBus.subscriberCount(TimesheetEventBus.APPROVERS));
+        assertEquals(8, fast.events.size());
+        release.countDown();
+    }
+
+    private static TimesheetStatusChangedEvent event(String timesheetId, String userId, TimeSheetStatus status) {
+        return new TimesheetStatusChangedEvent(timesheetId, userId, "project1", LocalDate.of(2024, 3, 4),
+                status, Instant.now());
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        final List<TimesheetStatusChangedEvent> events = new CopyOnWriteArrayList<>();
+        final CountDownLatch delivered;
+        volatile boolean completed;
+
+        RecordingEmitter(int expectedEvents) {
+            this.delivered = new CountDownLatch(expectedEvents);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            builder.build().stream()
+                    .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                    .filter(TimesheetStatusChangedEvent.class::isInstance)
+                    .map(TimesheetStatusChangedEvent.class::cast)
+                    .forEach(event -> {
+                        events.add(event);
+                        delivered.countDown();
+                    });
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
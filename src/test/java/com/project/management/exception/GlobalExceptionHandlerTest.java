@@ -0,0 +1,55 @@
+package com.project.management.exception;
+
+import com.project.management.dto.ErrorResponseDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GlobalExceptionHandlerTest {
+
+    private MeterRegistry meterRegistry;
+    private GlobalExceptionHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        handler = new GlobalExceptionHandler(meterRegistry, 1);
+    }
+
+    @Test
+    void domainException_IsStackless() {
+        assertEquals(0, new ResourceNotFoundException("Project not found").getStackTrace().length);
+    }
+
+    @Test
+    void domainException_AnsweredWithCodeAndStatus() {
+        ResponseEntity<ErrorResponseDTO> response = handler.handleDomainException(new ResourceNotFoundException("Project not found"));
+
+        assertEquals(404, response.getStatusCode().value());
+        assertEquals(new ErrorResponseDTO(404, "RESOURCE_NOT_FOUND", "Project not found"), response.getBody());
+    }
+
+    @Test
+    void defaultMessage_ReusesTemplate() {
+        ErrorResponseDTO first = handler.handleDomainException(
+                new TimesheetValidationException(ErrorCode.TIMESHEET_ALREADY_EXISTS)).getBody();
+        ErrorResponseDTO second = handler.handleDomainException(
+                new TimesheetValidationException(ErrorCode.TIMESHEET_ALREADY_EXISTS)).getBody();
+
+        assertSame(first, second);
+        assertEquals(409, first.getStatus());
+    }
+
+    @Test
+    void everyOccurrenceCountedWhenLoggingIsLimited() {
+        for (int i = 0; i < 5; i++) {
+            handler.handleDomainException(new UserAlreadyExistsException("Username is already taken"));
+        }
+
+        assertEquals(5.0, meterRegistry.get("domain.errors").tag("code", "USER_ALREADY_EXISTS").counter().count());
+    }
+}
@@ -0,0 +1,82 @@
+package com.project.management.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AimdLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    @Test
+    void tryAcquire_RejectsOnceLimitIsReached() {
+        AimdLimiter limiter = new AimdLimiter(2, 1, 10, 0.5, 100);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(2, limiter.getInFlight());
+    }
+
+    @Test
+    void release_FastCompletionUnderLoad_IncreasesLimit() {
+        AimdLimiter limiter = new AimdLimiter(2, 1, 10, 0.5, 100);
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+
+        limiter.release(FAST, true);
+
+        assertEquals(3, limiter.getLimit());
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    void release_FastCompletionWhileMostlyIdle_KeepsLimit() {
+        AimdLimiter limiter = new AimdLimiter(8, 1, 10, 0.5, 100);
+        limiter.tryAcquire();
+
+        limiter.release(FAST, true);
+
+        assertEquals(8, limiter.getLimit());
+    }
+
+    @Test
+    void release_SlowOrFailedCompletion_DecreasesLimitDownToMinimum() {
+        AimdLimiter limiter = new AimdLimiter(8, 2, 10, 0.5, 100);
+
+        limiter.tryAcquire();
+        limiter.release(SLOW, true);
+        assertEquals(4, limiter.getLimit());
+
+        limiter.tryAcquire();
+        limiter.release(FAST, false);
+        assertEquals(2, limiter.getLimit());
+
+        limiter.tryAcquire();
+        limiter.release(SLOW, true);
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    void release_NeverGrowsBeyondMaximum() {
+        AimdLimiter limiter = new AimdLimiter(3, 1, 3, 0.5, 100);
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+            limiter.tryAcquire();
+            limiter.release(FAST, true);
+            limiter.release(FAST, true);
+        }
+
+        assertEquals(3, limiter.getLimit());
+    }
+
+    @Test
+    void constructor_RejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new AimdLimiter(5, 0, 10, 0.5, 100));
+        assertThrows(IllegalArgumentException.class, () -> new AimdLimiter(5, 4, 2, 0.5, 100));
+        assertThrows(IllegalArgumentException.class, () -> new AimdLimiter(5, 1, 10, 1.0, 100));
+    }
+}
@@ -0,0 +1,97 @@
+package com.project.management.limit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+
+    private MeterRegistry meterRegistry;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrencyLimitProperties.EndpointClass analytics = new ConcurrencyLimitProperties.EndpointClass();
+        analytics.setEndpoints(List.of("GET /api/projects/stats", "GET /api/users/stats/**"));
+        analytics.setInitialLimit(1);
+        analytics.setRetryAfterSeconds(3);
+
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.getClasses().put("analytics", analytics);
+
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new ConcurrencyLimitFilter(properties, meterRegistry);
+    }
+
+    @Test
+    void limitedEndpoint_UnderLimit_PassesThroughAndReleases() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/projects/stats"), response, chain);
+
+        assertNotNull(chain.getRequest());
+        assertEquals(200, response.getStatus());
+        assertEquals(0, filter.limiter("analytics").getInFlight());
+    }
+
+    @Test
+    void limitedEndpoint_OverLimit_RejectedWith429AndRetryAfter() throws Exception {
+        assertTrue(filter.limiter("analytics").tryAcquire());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/users/stats/weekly"), response, chain);
+
+        assertNull(chain.getRequest());
+        assertEquals(429, response.getStatus());
+        assertEquals("3", response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(1.0, meterRegistry.get("concurrency.rejected").tag("class", "analytics").counter().count());
+        assertEquals(1.0, meterRegistry.get("concurrency.limit").tag("class", "analytics").gauge().value());
+    }
+
+    @Test
+    void asyncRequest_HoldsSlotUntilCompletion() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects/stats");
+        request.setAsyncSupported(true);
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+
+        assertEquals(1, filter.limiter("analytics").getInFlight());
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+        assertEquals(0, filter.limiter("analytics").getInFlight());
+    }
+
+    @Test
+    void unlimitedEndpoint_PassesThroughEvenWhenClassIsSaturated() throws Exception {
+        assertTrue(filter.limiter("analytics").tryAcquire());
+        MockFilterChain postChain = new MockFilterChain();
+        MockFilterChain otherMethodChain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/timesheets"), new MockHttpServletResponse(), postChain);
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/projects/stats"), new MockHttpServletResponse(), otherMethodChain);
+
+        assertNotNull(postChain.getRequest());
+        assertNotNull(otherMethodChain.getRequest());
+    }
+
+    @Test
+    void malformedEndpoint_FailsAtStartup() {
+        ConcurrencyLimitProperties.EndpointClass broken = new ConcurrencyLimitProperties.EndpointClass();
+        broken.setEndpoints(List.of("/api/projects/stats"));
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.getClasses().put("broken", broken);
+
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrencyLimitFilter(properties, new SimpleMeterRegistry()));
+    }
+}
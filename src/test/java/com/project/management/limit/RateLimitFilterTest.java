@@ -0,0 +1,200 @@
+package com.project.management.limit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private MeterRegistry meterRegistry;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties.Route login = new RateLimitProperties.Route();
+        login.setEndpoints(List.of("POST /api/auth/login"));
+        login.setPerIp(limit(3));
+        login.setPerUsername(limit(1));
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setMaxBodyBytes(64);
+        properties.getRoutes().put("login", login);
+
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RateLimitFilter(properties, new ObjectMapper(), meterRegistry);
+    }
+
+    @Test
+    void underLimit_PassesThroughWithBodyIntact() throws Exception {
+        String body = "{\"username\":\"alice\",\"password\":\"secret\"}";
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(login("10.0.0.1", body), new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest());
+        assertEquals(body, new String(chain.getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void sameUsername_OverLimit_RejectedWith429AndRetryAfter() throws Exception {
+        filter.doFilter(login("10.0.0.1", "{\"username\":\"alice\"}"), new MockHttpServletResponse(), new MockFilterChain());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(login("10.0.0.2", "{\"username\":\"ALICE\"}"), response, chain);
+
+        assertNull(chain.getRequest());
+        assertEquals(429, response.getStatus());
+        assertEquals("60", response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(1.0, meterRegistry.get("rate.limit.rejected").tag("route", "login").tag("key", "username").counter().count());
+    }
+
+    @Test
+    void sameIp_OverLimit_RejectedAcrossUsernames() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            filter.doFilter(login("10.0.0.1", "{\"username\":\"user" + i + "\"}"), new MockHttpServletResponse(), new MockFilterChain());
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(login("10.0.0.1", "{\"username\":\"other\"}"), response, new MockFilterChain());
+
+        assertEquals(429, response.getStatus());
+        assertEquals(1.0, meterRegistry.get("rate.limit.rejected").tag("key", "ip").counter().count());
+        assertEquals(1, filter.limiter("login", RateLimitFilter.IP).size());
+    }
+
+    @Test
+    void oversizedBody_LimitedByIpOnlyAndReplayed() throws Exception {
+        String body = "{\"password\":\"" + "x".repeat(100) + "\",\"username\":\"alice\"}";
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(login("10.0.0.1", body), new MockHttpServletResponse(), chain);
+
+        assertEquals(0, filter.limiter("login", RateLimitFilter.USERNAME).size());
+        assertEquals(body, new String(chain.getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void otherEndpoint_NotLimited() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/timesheets");
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertSame(request, chain.getRequest());
+        assertEquals(0, filter.limiter("login", RateLimitFilter.IP).size());
+    }
+
+    @Test
+    void bufferedBody_NonBlockingRead_ReplaysPrefixToListener() throws Exception {
+        String body = "{\"username\":\"alice\"}";
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login") {
+            private final ServletInputStream container = nonBlocking(body.getBytes(StandardCharsets.UTF_8));
+
+            @Override
+            public ServletInputStream getInputStream() {
+                return container;
+            }
+        };
+        request.setRemoteAddr("10.0.0.1");
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        ServletInputStream in = chain.getRequest().getInputStream();
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        AtomicBoolean allRead = new AtomicBoolean();
+        in.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                byte[] buffer = new byte[8];
+                int n;
+                while (in.isReady() && (n = in.read(buffer)) >= 0) {
+                    read.write(buffer, 0, n);
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                allRead.set(true);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                fail(t);
+            }
+        });
+
+        assertEquals(body, read.toString(StandardCharsets.UTF_8));
+        assertTrue(allRead.get());
+        assertTrue(in.isFinished());
+    }
+
+    /** A container stream that, like Tomcat's, reports completion to a listener set after the body was read. */
+    private static ServletInputStream nonBlocking(byte[] body) {
+        ByteArrayInputStream bytes = new ByteArrayInputStream(body);
+        return new ServletInputStream() {
+            @Override
+            public int read() {
+                return bytes.read();
+            }
+
+            @Override
+            public boolean isFinished() {
+                return bytes.available() == 0;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setReadListener(ReadListener listener) {
+                try {
+                    if (isFinished()) {
+                        listener.onAllDataRead();
+                    } else {
+                        listener.onDataAvailable();
+                    }
+                } catch (IOException e) {
+                    listener.onError(e);
+                }
+            }
+        };
+    }
+
+    private static MockHttpServletRequest login(String ip, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setRemoteAddr(ip);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static RateLimitProperties.Limit limit(int capacity) {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setCapacity(capacity);
+        limit.setRefillTokens(capacity);
+        limit.setRefillPeriod(Duration.ofMinutes(1));
+        return limit;
+    }
+}
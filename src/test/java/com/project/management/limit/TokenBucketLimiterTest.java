@@ -0,0 +1,68 @@
+package com.project.management.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final TokenBucketLimiter limiter =
+            new TokenBucketLimiter(3, 1, Duration.ofSeconds(1), Duration.ofSeconds(10), 2);
+
+    @Test
+    void burstUpToCapacity_ThenRejectedWithWaitUntilNextToken() {
+        long now = 100 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("alice", now));
+        }
+
+        assertEquals(SECOND, limiter.tryAcquire("alice", now));
+        assertEquals(SECOND / 2, limiter.tryAcquire("alice", now + SECOND / 2));
+        assertEquals(0, limiter.tryAcquire("alice", now + SECOND));
+    }
+
+    @Test
+    void keys_HaveIndependentBuckets() {
+        long now = 100 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("alice", now);
+        }
+
+        assertTrue(limiter.tryAcquire("alice", now) > 0);
+        assertEquals(0, limiter.tryAcquire("bob", now));
+    }
+
+    @Test
+    void evictIdle_DropsOnlyBucketsFullForIdleTimeout() {
+        long now = 100 * SECOND;
+        limiter.tryAcquire("alice", now);
+        limiter.tryAcquire("bob", now + 5 * SECOND);
+
+        assertEquals(1, limiter.evictIdle(now + 12 * SECOND));
+        assertEquals(1, limiter.size());
+    }
+
+    @Test
+    void beyondMaxKeys_NewKeysPassUntracked() {
+        long now = 100 * SECOND;
+        limiter.tryAcquire("alice", now);
+        limiter.tryAcquire("bob", now);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, limiter.tryAcquire("sprayed-" + i, now));
+        }
+
+        assertEquals(0, limiter.tryAcquire("dave", now));
+        assertEquals(2, limiter.size());
+        assertEquals(11, limiter.untracked());
+        // Tracked keys keep their own limits
+        for (int i = 0; i < 2; i++) {
+            assertEquals(0, limiter.tryAcquire("alice", now));
+        }
+        assertTrue(limiter.tryAcquire("alice", now) > 0);
+    }
+}
@@ -0,0 +1,120 @@
+package com.project.management.migration;
+
+import com.mongodb.client.result.UpdateResult;
+import com.project.management.Models.User;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DuplicateEmailMigrationTest {
+
+    private static final Date JANUARY = Date.from(Instant.parse("2024-01-01T09:00:00Z"));
+    private static final Date MARCH = Date.from(Instant.parse("2024-03-01T09:00:00Z"));
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private ConfigurableApplicationContext context;
+
+    @InjectMocks
+    private DuplicateEmailMigration migration;
+
+    @BeforeEach
+    void setUp() {
+        when(mongoTemplate.getCollectionName(User.class)).thenReturn("users");
+    }
+
+    @Test
+    void migrate_DryRun_ChangesNothing() {
+        whenDuplicates(duplicate("ada@example.com", user("u2", MARCH), user("u1", JANUARY)));
+
+        assertEquals(1, migration.migrate());
+
+        verify(mongoTemplate, never()).updateMulti(any(Query.class), any(Update.class), eq(User.class));
+    }
+
+    @Test
+    void migrate_Apply_EarliestCreatedKeepsEmail() {
+        ReflectionTestUtils.setField(migration, "apply", true);
+        whenDuplicates(duplicate("ada@example.com", user("u2", MARCH), user("u1", JANUARY)));
+        when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq(User.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        assertEquals(1, migration.migrate());
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateMulti(query.capture(), update.capture(), eq(User.class));
+        assertEquals(new Document("_id", new Document("$in", List.of("u2"))).append("email", "ada@example.com"),
+                query.getValue().getQueryObject());
+        assertEquals(new Document("$unset", new Document("email", 1)), update.getValue().getUpdateObject());
+    }
+
+    @Test
+    void migrate_MissingCreatedAt_FallsBackToObjectIdTime() {
+        ReflectionTestUtils.setField(migration, "apply", true);
+        ObjectId registeredInFebruary = new ObjectId(Date.from(Instant.parse("2024-02-01T09:00:00Z")));
+        whenDuplicates(duplicate("ada@example.com", user("u3", MARCH), user(registeredInFebruary, null)));
+        when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq(User.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        migration.migrate();
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).updateMulti(query.capture(), any(Update.class), eq(User.class));
+        assertEquals(List.of("u3"), query.getValue().getQueryObject().get("_id", Document.class).get("$in"));
+    }
+
+    @Test
+    void migrate_UnknownOrTiedCreationTime_LeftForOperator() {
+        ReflectionTestUtils.setField(migration, "apply", true);
+        whenDuplicates(
+                duplicate("ada@example.com", user("u1", JANUARY), user("legacy-id", null)),
+                duplicate("bob@example.com", user("u4", MARCH), user("u5", MARCH)));
+
+        assertEquals(0, migration.migrate());
+
+        verify(mongoTemplate, never()).updateMulti(any(Query.class), any(Update.class), eq(User.class));
+    }
+
+    private void whenDuplicates(Document... duplicates) {
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq("users"), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(List.of(duplicates), new Document()));
+    }
+
+    private static Document duplicate(String email, Document... users) {
+        return new Document("_id", email).append("users", List.of(users)).append("count", users.length);
+    }
+
+    private static Document user(Object id, Date createdAt) {
+        Document user = new Document("_id", id).append("email", "shared");
+        if (createdAt != null) {
+            user.append("createdAt", createdAt);
+        }
+        return user;
+    }
+}
@@ -0,0 +1,83 @@
+package com.project.management.repository;
+
+import com.project.management.Models.Timesheet;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TimesheetRepositoryCustomImplTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @InjectMocks
+    private TimesheetRepositoryCustomImpl repository;
+
+    @Test
+    void findByUserIdAndWeekStartDateInRanges_BuildsOrOfWeekRanges() {
+        LocalDate week = LocalDate.of(2024, 3, 4);
+
+        repository.findByUserIdAndWeekStartDateInRanges("user123",
+                List.of(Range.rightOpen(week, week.plusWeeks(2)), Range.rightOpen(week.plusWeeks(5), week.plusWeeks(6))));
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(Timesheet.class));
+        Document queryObject = query.getValue().getQueryObject();
+        assertEquals("user123", queryObject.get("userId"));
+        List<Document> weeks = queryObject.getList("$or", Document.class);
+        assertEquals(2, weeks.size());
+        assertEquals(new Document("$gte", week).append("$lt", week.plusWeeks(2)), weeks.get(0).get("weekStartDate"));
+        assertEquals(new Document("$gte", week.plusWeeks(5)).append("$lt", week.plusWeeks(6)), weeks.get(1).get("weekStartDate"));
+    }
+
+    @Test
+    void findByProjectIdAndWeekStartDateInRanges_FiltersOnProject() {
+        LocalDate week = LocalDate.of(2024, 3, 4);
+
+        repository.findByProjectIdAndWeekStartDateInRanges("proj123", List.of(Range.rightOpen(week, week.plusWeeks(1))));
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(Timesheet.class));
+        Document queryObject = query.getValue().getQueryObject();
+        assertEquals("proj123", queryObject.get("projectId"));
+        assertNull(queryObject.get("userId"));
+        assertEquals(1, queryObject.getList("$or", Document.class).size());
+    }
+
+    @Test
+    void findByUserIdAndWeekStartDateInRanges_NoRanges_SkipsQuery() {
+        assertTrue(repository.findByUserIdAndWeekStartDateInRanges("user123", List.of()).isEmpty());
+
+        verify(mongoTemplate, never()).find(any(Query.class), eq(Timesheet.class));
+    }
+
+    @Test
+    void streamPlacementsByWeekStartDateAfter_LoadsOnlyPlacementNewestFirst() {
+        LocalDate week = LocalDate.of(2024, 3, 4);
+
+        repository.streamPlacementsByWeekStartDateAfter(week);
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).stream(query.capture(), eq(Timesheet.class));
+        assertEquals(new Document("$gt", week), query.getValue().getQueryObject().get("weekStartDate"));
+        assertEquals(new Document("weekStartDate", -1), query.getValue().getSortObject());
+        assertEquals(new Document("userId", 1).append("projectId", 1).append("weekStartDate", 1),
+                query.getValue().getFieldsObject());
+    }
+}
@@ -0,0 +1,110 @@
+package com.project.management.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private MeterRegistry meterRegistry;
+    private PasswordHashingProperties properties;
+    private PasswordHashing hashing;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new PasswordHashingProperties();
+        properties.setMaxConcurrency(1);
+        properties.setQueueCapacity(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (hashing != null) {
+            hashing.destroy();
+        }
+    }
+
+    @Test
+    void matchesAndEncode_RunOnHashingThreads() {
+        hashing = new PasswordHashing(new ThreadNamingEncoder(null), properties, meterRegistry);
+
+        assertTrue(hashing.encode("secret").startsWith("password-hash-"));
+        assertTrue(hashing.matches("secret", "anything"));
+        assertEquals(1, meterRegistry.get("password.hash.duration").tag("operation", "matches").timer().count());
+        assertEquals(2, meterRegistry.get("password.hash.queue.wait").timer().count());
+    }
+
+    @Test
+    void queuedLongerThanLimit_Rejected() {
+        properties.setMaxQueueWait(Duration.ofMillis(20));
+        hashing = new PasswordHashing(new ThreadNamingEncoder(release), properties, meterRegistry);
+        CompletableFuture<String> blocking = hashing.encodeAsync("first");
+        CompletableFuture<String> queued = hashing.encodeAsync("second");
+
+        sleep(100);
+        release.countDown();
+
+        assertNotNull(blocking.join());
+        assertInstanceOf(RejectedExecutionException.class, assertThrows(CompletionException.class, queued::join).getCause());
+        assertEquals(1.0, meterRegistry.get("password.hash.rejected").tag("reason", "queue_timeout").counter().count());
+    }
+
+    @Test
+    void queueFull_RejectedImmediately() {
+        hashing = new PasswordHashing(new ThreadNamingEncoder(release), properties, meterRegistry);
+        hashing.encodeAsync("running");
+        hashing.encodeAsync("queued");
+
+        assertThrows(RejectedExecutionException.class, () -> hashing.matches("third", "hash"));
+        assertEquals(1.0, meterRegistry.get("password.hash.rejected").tag("reason", "full").counter().count());
+    }
+
+    @Test
+    void calibrate_StaysWithinBounds() {
+        assertEquals(4, PasswordEncoderConfig.calibrate(Duration.ZERO, 4, 8));
+        assertEquals(6, PasswordEncoderConfig.calibrate(Duration.ofHours(1), 4, 6));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Encodes to the worker's thread name, optionally holding the worker until released. */
+    private record ThreadNamingEncoder(CountDownLatch release) implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            if (release != null) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return Thread.currentThread().getName();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return true;
+        }
+    }
+}
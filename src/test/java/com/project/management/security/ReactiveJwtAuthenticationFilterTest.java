@@ -0,0 +1,99 @@
+package com.project.management.security;
+
+import com.project.management.Models.User;
+import com.project.management.Models.UserRole;
+import com.project.management.repository.ReactiveUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveJwtAuthenticationFilterTest {
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private ReactiveUserRepository userRepository;
+
+    private ReactiveJwtAuthenticationFilter filter;
+    private AtomicInteger chainInvocations;
+    private AtomicReference<Authentication> seenAuthentication;
+    private WebFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        filter = new ReactiveJwtAuthenticationFilter(jwtTokenProvider, userRepository);
+        chainInvocations = new AtomicInteger();
+        seenAuthentication = new AtomicReference<>();
+        chain = exchange -> {
+            chainInvocations.incrementAndGet();
+            return ReactiveSecurityContextHolder.getContext()
+                    .map(SecurityContext::getAuthentication)
+                    .doOnNext(seenAuthentication::set)
+                    .then();
+        };
+    }
+
+    @Test
+    void validToken_AuthenticatesAndInvokesChainOnce() {
+        User user = new User("user123", "testuser", "test@example.com", "password",
+                UserRole.ADMIN, List.of(), LocalDateTime.now());
+        when(jwtTokenProvider.validateToken("token")).thenReturn(true);
+        when(jwtTokenProvider.getUserIdFromToken("token")).thenReturn("user123");
+        when(userRepository.findById("user123")).thenReturn(Mono.just(user));
+
+        StepVerifier.create(filter.filter(exchangeWithToken("token"), chain)).verifyComplete();
+
+        assertEquals(1, chainInvocations.get());
+        assertEquals("user123", seenAuthentication.get().getName());
+        assertTrue(seenAuthentication.get().getAuthorities().stream()
+                .anyMatch(authority -> authority.getAuthority().equals("ROLE_ADMIN")));
+    }
+
+    @Test
+    void unknownUser_InvokesChainOnceWithoutAuthentication() {
+        when(jwtTokenProvider.validateToken("token")).thenReturn(true);
+        when(jwtTokenProvider.getUserIdFromToken("token")).thenReturn("ghost");
+        when(userRepository.findById("ghost")).thenReturn(Mono.empty());
+
+        StepVerifier.create(filter.filter(exchangeWithToken("token"), chain)).verifyComplete();
+
+        assertEquals(1, chainInvocations.get());
+        assertNull(seenAuthentication.get());
+    }
+
+    @Test
+    void invalidToken_SkipsUserLookup() {
+        when(jwtTokenProvider.validateToken("bad")).thenReturn(false);
+
+        StepVerifier.create(filter.filter(exchangeWithToken("bad"), chain)).verifyComplete();
+
+        assertEquals(1, chainInvocations.get());
+        verifyNoInteractions(userRepository);
+    }
+
+    private static MockServerWebExchange exchangeWithToken(String token) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/api/reactive/timesheets/users/user123")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+    }
+}
@@ -0,0 +1,139 @@
+package com.project.management.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.util.SimpleMethodInvocation;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.project.management.security.RequiresRole.Role.ADMIN;
+import static com.project.management.security.RequiresRole.Role.USER;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoleAuthorizationManagerTest {
+
+    private RoleAuthorizationManager manager;
+
+    @BeforeEach
+    void setUp() {
+        RoleProperties roleProperties = new RoleProperties();
+        roleProperties.setAdminRole("ROLE_ADMIN");
+        roleProperties.setUserRole("ROLE_USER");
+        manager = new RoleAuthorizationManager(roleProperties);
+    }
+
+    @Test
+    void singleRole_GrantedOnlyToThatAuthority() throws Exception {
+        assertTrue(granted(caller("admin-1", "ROLE_ADMIN"), "adminOnly"));
+        assertFalse(granted(caller("user-1", "ROLE_USER"), "adminOnly"));
+        assertFalse(granted(caller("other-1", "ROLE_AUDITOR"), "adminOnly"));
+    }
+
+    @Test
+    void anyOfRoles_GrantedToEither() throws Exception {
+        assertTrue(granted(caller("admin-1", "ROLE_ADMIN"), "adminOrUser"));
+        assertTrue(granted(caller("user-1", "ROLE_USER"), "adminOrUser"));
+        assertFalse(granted(caller("other-1"), "adminOrUser"));
+    }
+
+    @Test
+    void orSelf_GrantedWhenParameterIsCallerId() throws Exception {
+        assertTrue(granted(caller("user-1", "ROLE_USER"), "adminOrSelf", "user-1"));
+        assertFalse(granted(caller("user-1", "ROLE_USER"), "adminOrSelf", "user-2"));
+        assertTrue(granted(caller("admin-1", "ROLE_ADMIN"), "adminOrSelf", "user-2"));
+    }
+
+    @Test
+    void classLevelAnnotation_AppliesToMethods() throws Exception {
+        assertTrue(granted(caller("user-1", "ROLE_USER"), UserOnly.class, "anything"));
+        assertFalse(granted(caller("admin-1", "ROLE_ADMIN"), UserOnly.class, "anything"));
+    }
+
+    @Test
+    void reactiveCheck_MatchesBlockingCheck() throws Exception {
+        SimpleMethodInvocation invocation = invocation(Controller.class, "adminOnly");
+
+        assertTrue(manager.check(Mono.just(caller("admin-1", "ROLE_ADMIN")), invocation).block().isGranted());
+        assertFalse(manager.check(Mono.just(caller("user-1", "ROLE_USER")), invocation).block().isGranted());
+        assertFalse(manager.check(Mono.empty(), invocation).block().isGranted());
+    }
+
+    @Test
+    void orSelfNamingUnknownParameter_Fails() throws Exception {
+        SimpleMethodInvocation invocation = invocation(Controller.class, "broken", "user-1");
+
+        assertThrows(IllegalStateException.class, () -> manager.check(() -> caller("user-1"), invocation));
+    }
+
+    @Test
+    void unconfiguredRole_FailsAtStartup() {
+        assertThrows(IllegalStateException.class, () -> new RoleAuthorizationManager(new RoleProperties()));
+    }
+
+    @Test
+    void lazyRoleProperties_ReadOnFirstCheckOnly() throws Exception {
+        RoleProperties roleProperties = new RoleProperties();
+        roleProperties.setAdminRole("ROLE_ADMIN");
+        roleProperties.setUserRole("ROLE_USER");
+        AtomicInteger reads = new AtomicInteger();
+        manager = new RoleAuthorizationManager(() -> {
+            reads.incrementAndGet();
+            return roleProperties;
+        });
+        assertEquals(0, reads.get());
+
+        assertTrue(granted(caller("admin-1", "ROLE_ADMIN"), "adminOnly"));
+        assertFalse(granted(caller("user-1", "ROLE_USER"), "adminOnly"));
+        assertEquals(1, reads.get());
+    }
+
+    private boolean granted(Authentication authentication, String method, Object... args) throws Exception {
+        return granted(authentication, Controller.class, method, args);
+    }
+
+    private boolean granted(Authentication authentication, Class<?> type, String method, Object... args) throws Exception {
+        return manager.check(() -> authentication, invocation(type, method, args)).isGranted();
+    }
+
+    private static SimpleMethodInvocation invocation(Class<?> type, String method, Object... args) throws Exception {
+        Class<?>[] parameterTypes = new Class<?>[args.length];
+        Arrays.fill(parameterTypes, String.class);
+        return new SimpleMethodInvocation(type.getDeclaredConstructor().newInstance(),
+                type.getDeclaredMethod(method, parameterTypes), args);
+    }
+
+    private static Authentication caller(String userId, String... authorities) {
+        return new UsernamePasswordAuthenticationToken(userId, null,
+                List.of(authorities).stream().map(SimpleGrantedAuthority::new).toList());
+    }
+
+    static class Controller {
+        @RequiresRole(ADMIN)
+        public void adminOnly() {
+        }
+
+        @RequiresRole({ADMIN, USER})
+        public void adminOrUser() {
+        }
+
+        @RequiresRole(value = ADMIN, orSelf = "userId")
+        public void adminOrSelf(String userId) {
+        }
+
+        @RequiresRole(value = ADMIN, orSelf = "id")
+        public void broken(String userId) {
+        }
+    }
+
+    @RequiresRole(USER)
+    static class UserOnly {
+        public void anything() {
+        }
+    }
+}
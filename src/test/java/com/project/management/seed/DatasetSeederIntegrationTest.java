@@ -0,0 +1,77 @@
+package com.project.management.seed;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.project.management.Models.Project;
+import com.project.management.Models.Timesheet;
+import com.project.management.Models.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@Testcontainers(disabledWithoutDocker = true)
+class DatasetSeederIntegrationTest {
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    private MongoClient client;
+    private MongoTemplate mongoTemplate;
+    private SeedProperties properties;
+    private DatasetSeeder seeder;
+
+    @BeforeEach
+    void setUp() {
+        client = MongoClients.create(MONGO.getReplicaSetUrl());
+        mongoTemplate = new MongoTemplate(client, "seed-test");
+        properties = new SeedProperties();
+        properties.setUsers(200);
+        properties.setProjects(20);
+        properties.setWeeks(12);
+        properties.setLastWeek(LocalDate.of(2024, 6, 10));
+        properties.setBatchSize(100);
+        properties.setDrop(true);
+        seeder = new DatasetSeeder(properties, mongoTemplate, new BCryptPasswordEncoder(4),
+                mock(ConfigurableApplicationContext.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        mongoTemplate.getDb().drop();
+        client.close();
+    }
+
+    @Test
+    void seed_WritesTheGeneratedDataSet() throws Exception {
+        long timesheets = seeder.seed();
+
+        SyntheticDatasetGenerator expected = new SyntheticDatasetGenerator(properties, properties.getLastWeek(), "password");
+        assertEquals(expected.timesheets().count(), timesheets);
+        assertEquals(timesheets, mongoTemplate.count(new Query(), Timesheet.class));
+        assertEquals(200, mongoTemplate.count(new Query(), User.class));
+
+        long billed = mongoTemplate.findAll(Project.class).stream().mapToLong(Project::getTotalBilledHours).sum();
+        assertEquals(expected.timesheets().mapToLong(SyntheticDatasetGenerator::hours).sum(), billed);
+    }
+
+    @Test
+    void seed_LeavesAPopulatedDatabaseAlone() throws Exception {
+        seeder.seed();
+        properties.setDrop(false);
+
+        assertEquals(-1, seeder.seed());
+        assertEquals(200, mongoTemplate.count(new Query(), User.class));
+    }
+}
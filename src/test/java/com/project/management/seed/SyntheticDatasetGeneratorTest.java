@@ -0,0 +1,106 @@
+package com.project.management.seed;
+
+import com.project.management.Models.Project;
+import com.project.management.Models.TimeSheetStatus;
+import com.project.management.Models.Timesheet;
+import com.project.management.Models.User;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyntheticDatasetGeneratorTest {
+
+    private static final LocalDate LAST_WEEK = LocalDate.of(2024, 6, 12);
+
+    @Test
+    void sameSeed_SameDocuments() {
+        SyntheticDatasetGenerator first = generator(7);
+        SyntheticDatasetGenerator second = generator(7);
+
+        assertEquals(first.users(), second.users());
+        assertEquals(first.projects(), second.projects());
+        assertEquals(first.timesheets().toList(), second.timesheets().toList());
+        // Per-user streams do not depend on the order users are generated in
+        assertEquals(first.timesheets(150), second.timesheets(150));
+    }
+
+    @Test
+    void differentSeed_DifferentDocuments() {
+        SyntheticDatasetGenerator first = generator(7);
+        SyntheticDatasetGenerator second = generator(8);
+
+        assertNotEquals(first.users().getFirst().getId(), second.users().getFirst().getId());
+        assertNotEquals(first.timesheets(0), second.timesheets(0));
+    }
+
+    @Test
+    void projectSizes_AreSkewed() {
+        List<Integer> sizes = generator(7).projects().stream()
+                .map(project -> project.getAssignedUsers().size())
+                .sorted()
+                .toList();
+
+        int largest = sizes.getLast();
+        int median = sizes.get(sizes.size() / 2);
+        assertTrue(largest > 5 * Math.max(1, median), "largest " + largest + ", median " + median);
+    }
+
+    @Test
+    void timesheets_ArePlausible() {
+        SyntheticDatasetGenerator generator = generator(7);
+        Map<String, Project> projects = generator.projects().stream()
+                .collect(Collectors.toMap(Project::getId, project -> project));
+        Set<String> keys = new HashSet<>();
+        Map<String, Integer> hoursPerUserDay = new HashMap<>();
+        Set<TimeSheetStatus> statuses = EnumSet.noneOf(TimeSheetStatus.class);
+
+        List<Timesheet> timesheets = generator.timesheets().toList();
+        assertFalse(timesheets.isEmpty());
+        for (Timesheet timesheet : timesheets) {
+            assertTrue(keys.add(timesheet.getUserId() + timesheet.getProjectId() + timesheet.getWeekStartDate()));
+            assertEquals(DayOfWeek.MONDAY, timesheet.getWeekStartDate().getDayOfWeek());
+            assertFalse(timesheet.getWeekStartDate().isBefore(generator.firstWeek()));
+            assertFalse(timesheet.getWeekStartDate().isAfter(generator.lastWeek()));
+            assertTrue(projects.get(timesheet.getProjectId()).getAssignedUsers().contains(timesheet.getUserId()));
+            timesheet.getDailyHours().forEach((day, hours) -> hoursPerUserDay.merge(
+                    timesheet.getUserId() + timesheet.getWeekStartDate() + day, hours, Integer::sum));
+            statuses.add(timesheet.getStatus());
+        }
+        assertTrue(hoursPerUserDay.values().stream().allMatch(hours -> hours > 0 && hours <= 12));
+        assertEquals(EnumSet.allOf(TimeSheetStatus.class), statuses);
+    }
+
+    @Test
+    void ids_AreUniqueValidObjectIds() {
+        SyntheticDatasetGenerator generator = generator(7);
+        Set<String> ids = new HashSet<>();
+        generator.users().forEach(user -> assertTrue(ids.add(user.getId())));
+        generator.projects().forEach(project -> assertTrue(ids.add(project.getId())));
+        generator.timesheets().forEach(timesheet -> assertTrue(ids.add(timesheet.getId())));
+
+        assertTrue(ids.stream().allMatch(ObjectId::isValid));
+        assertEquals(IntStream.range(0, 300).mapToObj(i -> "user" + i).toList(),
+                generator.users().stream().map(User::getUsername).toList());
+    }
+
+    private static SyntheticDatasetGenerator generator(long seed) {
+        SeedProperties settings = new SeedProperties();
+        settings.setRandomSeed(seed);
+        settings.setUsers(300);
+        settings.setProjects(40);
+        settings.setWeeks(30);
+        return new SyntheticDatasetGenerator(settings, LAST_WEEK, "hash");
+    }
+}
@@ -8,11 +8,13 @@ import com.project.management.Models.UserRole;
 import com.project.management.exception.UserAlreadyExistsException;
 import com.project.management.repository.UserRepository;
 import com.project.management.security.JwtTokenProvider;
+import com.project.management.security.PasswordHashing;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -20,6 +22,7 @@ import javax.security.sasl.AuthenticationException;
 import java.util.Optional;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -122,19 +125,56 @@ class AuthServiceTest {
         verify(jwtTokenProvider, never()).generateToken(any());
     }
 
+    @Test
+    void login_HashBelowConfiguredCost_UpgradedAfterLogin() throws AuthenticationException {
+        // Arrange
+        testUser.setId("user-1");
+        when(userRepository.findByUsername("testUser")).thenReturn(Optional.of(testUser));
+        when(passwordEncoder.matches("password123", "encodedPassword")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("encodedPassword")).thenReturn(true);
+        when(passwordEncoder.encode("password123")).thenReturn("strongerHash");
+        when(jwtTokenProvider.generateToken(testUser)).thenReturn("jwt.token.here");
+
+        // Act
+        authService.login(loginRequest);
+
+        // Assert
+        verify(userRepository, timeout(1000)).replacePassword("user-1", "encodedPassword", "strongerHash");
+    }
+
+    @Test
+    void login_HashingQueueFull_SkipsUpgrade() throws AuthenticationException {
+        // Arrange
+        PasswordHashing passwordHashing = mock(PasswordHashing.class);
+        AuthService service = new AuthService(userRepository, passwordHashing, jwtTokenProvider, new DataVersions(),
+                mock(UserAvailability.class));
+        when(userRepository.findByUsername("testUser")).thenReturn(Optional.of(testUser));
+        when(passwordHashing.matches("password123", "encodedPassword")).thenReturn(true);
+        when(passwordHashing.needsRehash("encodedPassword")).thenReturn(true);
+        when(passwordHashing.encodeAsync("password123"))
+                .thenThrow(new RejectedExecutionException("Password hashing is overloaded"));
+        when(jwtTokenProvider.generateToken(testUser)).thenReturn("testToken");
+
+        // Act
+        LoginResponseDTO response = service.login(loginRequest);
+
+        // Assert
+        assertEquals("testToken", response.getToken());
+        verify(userRepository, never()).replacePassword(any(), any(), any());
+    }
+
     @Test
     void register_SuccessfulRegistration() {
         // Arrange
-        when(userRepository.existsByUsername("newUser")).thenReturn(false);
-        when(userRepository.existsByEmail("new@example.com")).thenReturn(false);
         when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
 
         // Act
         assertDoesNotThrow(() -> authService.register(registerRequest));
 
         // Assert
-        verify(userRepository).existsByUsername("newUser");
-        verify(userRepository).existsByEmail("new@example.com");
+        verify(userRepository).findByUsernameOrEmail("newUser", "new@example.com");
+        verify(userRepository, never()).existsByUsername(any());
+        verify(userRepository, never()).existsByEmail(any());
         verify(passwordEncoder).encode("password123");
         verify(userRepository).save(any(User.class));
     }
@@ -142,31 +182,46 @@ class AuthServiceTest {
     @Test
     void register_UsernameTaken() {
         // Arrange
-        when(userRepository.existsByUsername("newUser")).thenReturn(true);
+        User existing = new User();
+        existing.setUsername("newUser");
+        existing.setEmail("other@example.com");
+        when(userRepository.findByUsernameOrEmail("newUser", "new@example.com")).thenReturn(List.of(existing));
 
         // Act & Assert
         Exception exception = assertThrows(UserAlreadyExistsException.class, () ->
                 authService.register(registerRequest)
         );
         assertEquals("Username is already taken", exception.getMessage());
-        verify(userRepository).existsByUsername("newUser");
-        verify(userRepository, never()).existsByEmail(any());
         verify(userRepository, never()).save(any());
     }
 
     @Test
     void register_EmailTaken() {
         // Arrange
-        when(userRepository.existsByUsername("newUser")).thenReturn(false);
-        when(userRepository.existsByEmail("new@example.com")).thenReturn(true);
+        User existing = new User();
+        existing.setUsername("someoneElse");
+        existing.setEmail("new@example.com");
+        when(userRepository.findByUsernameOrEmail("newUser", "new@example.com")).thenReturn(List.of(existing));
 
         // Act & Assert
         Exception exception = assertThrows(UserAlreadyExistsException.class, () ->
                 authService.register(registerRequest)
         );
         assertEquals("Email is already taken", exception.getMessage());
-        verify(userRepository).existsByUsername("newUser");
-        verify(userRepository).existsByEmail("new@example.com");
         verify(userRepository, never()).save(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    void register_RacingRegistration_RejectedByUniqueIndex() {
+        // Arrange
+        when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
+        when(userRepository.save(any(User.class))).thenThrow(new DuplicateKeyException(
+                "E11000 duplicate key error collection: users index: " + User.EMAIL_INDEX + " dup key"));
+
+        // Act & Assert
+        Exception exception = assertThrows(UserAlreadyExistsException.class, () ->
+                authService.register(registerRequest)
+        );
+        assertEquals("Email is already taken", exception.getMessage());
+    }
+}
@@ -0,0 +1,228 @@
+package com.project.management.service;
+
+import com.project.management.dto.DashboardMetricsDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardMetricsBroadcasterTest {
+
+    @Mock
+    private MetricsService metricsService;
+
+    private DashboardMetricsBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new DashboardMetricsBroadcaster(metricsService);
+    }
+
+    @Test
+    void tick_WithoutSubscribers_DoesNotComputeMetrics() {
+        broadcaster.tick();
+
+        verifyNoInteractions(metricsService);
+    }
+
+    @Test
+    void tick_ComputesOncePerTickAndSendsSnapshotThenDelta() throws Exception {
+        when(metricsService.getDashboardMetrics())
+                .thenReturn(metrics(5, 20), metrics(5, 28));
+        RecordingEmitter first = new RecordingEmitter(2);
+        RecordingEmitter second = new RecordingEmitter(2);
+        broadcaster.subscribe(first);
+        broadcaster.subscribe(second);
+
+        broadcaster.tick();
+        first.awaitSent(1);
+        second.awaitSent(1);
+        broadcaster.tick();
+
+        assertTrue(first.delivered.await(5, TimeUnit.SECONDS));
+        assertTrue(second.delivered.await(5, TimeUnit.SECONDS));
+        verify(metricsService, times(2)).getDashboardMetrics();
+        for (RecordingEmitter emitter : List.of(first, second)) {
+            assertEquals(metrics(5, 20), emitter.sent.get(0));
+            assertEquals(Map.of("totalBilledHours", 28), emitter.sent.get(1));
+        }
+    }
+
+    @Test
+    void tick_UnchangedMetrics_SendsNoDelta() throws Exception {
+        when(metricsService.getDashboardMetrics()).thenReturn(metrics(5, 20));
+        RecordingEmitter emitter = new RecordingEmitter(1);
+        broadcaster.subscribe(emitter);
+
+        broadcaster.tick();
+        emitter.awaitSent(1);
+        broadcaster.tick();
+        broadcaster.tick();
+        Thread.sleep(100);
+
+        assertEquals(1, emitter.sent.size());
+    }
+
+    @Test
+    void tick_SlowSubscriber_OnlyReceivesLatestState() throws Exception {
+        when(metricsService.getDashboardMetrics())
+                .thenReturn(metrics(1, 10), metrics(2, 10), metrics(3, 10), metrics(4, 10));
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(2) {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                super.send(builder);
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        broadcaster.subscribe(slow);
+
+        broadcaster.tick();
+        slow.awaitSent(1);
+        broadcaster.tick();
+        broadcaster.tick();
+        broadcaster.tick();
+        release.countDown();
+
+        assertTrue(slow.delivered.await(5, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        assertEquals(List.of(metrics(1, 10), Map.of("activeProjects", 4)), slow.sent);
+    }
+
+    @Test
+    void subscribe_FailedSend_RemovesSubscriber() throws Exception {
+        when(metricsService.getDashboardMetrics()).thenReturn(metrics(5, 20));
+        CountDownLatch attempted = new CountDownLatch(1);
+        SseEmitter broken = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                attempted.countDown();
+                throw new IOException("Broken pipe");
+            }
+        };
+        broadcaster.subscribe(broken);
+
+        broadcaster.tick();
+
+        assertTrue(attempted.await(5, TimeUnit.SECONDS));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (broadcaster.subscriberCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, broadcaster.subscriberCount());
+    }
+
+    @Test
+    void heartbeat_IdleSubscriber_GetsCommentWithoutComputingMetrics() throws Exception {
+        ReflectionTestUtils.setField(broadcaster, "heartbeatMs", 0L);
+        CountDownLatch commented = new CountDownLatch(1);
+        SseEmitter emitter = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                if (builder.build().stream().anyMatch(data -> data.getData().toString().contains(":heartbeat"))) {
+                    commented.countDown();
+                }
+            }
+        };
+        broadcaster.subscribe(emitter);
+
+        broadcaster.heartbeat();
+
+        assertTrue(commented.await(5, TimeUnit.SECONDS));
+        verifyNoInteractions(metricsService);
+    }
+
+    @Test
+    void heartbeat_DeadSubscriber_IsRemoved() throws Exception {
+        ReflectionTestUtils.setField(broadcaster, "heartbeatMs", 0L);
+        broadcaster.subscribe(new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        });
+
+        broadcaster.heartbeat();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (broadcaster.subscriberCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, broadcaster.subscriberCount());
+    }
+
+    @Test
+    void heartbeat_RecentlyWrittenSubscriber_IsSkipped() throws Exception {
+        CountDownLatch attempted = new CountDownLatch(1);
+        broadcaster.subscribe(new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                attempted.countDown();
+            }
+        });
+
+        broadcaster.heartbeat();
+
+        assertFalse(attempted.await(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void diff_ReportsOnlyChangedFields() {
+        DashboardMetricsDTO previous = metrics(5, 20);
+        DashboardMetricsDTO current = metrics(6, 20);
+        current.setAverageUtilization(80.0);
+
+        assertEquals(Map.of("activeProjects", 6, "averageUtilization", 80.0),
+                DashboardMetricsBroadcaster.diff(previous, current));
+    }
+
+    private static DashboardMetricsDTO metrics(int activeProjects, int billedHours) {
+        return new DashboardMetricsDTO(activeProjects, 10, billedHours, 75.0, List.of(), List.of());
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        final List<Object> sent = new CopyOnWriteArrayList<>();
+        final CountDownLatch delivered;
+
+        RecordingEmitter(int expected) {
+            this.delivered = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            builder.build().stream()
+                    .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                    .filter(data -> !(data instanceof String))
+                    .forEach(data -> {
+                        sent.add(data);
+                        delivered.countDown();
+                    });
+        }
+
+        void awaitSent(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (sent.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.project.management.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataVersionsTest {
+
+    private static final Instant NOW = Instant.parse("2024-03-04T09:00:00Z");
+
+    private DataVersions dataVersions;
+
+    @BeforeEach
+    void setUp() {
+        dataVersions = new DataVersions();
+        at(NOW);
+    }
+
+    @Test
+    void unshared_ETagsExpireWithTheWindow() {
+        String eTag = dataVersions.projectsETag();
+
+        at(NOW.plusMillis(4999));
+        assertEquals(eTag, dataVersions.projectsETag());
+
+        at(NOW.plusSeconds(5));
+        assertNotEquals(eTag, dataVersions.projectsETag());
+    }
+
+    @Test
+    void shared_ETagsFollowTheCountersOnly() {
+        AtomicBoolean connected = new AtomicBoolean(true);
+        dataVersions.sharedWhile(connected::get);
+        String eTag = dataVersions.dashboardETag();
+
+        at(NOW.plus(Duration.ofHours(1)));
+        assertEquals(eTag, dataVersions.dashboardETag());
+
+        dataVersions.bump(DataVersions.Collection.USERS);
+        assertNotEquals(eTag, dataVersions.dashboardETag());
+
+        String shared = dataVersions.dashboardETag();
+        connected.set(false);
+        assertNotEquals(shared, dataVersions.dashboardETag());
+    }
+
+    @Test
+    void zeroTtl_TrustsLocalCounters() {
+        ReflectionTestUtils.setField(dataVersions, "unsharedTtlMs", 0L);
+        String eTag = dataVersions.projectETag("p1");
+
+        at(NOW.plus(Duration.ofMinutes(10)));
+        assertEquals(eTag, dataVersions.projectETag("p1"));
+
+        dataVersions.bumpProject("p1");
+        assertNotEquals(eTag, dataVersions.projectETag("p1"));
+    }
+
+    private void at(Instant instant) {
+        ReflectionTestUtils.setField(dataVersions, "clock", Clock.fixed(instant, ZoneOffset.UTC));
+    }
+}
@@ -5,28 +5,34 @@ import com.project.management.Models.ProjectStatus;
 import com.project.management.Models.Timesheet;
 import com.project.management.Models.User;
 import com.project.management.Models.TimeSheetStatus;
+import com.project.management.dto.BatchLookupResponseDTO;
 import com.project.management.dto.ProjectDTO;
 import com.project.management.dto.ProjectDetailDTO;
 import com.project.management.dto.ProjectStatsDTO;
 import com.project.management.dto.UserDTO;
 import com.project.management.dto.TimesheetSummaryDTO;
 import com.project.management.exception.ResourceNotFoundException;
+import com.project.management.exception.ServiceTimeoutException;
 import com.project.management.exception.UserAlreadyExistsException;
 import com.project.management.mapper.ProjectMapper;
 import com.project.management.repository.ProjectRepository;
 import com.project.management.repository.TimesheetRepository;
 import com.project.management.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.EnumMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static com.project.management.Models.UserRole.USER;
 import static org.junit.jupiter.api.Assertions.*;
@@ -50,6 +56,9 @@ class ProjectServiceTest {
     @Mock
     private ProjectMapper projectMapper;
 
+    @Mock
+    private DataVersions dataVersions;
+
     @InjectMocks
     private ProjectService projectService;
 
@@ -117,6 +126,11 @@ class ProjectServiceTest {
         when(projectMapper.toProjectDTO(any(Project.class))).thenReturn(testProjectDTO);
     }
 
+    @AfterEach
+    void tearDown() {
+        projectService.destroy();
+    }
+
     @Test
     void testCreateProject() {
         // Arrange
@@ -221,6 +235,22 @@ class ProjectServiceTest {
         verify(projectMapper, times(1)).toProjectDTO(any(Project.class));
     }
 
+    @Test
+    void testGetProjectsByIds() {
+        // Arrange
+        List<String> ids = Arrays.asList("missing-project", testProject.getId());
+        when(projectRepository.findAllById(ids)).thenReturn(List.of(testProject));
+
+        // Act
+        BatchLookupResponseDTO<ProjectDTO> result = projectService.getProjectsByIds(ids);
+
+        // Assert
+        assertEquals(List.of(testProject.getId()), new ArrayList<>(result.getResults().keySet()));
+        assertEquals(testProjectDTO, result.getResults().get(testProject.getId()));
+        assertEquals(List.of("missing-project"), result.getMissingIds());
+        verify(projectRepository, times(1)).findAllById(ids);
+    }
+
     @Test
     void testGetProjectStats() {
         // Arrange
@@ -255,7 +285,7 @@ class ProjectServiceTest {
 
         when(projectRepository.findById(anyString())).thenReturn(Optional.of(testProject));
         when(userRepository.findAllById(anyList())).thenReturn(assignedUsers);
-        when(timesheetRepository.findByProjectId(anyString())).thenReturn(timesheets);
+        when(timesheetRepository.findTop5ByProjectIdOrderBySubmittedAtDesc(anyString())).thenReturn(timesheets);
 
         // Act
         ProjectDetailDTO result = projectService.getProjectDetails("project123");
@@ -269,7 +299,33 @@ class ProjectServiceTest {
         assertEquals(1, result.getRecentTimesheets().size());
         verify(projectRepository, times(1)).findById(anyString());
         verify(userRepository, times(1)).findAllById(anyList());
-        verify(timesheetRepository, times(1)).findByProjectId(anyString());
+        verify(timesheetRepository, times(1)).findTop5ByProjectIdOrderBySubmittedAtDesc("project123");
+        verify(timesheetRepository, never()).findByProjectId(anyString());
+    }
+
+    @Test
+    void testGetProjectDetails_Timeout() throws InterruptedException {
+        // Arrange
+        ReflectionTestUtils.setField(projectService, "detailsTimeoutMs", 50L);
+        when(projectRepository.findById(anyString())).thenReturn(Optional.of(testProject));
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(userRepository.findAllById(anyList())).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return Collections.emptyList();
+        });
+        when(timesheetRepository.findTop5ByProjectIdOrderBySubmittedAtDesc(anyString()))
+                .thenReturn(Collections.singletonList(testTimesheet));
+
+        // Act & Assert
+        assertThrows(ServiceTimeoutException.class, () -> {
+            projectService.getProjectDetails("project123");
+        });
+        // The lookup still running at the deadline is interrupted rather than left to finish
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
     }
 
     @Test
@@ -0,0 +1,85 @@
+package com.project.management.service;
+
+import com.project.management.Models.TimeSheetStatus;
+import com.project.management.Models.Timesheet;
+import com.project.management.exception.ResourceNotFoundException;
+import com.project.management.repository.ReactiveTimesheetRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveTimesheetServiceTest {
+
+    @Mock
+    private ReactiveTimesheetRepository timesheetRepository;
+
+    @InjectMocks
+    private ReactiveTimesheetService timesheetService;
+
+    private Timesheet timesheet;
+    private static final String USER_ID = "user123";
+    private static final String PROJECT_ID = "project123";
+
+    @BeforeEach
+    void setUp() {
+        EnumMap<DayOfWeek, Integer> dailyHours = new EnumMap<>(DayOfWeek.class);
+        dailyHours.put(DayOfWeek.MONDAY, 8);
+        dailyHours.put(DayOfWeek.TUESDAY, 6);
+
+        timesheet = new Timesheet();
+        timesheet.setId("timesheet123");
+        timesheet.setUserId(USER_ID);
+        timesheet.setProjectId(PROJECT_ID);
+        timesheet.setWeekStartDate(LocalDate.now());
+        timesheet.setDailyHours(dailyHours);
+        timesheet.setDescription("Test timesheet");
+        timesheet.setStatus(TimeSheetStatus.SUBMITTED);
+        timesheet.setSubmittedAt(LocalDateTime.now());
+    }
+
+    @Test
+    void getTimesheetById_Success() {
+        when(timesheetRepository.findById("timesheet123")).thenReturn(Mono.just(timesheet));
+
+        StepVerifier.create(timesheetService.getTimesheetById("timesheet123"))
+                .expectNextMatches(dto -> dto.getId().equals("timesheet123") && dto.getUserId().equals(USER_ID))
+                .verifyComplete();
+    }
+
+    @Test
+    void getTimesheetById_NotFound() {
+        when(timesheetRepository.findById("missing")).thenReturn(Mono.empty());
+
+        StepVerifier.create(timesheetService.getTimesheetById("missing"))
+                .expectError(ResourceNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    void getUserTimesheets_StreamsWithBackpressure() {
+        LocalDate start = LocalDate.now().minusMonths(1);
+        LocalDate end = LocalDate.now();
+        when(timesheetRepository.findByUserIdAndWeekStartDateBetween(USER_ID, start, end))
+                .thenReturn(Flux.just(timesheet, timesheet, timesheet));
+
+        StepVerifier.create(timesheetService.getUserTimesheets(USER_ID, start, end), 1)
+                .expectNextMatches(summary -> summary.getTotalHours() == 14)
+                .thenRequest(2)
+                .expectNextCount(2)
+                .verifyComplete();
+    }
+}
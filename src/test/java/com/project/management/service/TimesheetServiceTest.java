@@ -2,7 +2,10 @@ package com.project.management.service;
 
 import com.project.management.dto.*;
 import com.project.management.Models.*;
+import com.project.management.event.TimesheetStatusChangedEvent;
+import com.project.management.exception.ErrorCode;
 import com.project.management.exception.ResourceNotFoundException;
+import com.project.management.exception.TimesheetValidationException;
 import com.project.management.repository.ProjectRepository;
 import com.project.management.repository.TimesheetRepository;
 import com.project.management.repository.UserRepository;
@@ -12,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
@@ -34,6 +38,18 @@ class TimesheetServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TimesheetWeekCache timesheetWeekCache;
+
+    @Mock
+    private TimesheetSummaryCache timesheetSummaryCache;
+
+    @Mock
+    private DataVersions dataVersions;
+
     @InjectMocks
     private TimesheetService timesheetService;
 
@@ -112,6 +128,10 @@ class TimesheetServiceTest {
         assertEquals(USER_ID, result.getUserId());
         assertEquals(PROJECT_ID, result.getProjectId());
         verify(projectRepository).save(any(Project.class));
+        verify(eventPublisher).publishEvent(any(TimesheetStatusChangedEvent.class));
+        verify(dataVersions).bump(DataVersions.Collection.PROJECTS);
+        verify(dataVersions).bump(DataVersions.Collection.TIMESHEETS);
+        verify(dataVersions).bumpProject(PROJECT_ID);
     }
 
     @Test
@@ -123,8 +143,21 @@ class TimesheetServiceTest {
         when(projectRepository.findById(PROJECT_ID)).thenReturn(Optional.of(unassignedProject));
         when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
 
-        assertThrows(IllegalArgumentException.class,
+        TimesheetValidationException exception = assertThrows(TimesheetValidationException.class,
+                () -> timesheetService.submitTimesheet(timesheetDTO));
+        assertEquals(ErrorCode.USER_NOT_ASSIGNED, exception.getErrorCode());
+    }
+
+    @Test
+    void submitTimesheet_WeekAlreadySubmitted() {
+        when(projectRepository.findById(PROJECT_ID)).thenReturn(Optional.of(project));
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+        when(timesheetRepository.existsByUserIdAndProjectIdAndWeekStartDate(any(), any(), any())).thenReturn(true);
+
+        TimesheetValidationException exception = assertThrows(TimesheetValidationException.class,
                 () -> timesheetService.submitTimesheet(timesheetDTO));
+        assertEquals(ErrorCode.TIMESHEET_ALREADY_EXISTS, exception.getErrorCode());
+        verify(timesheetRepository, never()).save(any());
     }
 
     @Test
@@ -136,6 +169,9 @@ class TimesheetServiceTest {
 
         assertNotNull(result);
         assertEquals(TimeSheetStatus.APPROVED, result.getStatus());
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof TimesheetStatusChangedEvent changed
+                && changed.getStatus() == TimeSheetStatus.APPROVED
+                && changed.getUserId().equals(USER_ID)));
     }
 
     @Test
@@ -148,6 +184,7 @@ class TimesheetServiceTest {
         assertNotNull(result);
         assertEquals(TimeSheetStatus.REJECTED, result.getStatus());
         assertTrue(result.getDescription().contains("Incorrect hours"));
+        verify(eventPublisher).publishEvent(any(TimesheetStatusChangedEvent.class));
     }
 
     @Test
@@ -156,8 +193,7 @@ class TimesheetServiceTest {
         LocalDate endDate = LocalDate.now();
         List<Timesheet> timesheets = Collections.singletonList(timesheet);
 
-        when(timesheetRepository.findByUserIdAndWeekStartDateBetween(
-                USER_ID, startDate, endDate)).thenReturn(timesheets);
+        when(timesheetWeekCache.getUserTimesheets(USER_ID, startDate, endDate)).thenReturn(timesheets);
 
         List<TimesheetSummaryDTO> result = timesheetService.getUserTimesheets(
                 USER_ID, startDate, endDate);
@@ -167,6 +203,19 @@ class TimesheetServiceTest {
         assertEquals(USER_ID, timesheet.getUserId());
     }
 
+    @Test
+    void getProjectTimesheets_SummaryCacheEnabled_ServedFromIt() {
+        LocalDate startDate = LocalDate.now().minusDays(7);
+        LocalDate endDate = LocalDate.now();
+        List<TimesheetSummaryDTO> summaries = List.of(new TimesheetSummaryDTO());
+        when(timesheetSummaryCache.isEnabled()).thenReturn(true);
+        when(timesheetSummaryCache.getProjectTimesheets(eq(PROJECT_ID), eq(startDate), eq(endDate), any()))
+                .thenReturn(summaries);
+
+        assertEquals(summaries, timesheetService.getProjectTimesheets(PROJECT_ID, startDate, endDate));
+        verifyNoInteractions(timesheetRepository);
+    }
+
     @Test
     void getTimesheetStats_Success() {
         List<Timesheet> timesheets = Collections.singletonList(timesheet);
@@ -191,6 +240,19 @@ class TimesheetServiceTest {
                 () -> timesheetService.getTimesheetById(nonExistentId));
     }
 
+    @Test
+    void getTimesheetsByIds_ReportsMissingIds() {
+        List<String> ids = List.of("timesheet123", "missing123", "timesheet123");
+        when(timesheetRepository.findAllById(ids)).thenReturn(List.of(timesheet));
+
+        BatchLookupResponseDTO<TimesheetResponseDTO> result = timesheetService.getTimesheetsByIds(ids);
+
+        assertEquals(1, result.getResults().size());
+        assertEquals(USER_ID, result.getResults().get("timesheet123").getUserId());
+        assertEquals(List.of("missing123"), result.getMissingIds());
+        verify(timesheetRepository, times(1)).findAllById(ids);
+    }
+
     @Test
     void approveTimesheet_InvalidStatus() {
         Timesheet approvedTimesheet = new Timesheet();
@@ -0,0 +1,178 @@
+package com.project.management.service;
+
+import com.project.management.Models.TimeSheetStatus;
+import com.project.management.Models.Timesheet;
+import com.project.management.dto.TimesheetSummaryDTO;
+import com.project.management.event.TimesheetStatusChangedEvent;
+import com.project.management.repository.TimesheetRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.util.unit.DataSize;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TimesheetSummaryCacheTest {
+
+    private static final String USER_ID = "user123";
+    private static final String PROJECT_ID = new ObjectId().toHexString();
+    // Mondays
+    private static final LocalDate WEEK_1 = LocalDate.of(2024, 3, 4);
+    private static final LocalDate WEEK_2 = WEEK_1.plusWeeks(1);
+    private static final LocalDate WEEK_3 = WEEK_1.plusWeeks(2);
+
+    private static final Function<Timesheet, TimesheetSummaryDTO> MAPPER = timesheet -> new TimesheetSummaryDTO(
+            timesheet.getId(), timesheet.getProjectId(), timesheet.getWeekStartDate(), 40,
+            timesheet.getStatus(), timesheet.getSubmittedAt());
+
+    @Mock
+    private TimesheetRepository timesheetRepository;
+
+    private MeterRegistry meterRegistry;
+    private TimesheetSummaryCache cache;
+
+    @BeforeEach
+    void setUp() {
+        TimesheetSummaryCacheProperties properties = new TimesheetSummaryCacheProperties();
+        properties.setEnabled(true);
+        properties.setMaxRangeWeeks(10);
+        properties.getUserWeeks().setCapacity(DataSize.ofKilobytes(64));
+        properties.getProjectWeeks().setCapacity(DataSize.ofKilobytes(64));
+        properties.setSlabSize(DataSize.ofKilobytes(16));
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TimesheetSummaryCache(timesheetRepository, properties, meterRegistry);
+    }
+
+    @Test
+    void disabledByDefault() {
+        TimesheetSummaryCache disabled = new TimesheetSummaryCache(timesheetRepository,
+                new TimesheetSummaryCacheProperties(), meterRegistry);
+
+        assertFalse(disabled.isEnabled());
+        disabled.onTimesheetStatusChanged(TimesheetStatusChangedEvent.of(timesheet("t1", WEEK_1)));
+    }
+
+    @Test
+    void getUserTimesheets_SecondReadDecodedFromOffHeap() {
+        Timesheet first = timesheet("t1", WEEK_1);
+        Timesheet second = timesheet(new ObjectId().toHexString(), WEEK_2);
+        when(timesheetRepository.findByUserIdAndWeekStartDateInRanges(eq(USER_ID), anyList()))
+                .thenReturn(List.of(second, first));
+
+        List<TimesheetSummaryDTO> loaded = cache.getUserTimesheets(USER_ID, WEEK_1.minusDays(1), WEEK_2.plusDays(1), MAPPER);
+        List<TimesheetSummaryDTO> cached = cache.getUserTimesheets(USER_ID, WEEK_1.minusDays(1), WEEK_2.plusDays(1), MAPPER);
+
+        assertEquals(List.of(MAPPER.apply(first), MAPPER.apply(second)), loaded);
+        assertEquals(loaded, cached);
+        verify(timesheetRepository, times(1)).findByUserIdAndWeekStartDateInRanges(eq(USER_ID), anyList());
+        // The range starts on a Sunday, so it spans three Monday-aligned weeks
+        assertEquals(3.0, meterRegistry.get("offheap.cache.gets").tag("cache", "timesheet.summaries.users")
+                .tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void getProjectTimesheets_ExcludesRangeBoundsLikeBetween() {
+        Timesheet onStart = timesheet("t1", WEEK_1);
+        Timesheet inside = timesheet("t2", WEEK_2);
+        Timesheet onEnd = timesheet("t3", WEEK_3);
+        when(timesheetRepository.findByProjectIdAndWeekStartDateInRanges(eq(PROJECT_ID), anyList()))
+                .thenReturn(List.of(onStart, inside, onEnd));
+
+        assertEquals(List.of(MAPPER.apply(inside)), cache.getProjectTimesheets(PROJECT_ID, WEEK_1, WEEK_3, MAPPER));
+        assertEquals(List.of(MAPPER.apply(inside)), cache.getProjectTimesheets(PROJECT_ID, WEEK_1, WEEK_3, MAPPER));
+        verify(timesheetRepository, times(1)).findByProjectIdAndWeekStartDateInRanges(eq(PROJECT_ID), anyList());
+    }
+
+    @Test
+    void statusChange_InvalidatesUserAndProjectWeek() {
+        Timesheet first = timesheet("t1", WEEK_1);
+        Timesheet second = timesheet("t2", WEEK_2);
+        when(timesheetRepository.findByUserIdAndWeekStartDateInRanges(eq(USER_ID), anyList()))
+                .thenReturn(List.of(first, second), List.of(second));
+        when(timesheetRepository.findByProjectIdAndWeekStartDateInRanges(eq(PROJECT_ID), anyList()))
+                .thenReturn(List.of(first, second), List.of(second));
+        cache.getUserTimesheets(USER_ID, WEEK_1.minusDays(1), WEEK_2.plusDays(1), MAPPER);
+        cache.getProjectTimesheets(PROJECT_ID, WEEK_1.minusDays(1), WEEK_2.plusDays(1), MAPPER);
+
+        cache.onTimesheetStatusChanged(TimesheetStatusChangedEvent.of(second));
+        cache.getUserTimesheets(USER_ID, WEEK_1.minusDays(1), WEEK_2.plusDays(1), MAPPER);
+        cache.getProjectTimesheets(PROJECT_ID, WEEK_1.minusDays(1), WEEK_2.plusDays(1), MAPPER);
+
+        verify(timesheetRepository).findByUserIdAndWeekStartDateInRanges(USER_ID, List.of(Range.rightOpen(WEEK_2, WEEK_3)));
+        verify(timesheetRepository).findByProjectIdAndWeekStartDateInRanges(PROJECT_ID, List.of(Range.rightOpen(WEEK_2, WEEK_3)));
+    }
+
+    @Test
+    void evictionDuringLoad_LoadedWeekNotKept() {
+        Timesheet submitted = timesheet("t1", WEEK_1);
+        Timesheet approved = timesheet("t1", WEEK_1);
+        approved.setStatus(TimeSheetStatus.APPROVED);
+        when(timesheetRepository.findByUserIdAndWeekStartDateInRanges(eq(USER_ID), anyList()))
+                .thenAnswer(invocation -> {
+                    // The status changes after the query read the week, before it is stored
+                    cache.onTimesheetStatusChanged(TimesheetStatusChangedEvent.of(approved));
+                    return List.of(submitted);
+                })
+                .thenReturn(List.of(approved));
+
+        assertEquals(List.of(MAPPER.apply(submitted)), userWeek1());
+        assertEquals(List.of(MAPPER.apply(approved)), userWeek1());
+        assertEquals(List.of(MAPPER.apply(approved)), userWeek1());
+
+        verify(timesheetRepository, times(2)).findByUserIdAndWeekStartDateInRanges(eq(USER_ID), anyList());
+    }
+
+    @Test
+    void getUserTimesheets_LongRange_BypassesCache() {
+        LocalDate start = WEEK_1.minusYears(1);
+        when(timesheetRepository.findByUserIdAndWeekStartDateBetween(USER_ID, start, WEEK_1)).thenReturn(List.of());
+
+        cache.getUserTimesheets(USER_ID, start, WEEK_1, MAPPER);
+
+        verify(timesheetRepository, never()).findByUserIdAndWeekStartDateInRanges(any(), anyList());
+    }
+
+    @Test
+    void encode_RoundTripsEveryField() {
+        List<TimesheetSummaryDTO> summaries = Arrays.asList(
+                new TimesheetSummaryDTO(new ObjectId().toHexString(), PROJECT_ID, WEEK_1, 37,
+                        TimeSheetStatus.APPROVED, LocalDateTime.of(2024, 3, 8, 17, 45, 12, 123_456_789)),
+                new TimesheetSummaryDTO("legacy-id", "ÄBC-project", WEEK_2, null, null, null),
+                new TimesheetSummaryDTO("65F0C2A1B2C3D4E5F6A7B8C9", null, null, 0, TimeSheetStatus.SUBMITTED, null));
+
+        assertEquals(summaries, TimesheetSummaryCache.decode(TimesheetSummaryCache.encode(summaries)));
+        // Two ObjectIds take 12 bytes each rather than 24 characters
+        assertTrue(TimesheetSummaryCache.encode(summaries.subList(0, 1)).length < 60);
+    }
+
+    private List<TimesheetSummaryDTO> userWeek1() {
+        return cache.getUserTimesheets(USER_ID, WEEK_1.minusDays(1), WEEK_1.plusDays(1), MAPPER);
+    }
+
+    private static Timesheet timesheet(String id, LocalDate weekStartDate) {
+        Timesheet timesheet = new Timesheet();
+        timesheet.setId(id);
+        timesheet.setUserId(USER_ID);
+        timesheet.setProjectId(PROJECT_ID);
+        timesheet.setWeekStartDate(weekStartDate);
+        timesheet.setStatus(TimeSheetStatus.SUBMITTED);
+        timesheet.setSubmittedAt(weekStartDate.atTime(17, 0));
+        return timesheet;
+    }
+}
@@ -0,0 +1,150 @@
+package com.project.management.service;
+
+import com.project.management.Models.TimeSheetStatus;
+import com.project.management.Models.Timesheet;
+import com.project.management.event.TimesheetStatusChangedEvent;
+import com.project.management.repository.TimesheetRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TimesheetWeekCacheTest {
+
+    private static final String USER_ID = "user123";
+    // Mondays
+    private static final LocalDate WEEK_1 = LocalDate.of(2024, 3, 4);
+    private static final LocalDate WEEK_2 = WEEK_1.plusWeeks(1);
+    private static final LocalDate WEEK_3 = WEEK_1.plusWeeks(2);
+    private static final LocalDate WEEK_4 = WEEK_1.plusWeeks(3);
+
+    @Mock
+    private TimesheetRepository timesheetRepository;
+
+    private MeterRegistry meterRegistry;
+    private TimesheetWeekCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TimesheetWeekCache(timesheetRepository, meterRegistry, 1000, Duration.ofMinutes(10), 10);
+    }
+
+    @Test
+    void getUserTimesheets_LoadsMissingWeeksInOneQuery() {
+        Timesheet first = timesheet("t1", WEEK_1);
+        Timesheet third = timesheet("t3", WEEK_3);
+        when(timesheetRepository.findByUserIdAndWeekStartDateInRanges(eq(USER_ID), anyList()))
+                .thenReturn(List.of(third, first));
+
+        List<Timesheet> result = cache.getUserTimesheets(USER_ID, WEEK_1.minusDays(1), WEEK_3.plusDays(1));
+
+        assertEquals(List.of(first, third), result);
+        verify(timesheetRepository).findByUserIdAndWeekStartDateInRanges(USER_ID,
+                List.of(Range.rightOpen(WEEK_1.minusWeeks(1), WEEK_4)));
+    }
+
+    @Test
+    void getUserTimesheets_OverlappingRange_OnlyFetchesUncachedWeeks() {
+        Timesheet second = timesheet("t2", WEEK_2);
+        Timesheet fourth = timesheet("t4", WEEK_4);
+        when(timesheetRepository.findByUserIdAndWeekStartDateInRanges(eq(USER_ID), anyList()))
+                .thenReturn(List.of(second), List.of(fourth));
+
+        cache.getUserTimesheets(USER_ID, WEEK_2.minusDays(1), WEEK_3.plusDays(1));
+        List<Timesheet> result = cache.getUserTimesheets(USER_ID, WEEK_2.minusDays(1), WEEK_4.plusDays(1));
+
+        assertEquals(List.of(second, fourth), result);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Range<LocalDate>>> ranges = ArgumentCaptor.forClass(List.class);
+        verify(timesheetRepository, times(2)).findByUserIdAndWeekStartDateInRanges(eq(USER_ID), ranges.capture());
+        assertEquals(List.of(Range.rightOpen(WEEK_4, WEEK_4.plusWeeks(1))), ranges.getAllValues().get(1));
+        // The first range's Monday-aligned weeks 1-3 are reused; only week 4 is new
+        assertEquals(3.0, meterRegistry.get("cache.gets").tag("cache", TimesheetWeekCache.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void getUserTimesheets_ExcludesRangeBoundsLikeBetween() {
+        Timesheet onStart = timesheet("t1", WEEK_1);
+        Timesheet inside = timesheet("t2", WEEK_2);
+        Timesheet onEnd = timesheet("t3", WEEK_3);
+        when(timesheetRepository.findByUserIdAndWeekStartDateInRanges(eq(USER_ID), anyList()))
+                .thenReturn(List.of(onStart, inside, onEnd));
+
+        assertEquals(List.of(inside), cache.getUserTimesheets(USER_ID, WEEK_1, WEEK_3));
+        assertEquals(List.of(), cache.getUserTimesheets(USER_ID, WEEK_3, WEEK_1));
+    }
+
+    @Test
+    void statusChange_EvictsOnlyThatWeek() {
+        Timesheet first = timesheet("t1", WEEK_1);
+        Timesheet second = timesheet("t2", WEEK_2);
+        when(timesheetRepository.findByUserIdAndWeekStartDateInRanges(eq(USER_ID), anyList()))
+                .thenReturn(List.of(first, second), List.of(second));
+        cache.getUserTimesheets(USER_ID, WEEK_1.minusDays(1), WEEK_2.plusDays(1));
+
+        cache.onTimesheetStatusChanged(TimesheetStatusChangedEvent.of(second));
+        cache.getUserTimesheets(USER_ID, WEEK_1.minusDays(1), WEEK_2.plusDays(1));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Range<LocalDate>>> ranges = ArgumentCaptor.forClass(List.class);
+        verify(timesheetRepository, times(2)).findByUserIdAndWeekStartDateInRanges(eq(USER_ID), ranges.capture());
+        assertEquals(List.of(Range.rightOpen(WEEK_2, WEEK_3)), ranges.getAllValues().get(1));
+    }
+
+    @Test
+    void evictionDuringLoad_LoadedWeekNotKept() {
+        Timesheet submitted = timesheet("t1", WEEK_1);
+        Timesheet approved = timesheet("t1", WEEK_1);
+        approved.setStatus(TimeSheetStatus.APPROVED);
+        when(timesheetRepository.findByUserIdAndWeekStartDateInRanges(eq(USER_ID), anyList()))
+                .thenAnswer(invocation -> {
+                    // The status changes after the query read the week, before it is cached
+                    cache.onTimesheetStatusChanged(TimesheetStatusChangedEvent.of(approved));
+                    return List.of(submitted);
+                })
+                .thenReturn(List.of(approved));
+
+        assertEquals(List.of(submitted), cache.getUserTimesheets(USER_ID, WEEK_1.minusDays(1), WEEK_1.plusDays(1)));
+        assertEquals(List.of(approved), cache.getUserTimesheets(USER_ID, WEEK_1.minusDays(1), WEEK_1.plusDays(1)));
+        assertEquals(List.of(approved), cache.getUserTimesheets(USER_ID, WEEK_1.minusDays(1), WEEK_1.plusDays(1)));
+
+        verify(timesheetRepository, times(2)).findByUserIdAndWeekStartDateInRanges(eq(USER_ID), anyList());
+    }
+
+    @Test
+    void getUserTimesheets_LongRange_BypassesCache() {
+        LocalDate start = WEEK_1.minusYears(1);
+        when(timesheetRepository.findByUserIdAndWeekStartDateBetween(USER_ID, start, WEEK_1)).thenReturn(List.of());
+
+        cache.getUserTimesheets(USER_ID, start, WEEK_1);
+
+        verify(timesheetRepository, never()).findByUserIdAndWeekStartDateInRanges(any(), anyList());
+    }
+
+    private static Timesheet timesheet(String id, LocalDate weekStartDate) {
+        Timesheet timesheet = new Timesheet();
+        timesheet.setId(id);
+        timesheet.setUserId(USER_ID);
+        timesheet.setProjectId("project123");
+        timesheet.setWeekStartDate(weekStartDate);
+        timesheet.setStatus(TimeSheetStatus.SUBMITTED);
+        return timesheet;
+    }
+}
@@ -0,0 +1,126 @@
+package com.project.management.service;
+
+import com.project.management.Models.User;
+import com.project.management.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserAvailabilityTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private MeterRegistry meterRegistry;
+    private UserAvailability availability;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        availability = new UserAvailability(userRepository, meterRegistry);
+    }
+
+    @Test
+    void check_BeforeFilterIsBuilt_QueriesOnce() {
+        when(userRepository.findByUsernameOrEmail("ada", "ada@example.com")).thenReturn(List.of());
+
+        assertEquals(UserAvailability.Result.AVAILABLE, availability.check("ada", "ada@example.com"));
+        verify(userRepository).findByUsernameOrEmail("ada", "ada@example.com");
+    }
+
+    @Test
+    void check_ValuesNotInFilter_AnsweredWithoutQuery() {
+        build(user("grace", "grace@example.com"));
+
+        assertEquals(UserAvailability.Result.AVAILABLE, availability.check("ada", "ada@example.com"));
+
+        verify(userRepository, never()).findByUsernameOrEmail(any(), any());
+        assertEquals(1.0, checks("filtered"));
+    }
+
+    @Test
+    void check_KnownValues_ConfirmedByQuery() {
+        User grace = user("grace", "grace@example.com");
+        build(grace);
+        when(userRepository.findByUsernameOrEmail("ada", "grace@example.com")).thenReturn(List.of(grace));
+        when(userRepository.findByUsernameOrEmail("grace", "new@example.com")).thenReturn(List.of(grace));
+
+        assertEquals(UserAvailability.Result.EMAIL_TAKEN, availability.check("ada", "grace@example.com"));
+        assertEquals(UserAvailability.Result.USERNAME_TAKEN, availability.check("grace", "new@example.com"));
+        assertEquals(2.0, checks("taken"));
+    }
+
+    @Test
+    void added_SeenByLaterChecks() {
+        build();
+        availability.added("ada", "ada@example.com");
+        when(userRepository.findByUsernameOrEmail("ada", "other@example.com")).thenReturn(List.of(user("ada", null)));
+
+        assertEquals(UserAvailability.Result.USERNAME_TAKEN, availability.check("ada", "other@example.com"));
+    }
+
+    @Test
+    void check_NullEmail_QueriesUsernameOnly() {
+        when(userRepository.findByUsername("ada")).thenReturn(Optional.empty());
+
+        assertEquals(UserAvailability.Result.AVAILABLE, availability.check("ada", null));
+        verify(userRepository, never()).findByUsernameOrEmail(any(), any());
+    }
+
+    @Test
+    void fromDuplicateKey_NamesViolatedIndex() {
+        assertEquals(UserAvailability.Result.EMAIL_TAKEN, availability.fromDuplicateKey(
+                new DuplicateKeyException("E11000 duplicate key error index: " + User.EMAIL_INDEX)));
+        assertEquals(UserAvailability.Result.USERNAME_TAKEN, availability.fromDuplicateKey(
+                new DuplicateKeyException("E11000 duplicate key error index: " + User.USERNAME_INDEX)));
+    }
+
+    @Test
+    void fromDuplicateKey_OtherIndex_Rethrows() {
+        DuplicateKeyException duplicate = new DuplicateKeyException(
+                "E11000 duplicate key error collection: users index: _id_ dup key: { _id: \"u1\" }");
+
+        assertSame(duplicate, assertThrows(DuplicateKeyException.class, () -> availability.fromDuplicateKey(duplicate)));
+    }
+
+    @Test
+    void rebuild_FailureLeavesDatabaseFallback() {
+        when(userRepository.count()).thenThrow(new IllegalStateException("no database"));
+
+        availability.rebuild();
+
+        assertFalse(availability.isFilterReady());
+    }
+
+    private void build(User... users) {
+        when(userRepository.count()).thenReturn((long) users.length);
+        when(userRepository.streamUsernamesAndEmails()).thenReturn(Stream.of(users));
+        availability.rebuild();
+        assertTrue(availability.isFilterReady());
+    }
+
+    private double checks(String result) {
+        return meterRegistry.get("user.availability.checks").tag("result", result).counter().count();
+    }
+
+    private static User user(String username, String email) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(email);
+        return user;
+    }
+}
@@ -0,0 +1,98 @@
+package com.project.management.service;
+
+import com.project.management.Models.User;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserIndexesTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private IndexOperations indexOperations;
+
+    @InjectMocks
+    private UserIndexes userIndexes;
+
+    @BeforeEach
+    void setUp() {
+        when(mongoTemplate.indexOps(User.class)).thenReturn(indexOperations);
+        when(mongoTemplate.getCollectionName(User.class)).thenReturn("users");
+    }
+
+    @Test
+    void ensureIndexes_NoDuplicates_CreatesBoth() {
+        whenDuplicates(List.of(), List.of());
+
+        userIndexes.ensureIndexes();
+
+        assertEquals(List.of(User.USERNAME_INDEX, User.EMAIL_INDEX), createdIndexes());
+        verify(mongoTemplate, never()).updateMulti(any(Query.class), any(Update.class), eq(User.class));
+    }
+
+    @Test
+    void ensureIndexes_DuplicateEmails_SkipsEmailIndexWithoutChangingUsers() {
+        whenDuplicates(List.of(), List.of(duplicate("ada@example.com", 3)));
+
+        userIndexes.ensureIndexes();
+
+        assertEquals(List.of(User.USERNAME_INDEX), createdIndexes());
+        verify(mongoTemplate, never()).updateMulti(any(Query.class), any(Update.class), eq(User.class));
+    }
+
+    @Test
+    void ensureIndexes_DuplicateUsernames_SkipsUsernameIndex() {
+        whenDuplicates(List.of(duplicate("ada", 2)), List.of());
+
+        userIndexes.ensureIndexes();
+
+        assertEquals(List.of(User.EMAIL_INDEX), createdIndexes());
+    }
+
+    @Test
+    void ensureIndexes_Failure_IsLoggedNotThrown() {
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq("users"), eq(Document.class)))
+                .thenThrow(new IllegalStateException("no database"));
+
+        assertDoesNotThrow(userIndexes::ensureIndexes);
+        verify(indexOperations, never()).ensureIndex(any());
+    }
+
+    private void whenDuplicates(List<Document> usernames, List<Document> emails) {
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq("users"), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(usernames, new Document()),
+                        new AggregationResults<>(emails, new Document()));
+    }
+
+    private List<String> createdIndexes() {
+        ArgumentCaptor<IndexDefinition> indexes = ArgumentCaptor.forClass(IndexDefinition.class);
+        verify(indexOperations, atLeast(0)).ensureIndex(indexes.capture());
+        return indexes.getAllValues().stream().map(index -> index.getIndexOptions().getString("name")).toList();
+    }
+
+    private static Document duplicate(String value, int count) {
+        return new Document("_id", value).append("count", count);
+    }
+}
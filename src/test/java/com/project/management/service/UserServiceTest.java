@@ -1,5 +1,6 @@
 package com.project.management.service;
 
+import com.project.management.dto.BatchLookupResponseDTO;
 import com.project.management.dto.UserDTO;
 import com.project.management.dto.UserRegistrationDTO;
 import com.project.management.dto.UserWeeklyStatsDTO;
@@ -10,13 +11,14 @@ import com.project.management.exception.ResourceNotFoundException;
 import com.project.management.exception.UserAlreadyExistsException;
 import com.project.management.repository.TimesheetRepository;
 import com.project.management.repository.UserRepository;
+import com.project.management.security.PasswordHashing;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DuplicateKeyException;
 
 import jakarta.validation.ValidationException;
 import java.time.DayOfWeek;
@@ -35,11 +37,17 @@ class UserServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashing passwordHashing;
 
     @Mock
     private TimesheetRepository timesheetRepository;
 
+    @Mock
+    private DataVersions dataVersions;
+
+    @Mock
+    private UserAvailability userAvailability;
+
     @InjectMocks
     private UserService userService;
 
@@ -81,8 +89,8 @@ class UserServiceTest {
 
     @Test
     void createUser_Success() {
-        when(userRepository.findByUsername(anyString())).thenReturn(Optional.empty());
-        when(passwordEncoder.encode(anyString())).thenReturn("encoded-password");
+        when(userAvailability.check("newuser", "new@example.com")).thenReturn(UserAvailability.Result.AVAILABLE);
+        when(passwordHashing.encode(anyString())).thenReturn("encoded-password");
         when(userRepository.save(any(User.class))).thenReturn(testUser);
 
         UserDTO result = userService.createUser(registrationDTO);
@@ -91,15 +99,41 @@ class UserServiceTest {
         assertEquals("testuser", result.getUsername());
         assertEquals("test@example.com", result.getEmail());
         verify(userRepository).save(any(User.class));
+        verify(userAvailability).added("newuser", "new@example.com");
     }
 
     @Test
     void createUser_UsernameExists_ThrowsException() {
-        when(userRepository.findByUsername(anyString())).thenReturn(Optional.of(testUser));
+        when(userAvailability.check("newuser", "new@example.com")).thenReturn(UserAvailability.Result.USERNAME_TAKEN);
+
+        assertThrows(UserAlreadyExistsException.class, () ->
+                userService.createUser(registrationDTO)
+        );
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void createUser_EmailExists_ThrowsException() {
+        when(userAvailability.check("newuser", "new@example.com")).thenReturn(UserAvailability.Result.EMAIL_TAKEN);
+
+        Exception exception = assertThrows(UserAlreadyExistsException.class, () ->
+                userService.createUser(registrationDTO)
+        );
+        assertEquals("Email already exists", exception.getMessage());
+    }
+
+    @Test
+    void createUser_UniqueIndexViolation_ThrowsException() {
+        DuplicateKeyException duplicate = new DuplicateKeyException("E11000 index: " + User.USERNAME_INDEX);
+        when(userAvailability.check("newuser", "new@example.com")).thenReturn(UserAvailability.Result.AVAILABLE);
+        when(passwordHashing.encode(anyString())).thenReturn("encoded-password");
+        when(userRepository.save(any(User.class))).thenThrow(duplicate);
+        when(userAvailability.fromDuplicateKey(duplicate)).thenReturn(UserAvailability.Result.USERNAME_TAKEN);
 
         assertThrows(UserAlreadyExistsException.class, () ->
                 userService.createUser(registrationDTO)
         );
+        verify(userAvailability, never()).added(any(), any());
     }
 
     @Test
@@ -181,4 +215,19 @@ class UserServiceTest {
         assertEquals(16, stats.getTotalHours()); // 8 hours for Monday + 8 for Tuesday
         assertTrue(stats.getProjectHours().containsKey("project1"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getUsersByIds_ReturnsResultsInRequestOrder() {
+        User otherUser = new User();
+        otherUser.setId("other-id");
+        otherUser.setUsername("otheruser");
+        List<String> ids = List.of("other-id", "missing-id", "test-id");
+        when(userRepository.findAllById(ids)).thenReturn(List.of(testUser, otherUser));
+
+        BatchLookupResponseDTO<UserDTO> result = userService.getUsersByIds(ids);
+
+        assertEquals(List.of("other-id", "test-id"), new ArrayList<>(result.getResults().keySet()));
+        assertEquals("testuser", result.getResults().get("test-id").getUsername());
+        assertEquals(List.of("missing-id"), result.getMissingIds());
+    }
+}
@@ -0,0 +1,156 @@
+package com.project.management.warmup;
+
+import com.project.management.Models.Timesheet;
+import com.project.management.cache.ResponseBytesCache;
+import com.project.management.dto.DashboardMetricsDTO;
+import com.project.management.repository.TimesheetRepository;
+import com.project.management.repository.UserRepository;
+import com.project.management.security.JwtTokenProvider;
+import com.project.management.service.CustomUserDetailsService;
+import com.project.management.service.DataVersions;
+import com.project.management.service.MetricsService;
+import com.project.management.service.ProjectService;
+import com.project.management.service.TimesheetService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheWarmerTest {
+
+    @Mock
+    private ProjectService projectService;
+    @Mock
+    private MetricsService metricsService;
+    @Mock
+    private TimesheetService timesheetService;
+    @Mock
+    private TimesheetRepository timesheetRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private CustomUserDetailsService customUserDetailsService;
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+    @Mock
+    private ObjectProvider<ResponseBytesCache> responseBytesCacheProvider;
+    @Mock
+    private ResponseBytesCache responseBytesCache;
+    @Mock
+    private Environment environment;
+
+    private WarmupProperties properties;
+    private DataVersions dataVersions;
+    private MeterRegistry meterRegistry;
+    private CacheWarmer warmer;
+    private WarmupHealthIndicator healthIndicator;
+
+    @BeforeEach
+    void setUp() {
+        properties = new WarmupProperties();
+        properties.setMaxUsers(1);
+        dataVersions = new DataVersions();
+        // Keep the ETags off the clock, as they are while the invalidation bus is connected
+        dataVersions.sharedWhile(() -> true);
+        meterRegistry = new SimpleMeterRegistry();
+        warmer = new CacheWarmer(properties, projectService, metricsService, timesheetService, timesheetRepository,
+                userRepository, customUserDetailsService, jwtTokenProvider, dataVersions,
+                responseBytesCacheProvider, environment, meterRegistry);
+        healthIndicator = new WarmupHealthIndicator(warmer);
+    }
+
+    @Test
+    void run_PrimesResponsesStatsAndMostRecentUsers() {
+        DashboardMetricsDTO dashboard = new DashboardMetricsDTO();
+        LocalDate thisWeek = LocalDate.now();
+        when(responseBytesCacheProvider.getIfAvailable()).thenReturn(responseBytesCache);
+        when(projectService.getAllProjects()).thenReturn(List.of());
+        when(metricsService.getDashboardMetrics()).thenReturn(dashboard);
+        when(timesheetRepository.streamPlacementsByWeekStartDateAfter(any())).thenReturn(Stream.of(
+                timesheet("recent-user", "p2", thisWeek),
+                timesheet("older-user", "p1", thisWeek.minusWeeks(2))));
+
+        warmer.begin();
+        assertEquals(Status.OUT_OF_SERVICE, healthIndicator.health().getStatus());
+        warmer.run();
+
+        verify(responseBytesCache).put(ResponseBytesCache.PROJECTS, dataVersions.projectsETag(), List.of());
+        verify(responseBytesCache).put(ResponseBytesCache.DASHBOARD, dataVersions.dashboardETag(), dashboard);
+        verify(projectService).getProjectStats();
+        verify(customUserDetailsService).loadUserById("recent-user");
+        verify(timesheetService).getUserTimesheets(eq("recent-user"), any(), any());
+        verify(timesheetService, never()).getUserTimesheets(eq("older-user"), any(), any());
+        verify(timesheetService).getProjectTimesheets(eq("p1"), any(), any());
+        verify(timesheetService).getProjectTimesheets(eq("p2"), any(), any());
+        verifyNoInteractions(jwtTokenProvider);
+        assertEquals(CacheWarmer.State.COMPLETED, warmer.getState());
+        assertEquals(Status.UP, healthIndicator.health().getStatus());
+        assertEquals(1, meterRegistry.get("warmup.duration").tag("outcome", "completed").timer().count());
+    }
+
+    @Test
+    void run_StopsAtTimeoutAndReportsReady() {
+        properties.setTimeout(Duration.ofMillis(50));
+        when(responseBytesCacheProvider.getIfAvailable()).thenReturn(responseBytesCache);
+        when(projectService.getAllProjects()).thenAnswer(_ -> {
+            Thread.sleep(100);
+            return List.of();
+        });
+
+        warmer.begin();
+        warmer.run();
+
+        verify(projectService, never()).getProjectStats();
+        verifyNoInteractions(timesheetRepository);
+        assertEquals(CacheWarmer.State.TIMED_OUT, warmer.getState());
+        assertEquals(Status.UP, healthIndicator.health().getStatus());
+        assertEquals(1, meterRegistry.get("warmup.duration").tag("outcome", "timed_out").timer().count());
+    }
+
+    @Test
+    void run_FailedStepIsSkipped() {
+        when(responseBytesCacheProvider.getIfAvailable()).thenReturn(responseBytesCache);
+        when(projectService.getAllProjects()).thenThrow(new IllegalStateException("no database"));
+        when(timesheetRepository.streamPlacementsByWeekStartDateAfter(any())).thenReturn(Stream.empty());
+
+        warmer.begin();
+        warmer.run();
+
+        verify(projectService).getProjectStats();
+        assertEquals(CacheWarmer.State.COMPLETED, warmer.getState());
+    }
+
+    @Test
+    void disabled_ReadyWithoutWarming() {
+        properties.setEnabled(false);
+
+        warmer.onApplicationReady();
+
+        assertEquals(Status.UP, healthIndicator.health().getStatus());
+        verifyNoInteractions(projectService, timesheetRepository);
+    }
+
+    private static Timesheet timesheet(String userId, String projectId, LocalDate weekStartDate) {
+        Timesheet timesheet = new Timesheet();
+        timesheet.setUserId(userId);
+        timesheet.setProjectId(projectId);
+        timesheet.setWeekStartDate(weekStartDate);
+        return timesheet;
+    }
+}